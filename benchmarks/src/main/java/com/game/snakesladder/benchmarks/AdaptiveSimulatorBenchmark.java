@@ -0,0 +1,63 @@
+package com.game.snakesladder.benchmarks;
+
+import com.game.snakesladder.engine.AdaptiveResult;
+import com.game.snakesladder.engine.AdaptiveSimulator;
+import com.game.snakesladder.engine.AdaptiveSimulator.Metric;
+import com.game.snakesladder.model.Board;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Wall time for AdaptiveSimulator to pin one metric down on a 10x10 medium board (4 players), with and without
+// variance reduction. Each invocation is a full run from a new seed; teardown prints the games it took and the
+// per-metric speedup, which is what the variance options trade against the extra games per replicate.
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class AdaptiveSimulatorBenchmark {
+    @Param({"MEAN_TURNS", "SEAT_ONE_WIN_RATE"})
+    public Metric metric;
+
+    @Param({"plain", "crn", "antithetic", "both"})
+    public String variance;
+
+    private Board board;
+    private long seed = Boards.SEED;
+    private AdaptiveResult last;
+
+    @Setup
+    public void setUp() {
+        board = Boards.create(10, "medium");
+    }
+
+    @Benchmark
+    public AdaptiveResult converge() {
+        last = new AdaptiveSimulator(board, 4, seed++)
+                .withTarget(metric, metric == Metric.MEAN_TURNS ? 0.25 : 0.0025)
+                .withCommonRandomNumbers(variance.equals("crn") || variance.equals("both"))
+                .withAntithetic(variance.equals("antithetic") || variance.equals("both"))
+                .run();
+        return last;
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        System.out.printf("%n%s/%s: %,d games (plain estimate %,d), speedup x%.2f%n", metric, variance,
+                last.getGames(), last.getPlainGamesEstimate(), last.getSpeedup(metric));
+    }
+}
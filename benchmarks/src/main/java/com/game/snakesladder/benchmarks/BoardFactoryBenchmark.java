@@ -0,0 +1,45 @@
+package com.game.snakesladder.benchmarks;
+
+import com.game.snakesladder.factory.BoardFactory;
+import com.game.snakesladder.model.Board;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Board generation latency per difficulty strategy
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardFactoryBenchmark {
+    @Param({"easy", "medium", "hard"})
+    public String difficulty;
+
+    @Param({"7", "10", "25", "50"})
+    public int boardSize;
+
+    private BoardFactory factory;
+    private long seed;
+
+    @Setup
+    public void setUp() {
+        factory = new BoardFactory(Boards.strategy(difficulty, Boards.SEED));
+    }
+
+    @Benchmark
+    public Board create() {
+        return factory.create(boardSize, seed++);
+    }
+}
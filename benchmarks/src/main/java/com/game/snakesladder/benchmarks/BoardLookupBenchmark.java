@@ -0,0 +1,53 @@
+package com.game.snakesladder.benchmarks;
+
+import com.game.snakesladder.model.Board;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Landing lookup: flat jump table against the Optional-returning map lookups
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardLookupBenchmark {
+    @Param({"7", "10", "25", "50"})
+    public int boardSize;
+
+    private Board board;
+    private int cell;
+
+    @Setup
+    public void setUp() {
+        board = Boards.create(boardSize, "hard");
+    }
+
+    private int nextCell() {
+        cell = cell == board.getLastIndex() ? 0 : cell + 1;
+        return cell;
+    }
+
+    @Benchmark
+    public int jumpTarget() {
+        return board.jumpTarget(nextCell());
+    }
+
+    @Benchmark
+    public int snakeOrLadderLookup() {
+        int i = nextCell();
+        return board.getSnakeAt(i).map(s -> s.getTail())
+                .orElseGet(() -> board.getLadderAt(i).map(l -> l.getEnd()).orElse(i));
+    }
+}
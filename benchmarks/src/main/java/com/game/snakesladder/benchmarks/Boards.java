@@ -0,0 +1,33 @@
+package com.game.snakesladder.benchmarks;
+
+import com.game.snakesladder.difficulty.DifficultyStrategy;
+import com.game.snakesladder.difficulty.EasyStrategy;
+import com.game.snakesladder.difficulty.HardStrategy;
+import com.game.snakesladder.difficulty.MediumStrategy;
+import com.game.snakesladder.factory.BoardFactory;
+import com.game.snakesladder.model.Board;
+
+// Shared fixtures: fixed seeds so every run measures the same layouts
+final class Boards {
+    static final long SEED = 42L;
+
+    private Boards() {
+    }
+
+    static DifficultyStrategy strategy(String difficulty, long seed) {
+        switch (difficulty) {
+            case "easy":
+                return new EasyStrategy(seed);
+            case "medium":
+                return new MediumStrategy(seed);
+            case "hard":
+                return new HardStrategy(seed);
+            default:
+                throw new IllegalArgumentException("Unknown difficulty " + difficulty);
+        }
+    }
+
+    static Board create(int size, String difficulty) {
+        return new BoardFactory(strategy(difficulty, SEED)).create(size, SEED);
+    }
+}
@@ -0,0 +1,78 @@
+package com.game.snakesladder.benchmarks;
+
+import com.game.snakesladder.engine.GameEventListener;
+import com.game.snakesladder.events.EventRing;
+import com.game.snakesladder.events.WaitStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// End-to-end events per second through EventRing: the benchmark thread publishes a batch of turn events and
+// waits until every consumer has handled them. Consumers fold each event into a checksum, standing in for
+// renderer, logger and stats threads.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventRingBenchmark {
+    private static final int BATCH = 4096;
+
+    @Param({"BUSY_SPIN", "YIELD", "PARK"})
+    public WaitStrategy waitStrategy;
+
+    @Param({"1", "3"})
+    public int consumers;
+
+    @Param({"65536"})
+    public int capacity;
+
+    private EventRing ring;
+    private final int[] rolls = {6, 3, 0};
+
+    @Setup
+    public void setUp() {
+        ring = new EventRing(capacity, waitStrategy);
+        for (int i = 0; i < consumers; i++) {
+            ring.addConsumer("consumer-" + i, new Checksum());
+        }
+        ring.start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        ring.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long publishAndDrain() {
+        for (int i = 0; i < BATCH; i++) {
+            ring.onTurn(i & 3, i & 63, rolls, 2, (i & 63) + 9);
+        }
+        ring.awaitConsumers();
+        return ring.getPublished();
+    }
+
+    private static final class Checksum implements GameEventListener {
+        private long sum;
+
+        @Override
+        public void onTurn(int seat, int startPosition, int[] rolls, int rollCount, int outcome) {
+            sum += seat + startPosition + rolls[rollCount - 1] + outcome;
+        }
+    }
+}
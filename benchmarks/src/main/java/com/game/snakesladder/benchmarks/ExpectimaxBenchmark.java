@@ -0,0 +1,56 @@
+package com.game.snakesladder.benchmarks;
+
+import com.game.snakesladder.dice.StandardDie;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.variant.ExpectimaxPlayer;
+import com.game.snakesladder.variant.MultiTokenGame;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Bot decision latency in a two-player, two-token game part-way through; should stay near the budget
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExpectimaxBenchmark {
+    @Param({"10", "50"})
+    public int boardSize;
+
+    @Param({"2"})
+    public int budgetMillis;
+
+    private final int[] rolls = {3};
+    private MultiTokenGame game;
+    private ExpectimaxPlayer bot;
+
+    @Setup
+    public void setUp() {
+        Board board = Boards.create(boardSize, "hard");
+        game = new MultiTokenGame(board, 2, 2);
+        StandardDie die = new StandardDie(6, Boards.SEED);
+        // Spread the tokens out so both choices are live, then hand the turn to seat 0
+        for (int turn = 0; turn < 8; turn++) {
+            int[] r = {1 + die.roll() % 5};
+            game.playTurn(turn / 2 % 2, r, 1);
+        }
+        bot = new ExpectimaxPlayer(board, 0, 2, 2, TimeUnit.MILLISECONDS.toNanos(budgetMillis));
+    }
+
+    @Benchmark
+    public int chooseToken() {
+        return bot.chooseToken(game, rolls, 1);
+    }
+}
@@ -0,0 +1,47 @@
+package com.game.snakesladder.benchmarks;
+
+import com.game.snakesladder.dice.StandardDie;
+import com.game.snakesladder.engine.BatchSimulator;
+import com.game.snakesladder.engine.SimulationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Full headless games per second
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameThroughputBenchmark {
+    @Param({"7", "10", "25", "50"})
+    public int boardSize;
+
+    @Param({"2", "4"})
+    public int players;
+
+    private BatchSimulator simulator;
+    private SimulationResult result;
+
+    @Setup
+    public void setUp() {
+        simulator = new BatchSimulator(Boards.create(boardSize, "medium"), players, new StandardDie(6, Boards.SEED));
+        result = new SimulationResult(players);
+    }
+
+    @Benchmark
+    public int playGame() {
+        return simulator.playGame(result);
+    }
+}
@@ -0,0 +1,69 @@
+package com.game.snakesladder.benchmarks;
+
+import com.game.snakesladder.dice.StandardDie;
+import com.game.snakesladder.engine.BatchSimulator;
+import com.game.snakesladder.engine.LockstepKernel;
+import com.game.snakesladder.engine.LockstepSimulator;
+import com.game.snakesladder.engine.SimulationResult;
+import com.game.snakesladder.model.Board;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Games per second on the same board and die seed: engine=batch is BatchSimulator, scalar and vector are
+// LockstepSimulator with the scalar and the Vector API kernel. The vector kernel only exists when the root
+// project was installed with -Pvector; otherwise engine=vector falls back to scalar (see the line printed at setup).
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Thread)
+public class LockstepBenchmark {
+    private static final int GAMES = 4096;
+
+    @Param({"10", "50"})
+    public int boardSize;
+
+    @Param({"2", "4"})
+    public int players;
+
+    @Param({"batch", "scalar", "vector"})
+    public String engine;
+
+    @Param({"256"})
+    public int lanes;
+
+    private BatchSimulator batch;
+    private LockstepSimulator lockstep;
+
+    @Setup
+    public void setUp() {
+        Board board = Boards.create(boardSize, "medium");
+        StandardDie die = new StandardDie(6, Boards.SEED);
+        if (engine.equals("batch")) {
+            batch = new BatchSimulator(board, players, die);
+            return;
+        }
+        LockstepKernel kernel = engine.equals("vector") ? LockstepKernel.best(board) : LockstepKernel.scalar(board);
+        System.out.println("kernel: " + kernel.getClass().getSimpleName() + ", width " + kernel.width());
+        lockstep = new LockstepSimulator(board, players, die, kernel, lanes);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public SimulationResult play() {
+        return batch != null ? batch.run(GAMES) : lockstep.run(GAMES);
+    }
+}
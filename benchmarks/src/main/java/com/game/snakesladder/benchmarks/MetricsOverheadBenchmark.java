@@ -0,0 +1,51 @@
+package com.game.snakesladder.benchmarks;
+
+import com.game.snakesladder.dice.StandardDie;
+import com.game.snakesladder.engine.BatchSimulator;
+import com.game.snakesladder.engine.SimulationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Simulation throughput with metrics off (the default) and on; Metrics.ENABLED is fixed per JVM, hence
+// one fork per flag. See BASELINE.md for the measured gap (about 2-13% at 10x10).
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class MetricsOverheadBenchmark {
+    @Param({"10", "50"})
+    public int boardSize;
+
+    private BatchSimulator simulator;
+    private SimulationResult result;
+
+    @Setup
+    public void setUp() {
+        simulator = new BatchSimulator(Boards.create(boardSize, "medium"), 4, new StandardDie(6, Boards.SEED));
+        result = new SimulationResult(4);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dsnakesladder.metrics=false")
+    public int metricsOff() {
+        return simulator.playGame(result);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dsnakesladder.metrics=true")
+    public int metricsOn() {
+        return simulator.playGame(result);
+    }
+}
@@ -0,0 +1,99 @@
+package com.game.snakesladder.benchmarks;
+
+import com.game.snakesladder.dice.StandardDie;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.server.GameSession;
+import com.game.snakesladder.state.OffHeapGameStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Latency distribution of one roll in a random game out of a million live ones: GameSession objects on the heap
+// against OffHeapGameStore slots. Finished games are replaced so the population stays constant. Setup prints the
+// heap retained by the population; run with -prof gc to compare allocation and GC counts.
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+@State(Scope.Thread)
+public class OffHeapStoreBenchmark {
+    private static final int ROLL_BUFFER_SIZE = 1 << 16;
+
+    @Param({"1000000"})
+    public int games;
+
+    @Param({"heap", "offheap"})
+    public String storage;
+
+    private Board board;
+    private GameSession[] sessions;
+    private OffHeapGameStore store;
+    private int boardId;
+    private int[] handles;
+    private final int[] rolls = new int[ROLL_BUFFER_SIZE];
+    private int cursor;
+    private final SplittableRandom random = new SplittableRandom(Boards.SEED);
+    private final StandardDie die = new StandardDie(6, Boards.SEED);
+
+    @Setup
+    public void setUp() {
+        board = Boards.create(10, "medium");
+        die.rollInto(rolls, 0, ROLL_BUFFER_SIZE);
+        long before = usedHeap();
+        if (storage.equals("heap")) {
+            sessions = new GameSession[games];
+            for (int i = 0; i < games; i++) {
+                sessions[i] = new GameSession(i, board, 4, die);
+            }
+        } else {
+            store = new OffHeapGameStore(4);
+            boardId = store.registerBoard(board);
+            handles = new int[games];
+            for (int i = 0; i < games; i++) {
+                handles[i] = store.create(boardId, 4);
+            }
+        }
+        System.out.printf("%n%s: %,d games retain %,d heap bytes%s%n", storage, games, usedHeap() - before,
+                store == null ? "" : String.format(" (+%,d off-heap)", store.getOffHeapBytes()));
+    }
+
+    @Benchmark
+    public int roll() {
+        int i = random.nextInt(games);
+        if (sessions != null) {
+            GameSession session = sessions[i];
+            int position = session.roll(session.getCurrentSeat()).position;
+            if (session.isFinished()) {
+                sessions[i] = new GameSession(i, board, 4, die);
+            }
+            return position;
+        }
+        int game = handles[i];
+        int outcome = store.roll(game, rolls[cursor++ & (ROLL_BUFFER_SIZE - 1)]);
+        if (store.isFinished(game)) {
+            store.release(game);
+            handles[i] = store.create(boardId, 4);
+        }
+        return outcome;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
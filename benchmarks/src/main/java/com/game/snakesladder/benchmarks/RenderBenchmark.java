@@ -0,0 +1,74 @@
+package com.game.snakesladder.benchmarks;
+
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.model.Player;
+import com.game.snakesladder.render.ConsoleBoardRenderer;
+import com.game.snakesladder.render.IncrementalConsoleBoardRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Time (and, with -prof gc, allocation) per rendered frame; output goes to a discarding stream
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RenderBenchmark {
+    @Param({"7", "10", "25", "50"})
+    public int boardSize;
+
+    private final ConsoleBoardRenderer renderer = new ConsoleBoardRenderer();
+    private final IncrementalConsoleBoardRenderer incremental = new IncrementalConsoleBoardRenderer(Writer.nullWriter());
+    private Board board;
+    private List<Player> players;
+    private PrintStream originalOut;
+
+    @Setup
+    public void setUp() {
+        board = Boards.create(boardSize, "medium");
+        players = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Player p = new Player("P" + (i + 1));
+            p.setPosition(i * board.getLastIndex() / 4);
+            players.add(p);
+        }
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public void render() {
+        renderer.render(board, players);
+    }
+
+    // One token moves one cell per frame, as in play: only the changed cells are emitted
+    @Benchmark
+    public void renderIncremental() {
+        Player p = players.get(0);
+        p.setPosition(p.getPosition() == board.getLastIndex() ? 0 : p.getPosition() + 1);
+        incremental.render(board, players);
+    }
+}
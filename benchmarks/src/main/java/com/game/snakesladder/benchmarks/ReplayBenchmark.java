@@ -0,0 +1,67 @@
+package com.game.snakesladder.benchmarks;
+
+import com.game.snakesladder.dice.StandardDie;
+import com.game.snakesladder.engine.BatchSimulator;
+import com.game.snakesladder.engine.SimulationResult;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.replay.ReplayWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+// Headless games per second with every event appended to a replay log; compare with GameThroughputBenchmark
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ReplayBenchmark {
+    @Param({"10", "50"})
+    public int boardSize;
+
+    @Param({"4"})
+    public int players;
+
+    private Path file;
+    private ReplayWriter writer;
+    private BatchSimulator simulator;
+    private SimulationResult result;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        Board board = Boards.create(boardSize, "medium");
+        file = Files.createTempFile("replay", ".bin");
+        writer = new ReplayWriter(file, board, OptionalLong.of(Boards.SEED));
+        simulator = new BatchSimulator(board, players, new StandardDie(6, Boards.SEED));
+        simulator.setListener(writer);
+        result = new SimulationResult(players);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        writer.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public int playGameLogged() {
+        return simulator.playGame(result);
+    }
+}
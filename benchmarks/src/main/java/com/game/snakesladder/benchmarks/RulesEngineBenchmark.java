@@ -0,0 +1,78 @@
+package com.game.snakesladder.benchmarks;
+
+import com.game.snakesladder.dice.StandardDie;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.rules.RulesEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// Turn resolution over a precomputed stream of (start, roll sequence) pairs
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RulesEngineBenchmark {
+    private static final int TURNS = 1024;
+
+    @Param({"7", "10", "25", "50"})
+    public int boardSize;
+
+    private RulesEngine rulesEngine;
+    private RulesEngine tableEngine;
+    private int[] starts;
+    private int[][] rolls;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Board board = Boards.create(boardSize, "medium");
+        rulesEngine = new RulesEngine(board);
+        tableEngine = RulesEngine.withTurnTable(board);
+        StandardDie die = new StandardDie(6, Boards.SEED);
+        starts = new int[TURNS];
+        rolls = new int[TURNS][];
+        for (int i = 0; i < TURNS; i++) {
+            starts[i] = (int) ((long) board.getLastIndex() * i / TURNS);
+            int[] seq = new int[3];
+            int n = 0;
+            int r;
+            do {
+                r = die.roll();
+                seq[n++] = r;
+            } while (r == 6 && n < 3);
+            rolls[i] = Arrays.copyOf(seq, n);
+        }
+    }
+
+    @Benchmark
+    public int resolveTurn() {
+        int i = cursor++ & (TURNS - 1);
+        return rulesEngine.resolveTurn(starts[i], rolls[i], rolls[i].length);
+    }
+
+    @Benchmark
+    public int resolveTurnTable() {
+        int i = cursor++ & (TURNS - 1);
+        return tableEngine.resolveTurn(starts[i], rolls[i], rolls[i].length);
+    }
+
+    @Benchmark
+    public String applyTurnWithMessage() {
+        int i = cursor++ & (TURNS - 1);
+        return rulesEngine.applyTurn(starts[i], rolls[i]).getMessage();
+    }
+}
@@ -0,0 +1,93 @@
+package com.game.snakesladder.benchmarks;
+
+import com.game.snakesladder.dice.StandardDie;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.server.GameSession;
+import com.game.snakesladder.snapshot.GameSnapshot;
+import com.game.snakesladder.snapshot.SnapshotReader;
+import com.game.snakesladder.snapshot.SnapshotWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Time to snapshot and to restore a host's worth of sessions (failover budget is one second)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SnapshotBenchmark {
+    @Param({"1000", "100000"})
+    public int sessions;
+
+    private GameSession[] live;
+    private Path restoreFile;
+    private Path writeFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        Board[] boards = new Board[16];
+        for (int i = 0; i < boards.length; i++) {
+            boards[i] = Boards.create(10, "medium");
+        }
+        live = new GameSession[sessions];
+        for (int i = 0; i < sessions; i++) {
+            live[i] = new GameSession(i + 1, boards[i % boards.length], 2 + i % 3, new StandardDie(6, i));
+            for (int r = 0; r < 8 && !live[i].isFinished(); r++) {
+                live[i].roll(live[i].getCurrentSeat());
+            }
+        }
+        restoreFile = Files.createTempFile("restore", ".snap");
+        writeFile = Files.createTempFile("write", ".snap");
+        snapshotAll(restoreFile);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(restoreFile);
+        Files.deleteIfExists(writeFile);
+    }
+
+    @Benchmark
+    public long snapshot() throws IOException {
+        return snapshotAll(writeFile);
+    }
+
+    @Benchmark
+    public int restore() throws IOException {
+        SplittableRandom seeds = new SplittableRandom(Boards.SEED);
+        int restored = 0;
+        try (SnapshotReader reader = new SnapshotReader(restoreFile)) {
+            GameSnapshot s;
+            while ((s = reader.next()) != null) {
+                restored += GameSession.restore(s, new StandardDie(6, seeds.split())).getPlayerCount();
+            }
+        }
+        return restored;
+    }
+
+    private long snapshotAll(Path file) throws IOException {
+        try (SnapshotWriter writer = new SnapshotWriter(file)) {
+            for (GameSession session : live) {
+                writer.write(session.snapshot());
+            }
+            return writer.getCount();
+        }
+    }
+}
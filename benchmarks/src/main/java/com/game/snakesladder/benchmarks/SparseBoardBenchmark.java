@@ -0,0 +1,56 @@
+package com.game.snakesladder.benchmarks;
+
+import com.game.snakesladder.factory.BoardFactory;
+import com.game.snakesladder.model.SparseBoard;
+import com.game.snakesladder.rules.SparseRulesEngine;
+import com.game.snakesladder.rules.TurnOutcome;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// SparseBoard lookups and turn resolution from the 50x50 size dense boards top out at, up to 100,000 x 100,000
+// (10^10 cells; the hard layout there has about 183k snakes and ladders). Cells are random, so the large sizes
+// measure the Eytzinger search with cold caches.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SparseBoardBenchmark {
+    @Param({"50", "1000", "100000"})
+    public int boardSize;
+
+    private SparseBoard board;
+    private SparseRulesEngine rules;
+    private final SplittableRandom random = new SplittableRandom(Boards.SEED);
+    private final int[] rolls = new int[1];
+
+    @Setup
+    public void setUp() {
+        board = new BoardFactory(Boards.strategy("hard", Boards.SEED)).createSparse(boardSize, Boards.SEED);
+        rules = new SparseRulesEngine(board);
+    }
+
+    @Benchmark
+    public long jumpTarget() {
+        return board.jumpTarget(random.nextLong(board.getLastIndex() + 1));
+    }
+
+    @Benchmark
+    public long resolveTurn() {
+        rolls[0] = 1 + random.nextInt(5);
+        return TurnOutcome.position(rules.resolveTurn(random.nextLong(board.getLastIndex()), rolls, 1));
+    }
+}
@@ -0,0 +1,76 @@
+package com.game.snakesladder.benchmarks;
+
+import com.game.snakesladder.analytics.GameLengthSolver;
+import com.game.snakesladder.analytics.GameLengthStats;
+import com.game.snakesladder.difficulty.MediumStrategy;
+import com.game.snakesladder.difficulty.TargetLengthStrategy;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.model.BoardLayout;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// TargetLengthStrategy cost: search is a fixed 25-step run (candidates scored by warm-started sweeps, then one exact
+// solve of the result); exactSolve is a fresh solver and solveMoments() on the same kind of layout, the per-candidate
+// cost before the sweeps. Teardown prints candidates scored per second.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TargetLengthBenchmark {
+    private static final int SEARCH_STEPS = 25;
+
+    @Param({"10", "20", "50"})
+    public int boardSize;
+
+    private Board board;
+    private long seed = Boards.SEED;
+    private long evaluations;
+    private long searchNanos;
+
+    @Setup
+    public void setUp() {
+        board = Boards.create(boardSize, "medium");
+    }
+
+    @Benchmark
+    public GameLengthStats exactSolve() {
+        return new GameLengthSolver(board).solveMoments();
+    }
+
+    @Benchmark
+    public BoardLayout search() {
+        long start = System.nanoTime();
+        TargetLengthStrategy strategy = new TargetLengthStrategy(boardSize * boardSize / 3.0, Double.NaN,
+                new MediumStrategy(seed), new SplittableRandom(seed++))
+                .withMaxSteps(SEARCH_STEPS)
+                .withTolerance(0.0);
+        BoardLayout layout = strategy.generateLayout(boardSize, boardSize * boardSize - 1);
+        searchNanos += System.nanoTime() - start;
+        evaluations += strategy.getLastEvaluations();
+        return layout;
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        if (evaluations > 0) {
+            System.out.printf("%n%dx%d search: %,.0f candidates/s%n", boardSize, boardSize,
+                    evaluations / (searchNanos / 1e9));
+        }
+    }
+}
@@ -8,19 +8,45 @@ import com.game.snakesladder.difficulty.MediumStrategy;
 import com.game.snakesladder.difficulty.HardStrategy;
 import com.game.snakesladder.engine.GameEngine;
 import com.game.snakesladder.factory.BoardFactory;
+import com.game.snakesladder.metrics.Metrics;
+import com.game.snakesladder.metrics.MetricsExporter;
 import com.game.snakesladder.model.Board;
 import com.game.snakesladder.model.Player;
+import com.game.snakesladder.render.BoardRenderer;
 import com.game.snakesladder.render.ConsoleBoardRenderer;
+import com.game.snakesladder.render.IncrementalConsoleBoardRenderer;
 
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 public class Main {
     public static void main(String[] args) {
         Scanner scanner = new Scanner(System.in);
         System.out.println("Snakes & Ladders (Java CLI)\n");
+        // Optional first argument replays a game: the same seed and inputs give the same board and rolls
+        long seed = args.length > 0 ? Long.parseLong(args[0].trim()) : new SplittableRandom().nextLong();
+        SplittableRandom seeds = new SplittableRandom(seed);
+        long boardSeed = seeds.nextLong();
+        long dieSeed = seeds.nextLong();
+        // -Dsnakesladder.metrics=true -Dsnakesladder.metrics.file=game.prom writes Prometheus text every 10s
+        String metricsFile = System.getProperty("snakesladder.metrics.file");
+        MetricsExporter exporter = Metrics.ENABLED && metricsFile != null
+                ? new MetricsExporter(Metrics.REGISTRY, Paths.get(metricsFile), 10, TimeUnit.SECONDS)
+                : null;
 
-        int size = readInt(scanner, "Enter board size N (e.g., 7 for N x N): ", 2, 50);
-        DifficultyStrategy difficulty = readDifficulty(scanner);
+        // Small boards cannot hold every difficulty's snakes and ladders; ask again instead of failing
+        Board board = null;
+        while (board == null) {
+            int size = readInt(scanner, "Enter board size N (e.g., 7 for N x N): ", 2, 50);
+            DifficultyStrategy difficulty = readDifficulty(scanner);
+            try {
+                board = new BoardFactory(difficulty).create(size, boardSeed);
+            } catch (IllegalArgumentException ex) {
+                System.out.println(ex.getMessage() + ". Try a larger board or an easier difficulty.");
+            }
+        }
+        int size = board.getSize();
         int numPlayers = readInt(scanner, "Enter number of players (>=2): ", 2, 6);
         List<Player> players = new ArrayList<>();
         for (int i = 1; i <= numPlayers; i++) {
@@ -32,16 +58,25 @@ public class Main {
             players.add(new Player(name));
         }
 
-        BoardFactory boardFactory = new BoardFactory(difficulty);
-        Board board = boardFactory.create(size);
-        Die die = new StandardDie(6);
-        GameEngine engine = new GameEngine(board, players, die, new ConsoleBoardRenderer());
+        Die die = new StandardDie(6, dieSeed);
+        // ANSI terminals get the incremental renderer; a full redraw per frame floods them on large boards. It
+        // measures the terminal itself and redraws in full when the board does not fit.
+        boolean ansi = System.console() != null && System.getenv("TERM") != null && !"dumb".equals(System.getenv("TERM"));
+        IncrementalConsoleBoardRenderer incremental = ansi ? new IncrementalConsoleBoardRenderer() : null;
+        BoardRenderer renderer = ansi ? incremental : new ConsoleBoardRenderer();
+        GameEngine engine = new GameEngine(board, players, die, renderer, seed);
 
         System.out.println("\nBoard ready: " + size + "x" + size);
         System.out.println("Last cell index: " + board.getLastIndex());
         System.out.println("Starting game. Good luck!\n");
 
         engine.playInteractive(scanner);
+        if (incremental != null) {
+            incremental.reset();
+        }
+        if (exporter != null) {
+            exporter.close();
+        }
     }
 
     private static int readInt(Scanner scanner, String prompt, int min, int max) {
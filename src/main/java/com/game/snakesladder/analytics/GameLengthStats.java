@@ -0,0 +1,107 @@
+package com.game.snakesladder.analytics;
+
+public class GameLengthStats {
+    private static final double TAIL_CUTOFF = 1e-12;
+    private static final int MAX_TAIL_TURNS = 10_000_000;
+
+    private final double[] finishAt; // finishAt[t - 1] = P(single player finishes on turn t)
+    private final double expectedTurns;
+    private final double variance;
+    private final double unresolvedMass;
+    // Finishes after the horizon: tailMass in total, geometric with ratio tailRate per turn (0 mass: no tail)
+    private final double tailMass;
+    private final double tailRate;
+
+    GameLengthStats(double[] finishAt, double expectedTurns, double variance, double unresolvedMass) {
+        this.finishAt = finishAt;
+        this.expectedTurns = expectedTurns;
+        this.variance = variance;
+        this.unresolvedMass = unresolvedMass;
+        this.tailMass = 0.0;
+        this.tailRate = 0.0;
+    }
+
+    GameLengthStats(double[] finishAt, double expectedTurns, double variance, double tailMass, double tailRate) {
+        this.finishAt = finishAt;
+        this.expectedTurns = expectedTurns;
+        this.variance = variance;
+        this.unresolvedMass = 0.0;
+        this.tailMass = tailMass;
+        this.tailRate = tailRate;
+    }
+
+    public double getExpectedTurns() {
+        return expectedTurns;
+    }
+
+    // Largest turn number propagated exactly (0 when only moments were solved); later turns come from the tail
+    public int getHorizon() {
+        return finishAt.length;
+    }
+
+    public double finishProbability(int turn) {
+        if (turn < 1) return 0.0;
+        if (turn <= finishAt.length) return finishAt[turn - 1];
+        return tailMass * (1.0 - tailRate) * Math.pow(tailRate, turn - finishAt.length - 1);
+    }
+
+    public double finishedBy(int turn) {
+        double sum = 0.0;
+        for (int t = 0; t < Math.min(turn, finishAt.length); t++) sum += finishAt[t];
+        if (turn > finishAt.length) sum += tailMass * (1.0 - Math.pow(tailRate, turn - finishAt.length));
+        return sum;
+    }
+
+    public double getVariance() {
+        return variance;
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(variance);
+    }
+
+    // Smallest turn count by which the given fraction of games has finished
+    public int percentile(double fraction) {
+        double sum = 0.0;
+        for (int t = 0; t < finishAt.length; t++) {
+            sum += finishAt[t];
+            if (sum >= fraction) return t + 1;
+        }
+        double needed = fraction - sum;
+        if (tailMass <= 0.0 || needed >= tailMass) return finishAt.length; // beyond what the distribution covers
+        if (tailRate == 0.0) return finishAt.length + 1;
+        // Smallest k with tailMass * (1 - rate^k) >= needed
+        double k = Math.ceil(Math.log(1.0 - needed / tailMass) / Math.log(tailRate));
+        return (int) Math.min(Integer.MAX_VALUE, finishAt.length + Math.max(1.0, k));
+    }
+
+    // Probability mass not yet finished when the solver stopped and not covered by a tail
+    public double getUnresolvedMass() {
+        return unresolvedMass;
+    }
+
+    // Probability of finishing after the horizon, spread over the geometric tail
+    public double getTailMass() {
+        return tailMass;
+    }
+
+    // Win chance per seat if players move independently (kills are not modelled); seat 0 moves first
+    public double[] seatWinProbabilities(int players) {
+        if (players < 1) {
+            throw new IllegalArgumentException("At least one player required");
+        }
+        double[] wins = new double[players];
+        double survivedPrev = 1.0; // P(T > t - 1)
+        // Walks the tail turn by turn too, until the chance that nobody has finished is negligible
+        for (int t = 0; t < finishAt.length || (t - finishAt.length < MAX_TAIL_TURNS && survivedPrev > TAIL_CUTOFF
+                && tailMass > 0.0); t++) {
+            double finish = finishProbability(t + 1);
+            double survived = Math.max(0.0, survivedPrev - finish); // P(T > t)
+            for (int seat = 0; seat < players; seat++) {
+                wins[seat] += finish * Math.pow(survived, seat) * Math.pow(survivedPrev, players - 1 - seat);
+            }
+            survivedPrev = survived;
+        }
+        return wins;
+    }
+}
@@ -0,0 +1,48 @@
+package com.game.snakesladder.analytics;
+
+// Streaming mean and variance (Welford): one pass, O(1) memory, no catastrophic cancellation on long runs
+public class RunningStats {
+    private long count;
+    private double mean;
+    private double m2; // sum of squared deviations from the running mean
+
+    public void add(double x) {
+        count++;
+        double delta = x - mean;
+        mean += delta / count;
+        m2 += delta * (x - mean);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return count == 0 ? Double.NaN : mean;
+    }
+
+    // Sample variance (n - 1 denominator)
+    public double getVariance() {
+        return count < 2 ? Double.NaN : m2 / (count - 1);
+    }
+
+    public double getStandardError() {
+        return Math.sqrt(getVariance() / count);
+    }
+
+    // Half-width of the normal-approximation confidence interval mean +- z * standard error
+    public double halfWidth(double z) {
+        return z * getStandardError();
+    }
+
+    // Two-sided standard normal quantile for a confidence level, e.g. 0.95 -> 1.96 (Abramowitz-Stegun 26.2.23,
+    // absolute error below 4.5e-4)
+    public static double zFor(double confidence) {
+        if (!(confidence > 0.0 && confidence < 1.0)) {
+            throw new IllegalArgumentException("Confidence must be in (0, 1): " + confidence);
+        }
+        double p = (1.0 - confidence) / 2.0;
+        double t = Math.sqrt(-2.0 * Math.log(p));
+        return t - (2.515517 + t * (0.802853 + t * 0.010328)) / (1.0 + t * (1.432788 + t * (0.189269 + t * 0.001308)));
+    }
+}
@@ -2,7 +2,12 @@ package com.game.snakesladder.dice;
 
 public interface Die {
     int roll();
-}
-
-
 
+    // Fills buf[off, off + len) with the next len rolls, exactly the values len calls to roll() would return, so
+    // bulk and single rolls can be mixed without changing a seeded sequence. Override only to amortize the cost.
+    default void rollInto(int[] buf, int off, int len) {
+        for (int i = off, end = off + len; i < end; i++) {
+            buf[i] = roll();
+        }
+    }
+}
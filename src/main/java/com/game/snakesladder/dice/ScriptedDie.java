@@ -0,0 +1,49 @@
+package com.game.snakesladder.dice;
+
+import java.util.Arrays;
+
+// Replays a fixed roll sequence, wrapping around at the end; for deterministic tests and replays
+public class ScriptedDie implements Die {
+    private final int[] script;
+    private int next;
+
+    public ScriptedDie(int... script) {
+        if (script == null || script.length == 0) {
+            throw new IllegalArgumentException("Script must contain at least one roll");
+        }
+        for (int r : script) {
+            if (r < 1) {
+                throw new IllegalArgumentException("Rolls must be >= 1, got " + r);
+            }
+        }
+        this.script = Arrays.copyOf(script, script.length);
+    }
+
+    @Override
+    public int roll() {
+        int r = script[next];
+        next = (next + 1) % script.length;
+        return r;
+    }
+
+    @Override
+    public void rollInto(int[] buf, int off, int len) {
+        int i = off;
+        int end = off + len;
+        while (i < end) {
+            int chunk = Math.min(end - i, script.length - next);
+            System.arraycopy(script, next, buf, i, chunk);
+            i += chunk;
+            next = (next + chunk) % script.length;
+        }
+    }
+
+    // Number of rolls consumed so far, modulo the script length
+    public int getCursor() {
+        return next;
+    }
+
+    public void reset() {
+        next = 0;
+    }
+}
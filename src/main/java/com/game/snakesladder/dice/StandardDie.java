@@ -1,28 +1,88 @@
 package com.game.snakesladder.dice;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
+// Dice of up to 256 faces take one roll per byte of each 64-bit word from the generator instead of one nextInt per
+// roll; roll() and rollInto() share the partly used word, so the roll sequence only depends on the seed.
 public class StandardDie implements Die {
-    private final Random random;
+    private static final int MAX_SLICED_FACES = 256;
+
+    private final SplittableRandom random;
     private final int faces;
+    private final int sliceLimit; // largest multiple of faces <= 256; bytes at or above it are rejected to stay unbiased
+    private long word;            // unused bytes of the current word, lowest first
+    private int bytesLeft;
 
     public StandardDie() {
         this(6);
     }
 
     public StandardDie(int faces) {
+        this(faces, new SplittableRandom());
+    }
+
+    // Same seed, same roll sequence: used to replay a game exactly
+    public StandardDie(int faces, long seed) {
+        this(faces, new SplittableRandom(seed));
+    }
+
+    // Each thread should own its die; SplittableRandom is not thread-safe but needs no locking
+    public StandardDie(int faces, SplittableRandom random) {
         if (faces < 2) {
             throw new IllegalArgumentException("Die must have at least 2 faces");
         }
         this.faces = faces;
-        this.random = new Random();
+        this.random = random;
+        this.sliceLimit = 256 - 256 % faces;
+    }
+
+    public int getFaces() {
+        return faces;
     }
 
     @Override
     public int roll() {
-        return random.nextInt(faces) + 1;
+        if (faces > MAX_SLICED_FACES) {
+            return random.nextInt(faces) + 1;
+        }
+        while (true) {
+            if (bytesLeft == 0) {
+                word = random.nextLong();
+                bytesLeft = 8;
+            }
+            int slice = (int) (word & 0xFF);
+            word >>>= 8;
+            bytesLeft--;
+            if (slice < sliceLimit) {
+                return slice % faces + 1;
+            }
+        }
     }
-}
-
-
 
+    // Same rolls as len calls to roll(), with the word kept in locals
+    @Override
+    public void rollInto(int[] buf, int off, int len) {
+        if (faces > MAX_SLICED_FACES) {
+            Die.super.rollInto(buf, off, len);
+            return;
+        }
+        long w = word;
+        int left = bytesLeft;
+        int i = off;
+        int end = off + len;
+        while (i < end) {
+            if (left == 0) {
+                w = random.nextLong();
+                left = 8;
+            }
+            int slice = (int) (w & 0xFF);
+            w >>>= 8;
+            left--;
+            if (slice < sliceLimit) {
+                buf[i++] = slice % faces + 1;
+            }
+        }
+        word = w;
+        bytesLeft = left;
+    }
+}
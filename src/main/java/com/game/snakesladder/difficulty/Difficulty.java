@@ -0,0 +1,25 @@
+package com.game.snakesladder.difficulty;
+
+// Compact label for a strategy, e.g. for tagging stored simulation results; codes are stable on disk
+public enum Difficulty {
+    EASY, MEDIUM, HARD, CUSTOM;
+
+    public byte code() {
+        return (byte) ordinal();
+    }
+
+    public static Difficulty fromCode(int code) {
+        Difficulty[] values = values();
+        if (code < 0 || code >= values.length) {
+            throw new IllegalArgumentException("Unknown difficulty code " + code);
+        }
+        return values[code];
+    }
+
+    public static Difficulty of(DifficultyStrategy strategy) {
+        if (strategy instanceof EasyStrategy) return EASY;
+        if (strategy instanceof MediumStrategy) return MEDIUM;
+        if (strategy instanceof HardStrategy) return HARD;
+        return CUSTOM;
+    }
+}
@@ -1,14 +1,61 @@
 package com.game.snakesladder.difficulty;
 
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.model.BoardLayout;
 import com.game.snakesladder.model.Ladder;
 import com.game.snakesladder.model.Snake;
+import com.game.snakesladder.model.SparseBoard;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
 
 public interface DifficultyStrategy {
     List<Snake> generateSnakes(int boardSize, int lastIndex);
     List<Ladder> generateLadders(int boardSize, int lastIndex);
-}
 
+    // Variants drawing from a caller-supplied generator, so a seeded BoardFactory reproduces the same layout
+    List<Snake> generateSnakes(int boardSize, int lastIndex, SplittableRandom random);
+    List<Ladder> generateLadders(int boardSize, int lastIndex, SplittableRandom random);
+
+    // Snakes and ladders together with no ladder starting on a snake head. The defaults drop clashing
+    // ladders; RandomDifficultyBase avoids the clash while sampling instead.
+    default BoardLayout generateLayout(int boardSize, int lastIndex) {
+        return withoutClashes(generateSnakes(boardSize, lastIndex), generateLadders(boardSize, lastIndex));
+    }
 
+    default BoardLayout generateLayout(int boardSize, int lastIndex, SplittableRandom random) {
+        return withoutClashes(generateSnakes(boardSize, lastIndex, random), generateLadders(boardSize, lastIndex, random));
+    }
 
+    // Layout for boards addressed by long cell indices. The default goes through generateLayout and so only works
+    // up to Board.MAX_SIZE; RandomDifficultyBase samples cells directly and handles any size.
+    default SparseBoard generateSparseBoard(int boardSize, SplittableRandom random) {
+        if (boardSize > Board.MAX_SIZE) {
+            throw new IllegalArgumentException(getClass().getSimpleName() + " cannot generate " + boardSize + "x"
+                    + boardSize + " boards");
+        }
+        BoardLayout layout = generateLayout(boardSize, boardSize * boardSize - 1, random);
+        long[] heads = new long[layout.getSnakes().size()];
+        long[] tails = new long[heads.length];
+        for (int i = 0; i < heads.length; i++) {
+            heads[i] = layout.getSnakes().get(i).getHead();
+            tails[i] = layout.getSnakes().get(i).getTail();
+        }
+        long[] starts = new long[layout.getLadders().size()];
+        long[] ends = new long[starts.length];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = layout.getLadders().get(i).getStart();
+            ends[i] = layout.getLadders().get(i).getEnd();
+        }
+        return new SparseBoard(boardSize, heads, tails, starts, ends);
+    }
+
+    private static BoardLayout withoutClashes(List<Snake> snakes, List<Ladder> ladders) {
+        Set<Integer> snakeHeads = new HashSet<>();
+        for (Snake s : snakes) snakeHeads.add(s.getHead());
+        ladders.removeIf(l -> snakeHeads.contains(l.getStart()));
+        return new BoardLayout(snakes, ladders);
+    }
+}
@@ -1,6 +1,19 @@
 package com.game.snakesladder.difficulty;
 
+import java.util.SplittableRandom;
+
 public class EasyStrategy extends RandomDifficultyBase {
+    public EasyStrategy() {
+    }
+
+    public EasyStrategy(long seed) {
+        super(new SplittableRandom(seed));
+    }
+
+    public EasyStrategy(SplittableRandom random) {
+        super(random);
+    }
+
     @Override
     protected int getSnakeCount(int boardSize) {
         return Math.max(2, boardSize / 2);
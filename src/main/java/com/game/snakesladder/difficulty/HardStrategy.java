@@ -1,6 +1,19 @@
 package com.game.snakesladder.difficulty;
 
+import java.util.SplittableRandom;
+
 public class HardStrategy extends RandomDifficultyBase {
+    public HardStrategy() {
+    }
+
+    public HardStrategy(long seed) {
+        super(new SplittableRandom(seed));
+    }
+
+    public HardStrategy(SplittableRandom random) {
+        super(random);
+    }
+
     @Override
     protected int getSnakeCount(int boardSize) {
         return Math.max(5, boardSize + boardSize / 2);
@@ -1,6 +1,19 @@
 package com.game.snakesladder.difficulty;
 
+import java.util.SplittableRandom;
+
 public class MediumStrategy extends RandomDifficultyBase {
+    public MediumStrategy() {
+    }
+
+    public MediumStrategy(long seed) {
+        super(new SplittableRandom(seed));
+    }
+
+    public MediumStrategy(SplittableRandom random) {
+        super(random);
+    }
+
     @Override
     protected int getSnakeCount(int boardSize) {
         return Math.max(3, boardSize);
@@ -1,53 +1,328 @@
 package com.game.snakesladder.difficulty;
 
+import com.game.snakesladder.model.BoardLayout;
 import com.game.snakesladder.model.Ladder;
 import com.game.snakesladder.model.Snake;
+import com.game.snakesladder.model.SparseBoard;
 
 import java.util.*;
 
+// Samples heads and starts directly from the cells that satisfy the placement rules (a partial shuffle of a
+// candidate pool), so generation is linear in the board size. Rules:
+//  - snake heads above the first row and below the last cell, tails on cell 1 or higher
+//  - ladder starts on cell 1 or higher, ends below the last cell
+//  - every snake and ladder spans at least max(2, N / 2) cells
+//  - in a layout, no ladder starts on a snake head
+//  - a layout can always be finished: runs of snake heads (six in a row, or shorter runs six cells apart, which
+//    the three-sixes revoke makes impassable) can wall the last cell off, so such layouts are drawn again. That
+//    happens for about 1 in 3,000 hard 10x10 layouts and almost never on larger or easier boards; after
+//    MAX_LAYOUT_ATTEMPTS walled-off draws in a row generateLayout throws IllegalArgumentException.
+// Sparse boards follow the same rules but sample with Floyd's algorithm over long indices, so memory is
+// proportional to the number of snakes and ladders rather than the (up to 10^10) cells.
 abstract class RandomDifficultyBase implements DifficultyStrategy {
+    // Draws before giving up; the worst redraw rate measured (hard 6x6, about 1 in 1,300) never gets near 64 in a row
+    static final int MAX_LAYOUT_ATTEMPTS = 64;
+    private static final int MAX_TURN_ENDS = 16; // five non-six rolls after 0, 1 and 2 sixes, plus a six that wins
+
     protected abstract int getSnakeCount(int boardSize);
     protected abstract int getLadderCount(int boardSize);
 
-    private final Random random = new Random();
+    private final SplittableRandom random;
+
+    protected RandomDifficultyBase() {
+        this(new SplittableRandom());
+    }
+
+    protected RandomDifficultyBase(SplittableRandom random) {
+        this.random = random;
+    }
 
     @Override
     public List<Snake> generateSnakes(int boardSize, int lastIndex) {
+        return generateSnakes(boardSize, lastIndex, random);
+    }
+
+    @Override
+    public List<Ladder> generateLadders(int boardSize, int lastIndex) {
+        return generateLadders(boardSize, lastIndex, random);
+    }
+
+    @Override
+    public BoardLayout generateLayout(int boardSize, int lastIndex) {
+        return generateLayout(boardSize, lastIndex, random);
+    }
+
+    @Override
+    public List<Snake> generateSnakes(int boardSize, int lastIndex, SplittableRandom random) {
         int count = getSnakeCount(boardSize);
-        Set<Integer> usedHeads = new HashSet<>();
-        List<Snake> snakes = new ArrayList<>();
-        for (int i = 0; i < count; i++) {
-            int head;
-            int tail;
-            // ensure head not at last cell and tail not at 0, and reasonable distance
-            do {
-                head = 1 + random.nextInt(lastIndex - 1);
-                tail = random.nextInt(head);
-            } while (head <= boardSize || head == lastIndex || tail == 0 || head - tail < Math.max(2, boardSize / 2) || usedHeads.contains(head));
-            usedHeads.add(head);
+        requireFits(boardSize, count, headCandidates(boardSize, lastIndex), "snakes", "head");
+        return placeSnakes(boardSize, lastIndex, count, random, null);
+    }
+
+    @Override
+    public List<Ladder> generateLadders(int boardSize, int lastIndex, SplittableRandom random) {
+        int count = getLadderCount(boardSize);
+        requireFits(boardSize, count, startCandidates(boardSize, lastIndex), "ladders", "start");
+        return placeLadders(boardSize, lastIndex, count, random, null);
+    }
+
+    @Override
+    public BoardLayout generateLayout(int boardSize, int lastIndex, SplittableRandom random) {
+        int snakeCount = getSnakeCount(boardSize);
+        int ladderCount = getLadderCount(boardSize);
+        int heads = headCandidates(boardSize, lastIndex);
+        int starts = startCandidates(boardSize, lastIndex);
+        requireFits(boardSize, snakeCount, heads, "snakes", "head");
+        // Worst case every snake head lands inside the ladder-start range; refuse unless ladders still fit
+        int shared = Math.max(0, lastIndex - minGap(boardSize) - minHead(boardSize));
+        requireFits(boardSize, ladderCount, starts - Math.min(snakeCount, shared), "ladders", "start");
+
+        boolean[] taken = new boolean[lastIndex + 1];
+        int[] jump = new int[lastIndex + 1];
+        for (int attempt = 0; attempt < MAX_LAYOUT_ATTEMPTS; attempt++) {
+            List<Snake> snakes = placeSnakes(boardSize, lastIndex, snakeCount, random, taken);
+            List<Ladder> ladders = placeLadders(boardSize, lastIndex, ladderCount, random, taken);
+            for (int cell = 0; cell <= lastIndex; cell++) jump[cell] = cell;
+            for (Snake snake : snakes) jump[snake.getHead()] = snake.getTail();
+            for (Ladder ladder : ladders) jump[ladder.getStart()] = ladder.getEnd();
+            if (alwaysFinishes(jump, lastIndex)) {
+                return new BoardLayout(snakes, ladders);
+            }
+            Arrays.fill(taken, false);
+        }
+        throw new IllegalArgumentException("A " + boardSize + "x" + boardSize + " board with " + snakeCount
+                + " snakes walled off the last cell in " + MAX_LAYOUT_ATTEMPTS + " layouts in a row");
+    }
+
+    @Override
+    public SparseBoard generateSparseBoard(int boardSize, SplittableRandom random) {
+        if (boardSize < 2) {
+            throw new IllegalArgumentException("Board size must be >= 2");
+        }
+        long lastIndex = (long) boardSize * boardSize - 1;
+        int snakeCount = getSnakeCount(boardSize);
+        int ladderCount = getLadderCount(boardSize);
+        int gap = minGap(boardSize);
+        long headLo = minHead(boardSize);
+        requireFits(boardSize, snakeCount, Math.max(0, lastIndex - headLo), "snakes", "head");
+
+        long[] heads = floydSample(lastIndex - headLo, snakeCount, random); // offsets into [headLo, lastIndex - 1]
+        long[] tails = new long[snakeCount];
+        for (int i = 0; i < snakeCount; i++) {
+            heads[i] += headLo;
+            tails[i] = 1 + random.nextLong(heads[i] - gap); // tail in [1, head - gap]
+        }
+
+        // Ladder starts are drawn from the start range with the snake heads in it squeezed out: virtual index v
+        // maps to the v-th cell of [1, startHi] that is not a head
+        long startHi = lastIndex - 1 - gap;
+        long[] excluded = heads.clone();
+        Arrays.sort(excluded);
+        int excludedCount = upperBound(excluded, excluded.length, startHi);
+        requireFits(boardSize, ladderCount, Math.max(0, startHi - excludedCount), "ladders", "start");
+        long[] rank = new long[excludedCount]; // excluded[i] - 1 - i: virtual indices below which i+1 heads are skipped
+        for (int i = 0; i < excludedCount; i++) {
+            rank[i] = excluded[i] - 1 - i;
+        }
+        long[] starts = floydSample(startHi - excludedCount, ladderCount, random);
+        long[] ends = new long[ladderCount];
+        for (int i = 0; i < ladderCount; i++) {
+            long v = starts[i];
+            starts[i] = 1 + v + upperBound(rank, excludedCount, v);
+            ends[i] = starts[i] + gap + random.nextLong(lastIndex - starts[i] - gap); // [start + gap, lastIndex - 1]
+        }
+        return new SparseBoard(boardSize, heads, tails, starts, ends);
+    }
+
+    private List<Snake> placeSnakes(int boardSize, int lastIndex, int count, SplittableRandom random, boolean[] taken) {
+        int gap = minGap(boardSize);
+        int[] heads = sample(minHead(boardSize), lastIndex - 1, count, random, null);
+        List<Snake> snakes = new ArrayList<>(count);
+        for (int head : heads) {
+            int tail = 1 + random.nextInt(head - gap); // tail in [1, head - gap]
             snakes.add(new Snake(head, tail));
+            if (taken != null) taken[head] = true;
         }
         return snakes;
     }
 
-    @Override
-    public List<Ladder> generateLadders(int boardSize, int lastIndex) {
-        int count = getLadderCount(boardSize);
-        Set<Integer> usedStarts = new HashSet<>();
-        List<Ladder> ladders = new ArrayList<>();
-        for (int i = 0; i < count; i++) {
-            int start;
-            int end;
-            do {
-                start = random.nextInt(lastIndex);
-                end = start + 1 + random.nextInt(lastIndex - start);
-            } while (start == 0 || end == lastIndex || end - start < Math.max(2, boardSize / 2) || usedStarts.contains(start));
-            usedStarts.add(start);
+    private List<Ladder> placeLadders(int boardSize, int lastIndex, int count, SplittableRandom random, boolean[] taken) {
+        int gap = minGap(boardSize);
+        int[] starts = sample(1, lastIndex - 1 - gap, count, random, taken);
+        List<Ladder> ladders = new ArrayList<>(count);
+        for (int start : starts) {
+            int end = start + gap + random.nextInt(lastIndex - start - gap); // end in [start + gap, lastIndex - 1]
             ladders.add(new Ladder(start, end));
         }
         return ladders;
     }
-}
 
+    // True if every cell a game can reach from 0 can still reach the last cell, i.e. no token can get trapped.
+    // Turns follow RulesEngine: up to two sixes then a non-six, each roll moving and jumping on its own, overshoots
+    // standing still; a revoked turn goes nowhere, so it adds no edge. One breadth-first pass from the last cell
+    // over the reversed turn graph finds the cells that can finish, and (only if some cannot) one pass from 0 checks
+    // that none of those is reachable. Each cell has at most MAX_TURN_ENDS edges, so both passes are linear.
+    static boolean alwaysFinishes(int[] jump, int lastIndex) {
+        int[] ends = new int[MAX_TURN_ENDS];
+        int[] inStart = new int[lastIndex + 2]; // reversed graph, CSR: predecessors of c are from[inStart[c]..]
+        for (int cell = 0; cell < lastIndex; cell++) {
+            int n = turnEnds(jump, lastIndex, cell, ends);
+            for (int i = 0; i < n; i++) inStart[ends[i] + 1]++;
+        }
+        for (int cell = 0; cell <= lastIndex; cell++) inStart[cell + 1] += inStart[cell];
+        int[] from = new int[inStart[lastIndex + 1]];
+        int[] fill = Arrays.copyOf(inStart, lastIndex + 1);
+        for (int cell = 0; cell < lastIndex; cell++) {
+            int n = turnEnds(jump, lastIndex, cell, ends);
+            for (int i = 0; i < n; i++) from[fill[ends[i]]++] = cell;
+        }
+
+        boolean[] finishes = new boolean[lastIndex + 1];
+        int[] queue = new int[lastIndex + 1];
+        int head = 0;
+        int tail = 0;
+        finishes[lastIndex] = true;
+        queue[tail++] = lastIndex;
+        while (head < tail) {
+            int cell = queue[head++];
+            for (int k = inStart[cell], end = inStart[cell + 1]; k < end; k++) {
+                if (!finishes[from[k]]) {
+                    finishes[from[k]] = true;
+                    queue[tail++] = from[k];
+                }
+            }
+        }
+        if (tail == lastIndex + 1) return true; // the usual case: no cell can trap a token, reachable or not
+        if (!finishes[0]) return false;
+
+        boolean[] reached = new boolean[lastIndex + 1];
+        head = 0;
+        tail = 0;
+        reached[0] = true;
+        queue[tail++] = 0;
+        while (head < tail) {
+            int cell = queue[head++];
+            if (!finishes[cell]) return false;
+            if (cell == lastIndex) continue;
+            int n = turnEnds(jump, lastIndex, cell, ends);
+            for (int i = 0; i < n; i++) {
+                if (!reached[ends[i]]) {
+                    reached[ends[i]] = true;
+                    queue[tail++] = ends[i];
+                }
+            }
+        }
+        return true;
+    }
+
+    // Cells a turn from cell can end on (repeats possible), written to ends; returns how many
+    private static int turnEnds(int[] jump, int lastIndex, int cell, int[] ends) {
+        int n = 0;
+        int position = cell;
+        for (int sixes = 0; sixes < 3; sixes++) {
+            for (int roll = 1; roll <= 5; roll++) {
+                ends[n++] = position + roll > lastIndex ? position : jump[position + roll];
+            }
+            if (sixes == 2) break; // a third six revokes the turn
+            if (position + 6 <= lastIndex) position = jump[position + 6]; // the six moves, then rolls again
+            if (position == lastIndex) { // a six landing on the last cell wins on the spot
+                ends[n++] = lastIndex;
+                break;
+            }
+        }
+        return n;
+    }
+
+    // count distinct cells from [lo, hi] minus excluded ones, by a partial Fisher-Yates shuffle of the pool
+    static int[] sample(int lo, int hi, int count, SplittableRandom random, boolean[] excluded) {
+        int[] pool = new int[Math.max(0, hi - lo + 1)];
+        int size = 0;
+        for (int cell = lo; cell <= hi; cell++) {
+            if (excluded == null || !excluded[cell]) pool[size++] = cell;
+        }
+        for (int i = 0; i < count; i++) {
+            int j = i + random.nextInt(size - i);
+            int swap = pool[i];
+            pool[i] = pool[j];
+            pool[j] = swap;
+        }
+        return Arrays.copyOf(pool, count);
+    }
 
+    // count distinct values from [0, range) by Floyd's algorithm: one draw per value, a hash set of count entries
+    static long[] floydSample(long range, int count, SplittableRandom random) {
+        long[] picked = new long[count];
+        LongSet seen = new LongSet(count);
+        int n = 0;
+        for (long j = range - count; j < range; j++) {
+            long t = random.nextLong(j + 1);
+            if (!seen.add(t)) { // taken already: j itself cannot be, every earlier pick is below j
+                t = j;
+                seen.add(j);
+            }
+            picked[n++] = t;
+        }
+        return picked;
+    }
 
+    // Number of the first length entries of the sorted array that are <= key
+    private static int upperBound(long[] sorted, int length, long key) {
+        int lo = 0;
+        int hi = length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] <= key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    static int minGap(int boardSize) {
+        return Math.max(2, boardSize / 2);
+    }
+
+    static int minHead(int boardSize) {
+        return Math.max(boardSize + 1, minGap(boardSize) + 1);
+    }
+
+    private static int headCandidates(int boardSize, int lastIndex) {
+        return Math.max(0, lastIndex - minHead(boardSize));
+    }
+
+    private static int startCandidates(int boardSize, int lastIndex) {
+        return Math.max(0, lastIndex - 1 - minGap(boardSize));
+    }
+
+    private static void requireFits(int boardSize, int count, long candidates, String what, String cell) {
+        if (count > candidates) {
+            throw new IllegalArgumentException("A " + boardSize + "x" + boardSize + " board cannot fit " + count
+                    + " " + what + ": only " + Math.max(0, candidates) + " valid " + cell + " cells");
+        }
+    }
+
+    // Open-addressing set of non-negative longs, sized once for the expected count
+    private static final class LongSet {
+        private final long[] slots;
+        private final int mask;
+        private final int shift;
+
+        LongSet(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(2, expected) * 2 - 1) << 1; // load factor <= 1/2
+            this.slots = new long[capacity];
+            this.mask = capacity - 1;
+            this.shift = 64 - Integer.numberOfTrailingZeros(capacity);
+            Arrays.fill(slots, -1);
+        }
+
+        // false if the value was already present
+        boolean add(long value) {
+            int i = (int) ((value * 0x9E3779B97F4A7C15L) >>> shift); // Fibonacci hashing: top bits of the product
+            while (slots[i] != -1) {
+                if (slots[i] == value) return false;
+                i = (i + 1) & mask;
+            }
+            slots[i] = value;
+            return true;
+        }
+    }
+}
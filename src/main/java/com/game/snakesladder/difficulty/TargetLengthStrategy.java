@@ -0,0 +1,510 @@
+package com.game.snakesladder.difficulty;
+
+import com.game.snakesladder.analytics.GameLengthSolver;
+import com.game.snakesladder.analytics.GameLengthStats;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.model.BoardLayout;
+import com.game.snakesladder.model.Ladder;
+import com.game.snakesladder.model.Snake;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+// Searches for a layout whose exact expected single-player turns-to-finish (and optionally its standard
+// deviation) hits a target. Simulated annealing over moves/additions/removals of snakes and ladders, seeded
+// from another strategy's layout; each step scores a fixed-size batch of candidates in parallel. Candidates are
+// generated sequentially from the strategy's generator and the batch size does not depend on the pool, so the
+// result only depends on the seed (and batch size), never on how many threads scored it.
+// Candidates are scored by Gauss-Seidel sweeps warm-started from their parent's per-cell values (see estimate);
+// only the layout returned gets a full GameLengthSolver solve, which is what getLastExpectedTurns reports.
+public class TargetLengthStrategy implements DifficultyStrategy {
+    private static final int DEFAULT_MAX_STEPS = 400;
+    private static final int DEFAULT_BATCH_SIZE = 8;
+    private static final double DEFAULT_TOLERANCE = 0.02;
+    private static final int MAX_SWEEPS = 5_000;      // then the candidate is solved exactly instead
+    private static final double SETTLED = 1e-7;       // largest change in a sweep, relative to E[T] from cell 0
+    private static final double STEADY_RATIO = 0.01;  // ratio drift, relative to 1 - ratio, before extrapolating
+    private static final int MAX_TURN_ENDS = 16;      // five non-six rolls after 0, 1 and 2 sixes, plus a six that wins
+    private static final double INITIAL_TEMPERATURE = 0.2;
+    private static final double COOLING = 0.98;
+    private static final int PLACEMENT_TRIES = 32;
+
+    private final double targetMeanTurns;
+    private final double targetStdDev; // NaN when only the mean matters
+    private final DifficultyStrategy startStrategy;
+    private final SplittableRandom random;
+    private final ForkJoinPool pool;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int maxSteps = DEFAULT_MAX_STEPS;
+    private double tolerance = DEFAULT_TOLERANCE;
+    private double lastExpectedTurns = Double.NaN;
+    private double lastStdDev = Double.NaN;
+    private long lastEvaluations;
+    private BoardLayout pending; // layout whose other half the next generateSnakes/generateLadders call returns
+    private boolean pendingSnakes; // true if pending still owes its snakes, false if its ladders
+    private int pendingLastIndex;
+
+    public TargetLengthStrategy(double targetMeanTurns) {
+        this(targetMeanTurns, Double.NaN, new MediumStrategy(), new SplittableRandom());
+    }
+
+    public TargetLengthStrategy(double targetMeanTurns, double targetStdDev, long seed) {
+        this(targetMeanTurns, targetStdDev, new MediumStrategy(seed), new SplittableRandom(seed));
+    }
+
+    public TargetLengthStrategy(double targetMeanTurns, double targetStdDev, DifficultyStrategy startStrategy,
+                                SplittableRandom random) {
+        this(targetMeanTurns, targetStdDev, startStrategy, random, ForkJoinPool.commonPool());
+    }
+
+    public TargetLengthStrategy(double targetMeanTurns, double targetStdDev, DifficultyStrategy startStrategy,
+                                SplittableRandom random, ForkJoinPool pool) {
+        if (!(targetMeanTurns >= 1.0)) {
+            throw new IllegalArgumentException("Target mean turns must be >= 1");
+        }
+        if (!Double.isNaN(targetStdDev) && targetStdDev <= 0.0) {
+            throw new IllegalArgumentException("Target standard deviation must be > 0");
+        }
+        this.targetMeanTurns = targetMeanTurns;
+        this.targetStdDev = targetStdDev;
+        this.startStrategy = startStrategy;
+        this.random = random;
+        this.pool = pool;
+    }
+
+    public TargetLengthStrategy withMaxSteps(int maxSteps) {
+        this.maxSteps = maxSteps;
+        return this;
+    }
+
+    // Candidates scored per annealing step; part of what the result depends on, unlike the pool's parallelism
+    public TargetLengthStrategy withBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be >= 1");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    // Relative error at which the search stops early
+    public TargetLengthStrategy withTolerance(double tolerance) {
+        this.tolerance = tolerance;
+        return this;
+    }
+
+    public double getLastExpectedTurns() {
+        return lastExpectedTurns;
+    }
+
+    public double getLastStdDev() {
+        return lastStdDev;
+    }
+
+    public long getLastEvaluations() {
+        return lastEvaluations;
+    }
+
+    // Snakes and ladders only make sense as a pair here: the first call of a pair runs one search and the matching
+    // call (either order, same board size) returns the other half of that same layout instead of searching again
+    @Override
+    public List<Snake> generateSnakes(int boardSize, int lastIndex) {
+        return half(boardSize, lastIndex, random, true).getSnakes();
+    }
+
+    @Override
+    public List<Ladder> generateLadders(int boardSize, int lastIndex) {
+        return half(boardSize, lastIndex, random, false).getLadders();
+    }
+
+    @Override
+    public List<Snake> generateSnakes(int boardSize, int lastIndex, SplittableRandom random) {
+        return half(boardSize, lastIndex, random, true).getSnakes();
+    }
+
+    @Override
+    public List<Ladder> generateLadders(int boardSize, int lastIndex, SplittableRandom random) {
+        return half(boardSize, lastIndex, random, false).getLadders();
+    }
+
+    private BoardLayout half(int boardSize, int lastIndex, SplittableRandom random, boolean snakes) {
+        BoardLayout layout = pending;
+        if (layout != null && pendingSnakes == snakes && pendingLastIndex == lastIndex) {
+            pending = null;
+            return layout;
+        }
+        layout = generateLayout(boardSize, lastIndex, random);
+        pending = layout;
+        pendingSnakes = !snakes;
+        pendingLastIndex = lastIndex;
+        return layout;
+    }
+
+    @Override
+    public BoardLayout generateLayout(int boardSize, int lastIndex) {
+        return generateLayout(boardSize, lastIndex, random);
+    }
+
+    @Override
+    public BoardLayout generateLayout(int boardSize, int lastIndex, SplittableRandom random) {
+        Candidate current = new Candidate(boardSize, startStrategy.generateLayout(boardSize, lastIndex, random.split()));
+        score(current, null);
+        Candidate best = current;
+        long evaluations = 1;
+        double temperature = INITIAL_TEMPERATURE;
+
+        for (int step = 0; step < maxSteps && best.cost > tolerance; step++) {
+            Candidate parent = current;
+            Candidate[] batch = new Candidate[batchSize];
+            for (int i = 0; i < batchSize; i++) {
+                batch[i] = parent.mutate(random);
+            }
+            pool.submit(() -> IntStream.range(0, batchSize).parallel().forEach(i -> score(batch[i], parent))).join();
+            evaluations += batchSize;
+
+            Candidate next = batch[0];
+            for (Candidate c : batch) {
+                if (c.cost < next.cost) next = c;
+            }
+            if (next.cost <= current.cost
+                    || random.nextDouble() < Math.exp((current.cost - next.cost) / temperature)) {
+                current = next;
+            }
+            if (current.cost < best.cost) best = current;
+            temperature *= COOLING;
+        }
+
+        lastExpectedTurns = Double.NaN;
+        lastStdDev = Double.NaN;
+        if (best.cost < Double.POSITIVE_INFINITY) { // report the exact figures, not the sweeps' estimate
+            GameLengthStats stats = new GameLengthSolver(best.toBoard()).solveMoments();
+            lastExpectedTurns = stats.getExpectedTurns();
+            lastStdDev = stats.getStandardDeviation();
+        }
+        lastEvaluations = evaluations;
+        return best.toLayout();
+    }
+
+    private void score(Candidate c, Candidate parent) {
+        boolean moments = !Double.isNaN(targetStdDev);
+        if (!estimate(c, parent, moments)) {
+            try {
+                GameLengthStats stats = new GameLengthSolver(c.toBoard()).solveMoments();
+                c.mean = stats.getExpectedTurns();
+                c.stdDev = stats.getStandardDeviation();
+            } catch (IllegalStateException e) { // a token can get trapped on this layout
+                c.cost = Double.POSITIVE_INFINITY;
+                return;
+            }
+        }
+        double cost = Math.abs(c.mean - targetMeanTurns) / targetMeanTurns;
+        if (moments) {
+            cost += Math.abs(c.stdDev - targetStdDev) / targetStdDev;
+        }
+        // An ill-conditioned estimate must never win the search, even if it lands near the target by accident
+        c.cost = Double.isFinite(cost) && c.mean >= 1.0 ? cost : Double.POSITIVE_INFINITY;
+    }
+
+    // E[T] (and E[T^2] when withSecond) from cell 0 by Gauss-Seidel sweeps over the turn chain, built straight from
+    // the candidate's jump table rather than through Board and a RulesEngine replay of every roll sequence.
+    // Sweeping from the last cell down solves every forward move within one sweep, so only snakes carry error over
+    // to the next; starting from the parent's per-cell values (a mutation changes one snake or ladder) a few dozen
+    // O(cells) sweeps settle, against a dense back-edge solve for GameLengthSolver. Sets c.mean and c.stdDev and
+    // returns true; on a layout that can trap a token sets an infinite cost and returns true; returns false if the
+    // sweeps did not settle within MAX_SWEEPS, for the caller to solve exactly.
+    private static boolean estimate(Candidate c, Candidate parent, boolean withSecond) {
+        int last = c.lastIndex;
+        int[] jump = c.jump();
+        if (!RandomDifficultyBase.alwaysFinishes(jump, last)) {
+            c.mean = Double.POSITIVE_INFINITY;
+            c.stdDev = Double.NaN;
+            c.first = null;
+            c.second = null;
+            return true;
+        }
+
+        // Transitions out of every cell, self-loops (overshoot, revoked turn) folded into a per-cell scale
+        int[] rowStart = new int[last + 1];
+        int[] target = new int[last * MAX_TURN_ENDS];
+        double[] probability = new double[target.length];
+        double[] scale = new double[last];
+        int nnz = 0;
+        for (int s = 0; s < last; s++) {
+            rowStart[s] = nnz;
+            double stay = 0.0;
+            double p = 1.0 / 6;
+            int position = s;
+            for (int sixes = 0; sixes < 3; sixes++) {
+                for (int roll = 1; roll <= 5; roll++) {
+                    int end = position + roll > last ? position : jump[position + roll];
+                    if (end == s) {
+                        stay += p;
+                    } else {
+                        target[nnz] = end;
+                        probability[nnz++] = p;
+                    }
+                }
+                if (sixes == 2) {
+                    stay += p; // a third six revokes the turn
+                    break;
+                }
+                if (position + 6 <= last) position = jump[position + 6]; // the six moves, then rolls again
+                if (position == last) { // a six landing on the last cell wins on the spot
+                    target[nnz] = last;
+                    probability[nnz++] = p;
+                    break;
+                }
+                p /= 6;
+            }
+            scale[s] = 1.0 / (1.0 - stay);
+        }
+        rowStart[last] = nnz;
+
+        // Only cells a game can reach are swept (highest first); the chain never leaves them
+        boolean[] reached = new boolean[last + 1];
+        int[] queue = new int[last + 1];
+        int tail = 0;
+        reached[0] = true;
+        queue[tail++] = 0;
+        for (int head = 0; head < tail; head++) {
+            int s = queue[head];
+            if (s == last) continue;
+            for (int k = rowStart[s]; k < rowStart[s + 1]; k++) {
+                if (!reached[target[k]]) {
+                    reached[target[k]] = true;
+                    queue[tail++] = target[k];
+                }
+            }
+        }
+        int[] cells = new int[tail];
+        int live = 0;
+        for (int s = last - 1; s >= 0; s--) {
+            if (reached[s]) cells[live++] = s;
+        }
+
+        double[] first = parent != null && parent.first != null ? parent.first.clone() : new double[last + 1];
+        first[last] = 0.0;
+        if (!settle(cells, live, rowStart, target, probability, scale, null, first)) return false;
+        double mean = first[0];
+        double variance = 0.0;
+        double[] second = null;
+        if (withSecond) {
+            // T = 1 + T' gives E[T^2] = 1 + sum p (2 E[T'] + E[T'^2]), self-loops included in the constant
+            double[] constant = new double[last];
+            for (int i = 0; i < live; i++) {
+                int s = cells[i];
+                double k2 = 1.0 + 2.0 * first[s] * (1.0 - 1.0 / scale[s]);
+                for (int k = rowStart[s]; k < rowStart[s + 1]; k++) k2 += 2.0 * probability[k] * first[target[k]];
+                constant[s] = k2;
+            }
+            second = parent != null && parent.second != null ? parent.second.clone() : new double[last + 1];
+            second[last] = 0.0;
+            if (!settle(cells, live, rowStart, target, probability, scale, constant, second)) return false;
+            variance = Math.max(0.0, second[0] - mean * mean);
+        }
+        c.first = first;
+        c.second = second;
+        c.mean = mean;
+        c.stdDev = Math.sqrt(variance);
+        return true;
+    }
+
+    // {E[T], standard deviation} of a layout by the sweeps alone, cold-started; null if they did not settle
+    static double[] estimateMoments(int boardSize, BoardLayout layout) {
+        Candidate c = new Candidate(boardSize, layout);
+        return estimate(c, null, true) ? new double[] {c.mean, c.stdDev} : null;
+    }
+
+    // Gauss-Seidel on x[s] = constant[s] + sum p x[target] (constant 1 when null) until the largest change in a
+    // sweep is below SETTLED relative to x[0]; false if that takes more than MAX_SWEEPS. On long games the error
+    // shrinks by a near-constant ratio per sweep (one slow mode: tokens cycling through snakes), so once that ratio
+    // holds steady the remaining geometric series of changes is added in one step.
+    private static boolean settle(int[] cells, int live, int[] rowStart, int[] target, double[] probability,
+                                  double[] scale, double[] constant, double[] x) {
+        double[] delta = new double[x.length];
+        double lastChange = Double.NaN;
+        double lastRatio = Double.NaN;
+        for (int sweep = 0; sweep < MAX_SWEEPS; sweep++) {
+            double change = 0.0;
+            for (int i = 0; i < live; i++) {
+                int s = cells[i];
+                double v = constant == null ? 1.0 : constant[s];
+                for (int k = rowStart[s], end = rowStart[s + 1]; k < end; k++) v += probability[k] * x[target[k]];
+                v *= scale[s];
+                delta[s] = v - x[s];
+                change = Math.max(change, Math.abs(delta[s]));
+                x[s] = v;
+            }
+            if (change <= SETTLED * x[0]) return true;
+            double ratio = change / lastChange;
+            if (ratio < 1.0 && Math.abs(ratio - lastRatio) < STEADY_RATIO * (1.0 - ratio)) {
+                double ahead = ratio / (1.0 - ratio);
+                for (int i = 0; i < live; i++) x[cells[i]] += ahead * delta[cells[i]];
+                ratio = Double.NaN; // the next two sweeps measure the ratio afresh
+                change = Double.NaN;
+            }
+            lastChange = change;
+            lastRatio = ratio;
+        }
+        return false;
+    }
+
+    // Mutable-by-copy layout under search, kept in primitive arrays
+    private static final class Candidate {
+        final int size;
+        final int lastIndex;
+        int[] heads;
+        int[] tails;
+        int[] starts;
+        int[] ends;
+        double mean;
+        double stdDev;
+        double cost = Double.POSITIVE_INFINITY;
+        double[] first;  // E[T] per cell once scored, the warm start for this candidate's mutations
+        double[] second; // E[T^2] per cell, when the standard deviation is targeted
+
+        Candidate(int size, BoardLayout layout) {
+            this.size = size;
+            this.lastIndex = size * size - 1;
+            List<Snake> snakes = layout.getSnakes();
+            List<Ladder> ladders = layout.getLadders();
+            heads = new int[snakes.size()];
+            tails = new int[snakes.size()];
+            for (int i = 0; i < heads.length; i++) {
+                heads[i] = snakes.get(i).getHead();
+                tails[i] = snakes.get(i).getTail();
+            }
+            starts = new int[ladders.size()];
+            ends = new int[ladders.size()];
+            for (int i = 0; i < starts.length; i++) {
+                starts[i] = ladders.get(i).getStart();
+                ends[i] = ladders.get(i).getEnd();
+            }
+        }
+
+        private Candidate(Candidate other) {
+            this.size = other.size;
+            this.lastIndex = other.lastIndex;
+            this.heads = other.heads.clone();
+            this.tails = other.tails.clone();
+            this.starts = other.starts.clone();
+            this.ends = other.ends.clone();
+        }
+
+        Candidate mutate(SplittableRandom random) {
+            Candidate c = new Candidate(this);
+            boolean[] taken = c.takenCells();
+            int gap = RandomDifficultyBase.minGap(size);
+            int minHead = RandomDifficultyBase.minHead(size);
+            int maxStart = lastIndex - 1 - gap;
+            switch (random.nextInt(6)) {
+                case 0: // move a snake
+                    if (c.heads.length > 0) {
+                        int i = random.nextInt(c.heads.length);
+                        taken[c.heads[i]] = false;
+                        int head = freeCell(minHead, lastIndex - 1, taken, random);
+                        if (head < 0) head = c.heads[i];
+                        c.heads[i] = head;
+                        c.tails[i] = 1 + random.nextInt(head - gap);
+                    }
+                    break;
+                case 1: // move a ladder
+                    if (c.starts.length > 0) {
+                        int i = random.nextInt(c.starts.length);
+                        taken[c.starts[i]] = false;
+                        int start = freeCell(1, maxStart, taken, random);
+                        if (start < 0) start = c.starts[i];
+                        c.starts[i] = start;
+                        c.ends[i] = start + gap + random.nextInt(lastIndex - start - gap);
+                    }
+                    break;
+                case 2: { // add a snake
+                    int head = freeCell(minHead, lastIndex - 1, taken, random);
+                    if (head >= 0) {
+                        c.heads = Arrays.copyOf(c.heads, c.heads.length + 1);
+                        c.tails = Arrays.copyOf(c.tails, c.tails.length + 1);
+                        c.heads[c.heads.length - 1] = head;
+                        c.tails[c.tails.length - 1] = 1 + random.nextInt(head - gap);
+                    }
+                    break;
+                }
+                case 3: { // add a ladder
+                    int start = freeCell(1, maxStart, taken, random);
+                    if (start >= 0) {
+                        c.starts = Arrays.copyOf(c.starts, c.starts.length + 1);
+                        c.ends = Arrays.copyOf(c.ends, c.ends.length + 1);
+                        c.starts[c.starts.length - 1] = start;
+                        c.ends[c.ends.length - 1] = start + gap + random.nextInt(lastIndex - start - gap);
+                    }
+                    break;
+                }
+                case 4: // remove a snake
+                    if (c.heads.length > 0) {
+                        int i = random.nextInt(c.heads.length);
+                        c.heads = removeAt(c.heads, i);
+                        c.tails = removeAt(c.tails, i);
+                    }
+                    break;
+                default: // remove a ladder
+                    if (c.starts.length > 0) {
+                        int i = random.nextInt(c.starts.length);
+                        c.starts = removeAt(c.starts, i);
+                        c.ends = removeAt(c.ends, i);
+                    }
+                    break;
+            }
+            return c;
+        }
+
+        private boolean[] takenCells() {
+            boolean[] taken = new boolean[lastIndex + 1];
+            for (int h : heads) taken[h] = true;
+            for (int s : starts) taken[s] = true;
+            return taken;
+        }
+
+        // A random untaken cell in [lo, hi], or -1 after a bounded number of misses
+        private static int freeCell(int lo, int hi, boolean[] taken, SplittableRandom random) {
+            if (hi < lo) return -1;
+            for (int attempt = 0; attempt < PLACEMENT_TRIES; attempt++) {
+                int cell = lo + random.nextInt(hi - lo + 1);
+                if (!taken[cell]) {
+                    taken[cell] = true;
+                    return cell;
+                }
+            }
+            return -1;
+        }
+
+        private static int[] removeAt(int[] values, int i) {
+            int[] out = new int[values.length - 1];
+            System.arraycopy(values, 0, out, 0, i);
+            System.arraycopy(values, i + 1, out, i, values.length - i - 1);
+            return out;
+        }
+
+        int[] jump() {
+            int[] jump = new int[lastIndex + 1];
+            for (int cell = 0; cell <= lastIndex; cell++) jump[cell] = cell;
+            for (int i = 0; i < heads.length; i++) jump[heads[i]] = tails[i];
+            for (int i = 0; i < starts.length; i++) jump[starts[i]] = ends[i];
+            return jump;
+        }
+
+        Board toBoard() {
+            BoardLayout layout = toLayout();
+            return new Board(size, layout.getSnakes(), layout.getLadders());
+        }
+
+        BoardLayout toLayout() {
+            List<Snake> snakes = new ArrayList<>(heads.length);
+            for (int i = 0; i < heads.length; i++) snakes.add(new Snake(heads[i], tails[i]));
+            List<Ladder> ladders = new ArrayList<>(starts.length);
+            for (int i = 0; i < starts.length; i++) ladders.add(new Ladder(starts[i], ends[i]));
+            return new BoardLayout(snakes, ladders);
+        }
+    }
+}
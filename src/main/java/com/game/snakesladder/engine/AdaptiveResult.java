@@ -0,0 +1,109 @@
+package com.game.snakesladder.engine;
+
+import com.game.snakesladder.analytics.RunningStats;
+import com.game.snakesladder.engine.AdaptiveSimulator.Metric;
+
+// Outcome of an AdaptiveSimulator run: per-metric estimate and confidence interval, plus how much the variance
+// reduction saved. The speedup compares the observed spread of replicate means with the spread they would have
+// if the same games had been played independently (game variance / games per replicate).
+public class AdaptiveResult {
+    private final double[] means;
+    private final double[] halfWidths;
+    private final double[] targets;
+    private final double[] speedups;
+    private final long plainGames;
+    private final long games;
+    private final long replicates;
+    private final boolean converged;
+    private final long rejectedBoards;
+    private final long elapsedNanos;
+
+    AdaptiveResult(RunningStats[] byReplicate, RunningStats[] byGame, double[] targets, double z, long games,
+                   int gamesPerReplicate, boolean converged, long rejectedBoards, long elapsedNanos) {
+        int metrics = byReplicate.length;
+        this.means = new double[metrics];
+        this.halfWidths = new double[metrics];
+        this.speedups = new double[metrics];
+        this.targets = targets;
+        long plain = 0;
+        for (int m = 0; m < metrics; m++) {
+            means[m] = byReplicate[m].getMean();
+            halfWidths[m] = byReplicate[m].halfWidth(z);
+            double independent = byGame[m].getVariance() / gamesPerReplicate;
+            double observed = byReplicate[m].getVariance();
+            speedups[m] = observed > 0 ? independent / observed : 1.0; // constant metric: nothing to reduce
+            if (!Double.isNaN(targets[m])) {
+                // Independent games a plain run needs for this target: (z * sigma / halfWidth)^2
+                double needed = Math.ceil(z * z * byGame[m].getVariance() / (targets[m] * targets[m]));
+                if (needed > plain) plain = (long) needed;
+            }
+        }
+        this.plainGames = plain;
+        this.games = games;
+        this.replicates = byReplicate[0].getCount();
+        this.converged = converged;
+        this.rejectedBoards = rejectedBoards;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public double getMean(Metric metric) {
+        return means[metric.ordinal()];
+    }
+
+    public double getHalfWidth(Metric metric) {
+        return halfWidths[metric.ordinal()];
+    }
+
+    // NaN if the metric had no target
+    public double getTarget(Metric metric) {
+        return targets[metric.ordinal()];
+    }
+
+    // Variance reduction factor for one metric; ~1 without CRN or antithetic turns
+    public double getSpeedup(Metric metric) {
+        return speedups[metric.ordinal()];
+    }
+
+    // Games a plain (independent) run would need to reach every target, estimated from the per-game variance
+    public long getPlainGamesEstimate() {
+        return plainGames;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getReplicates() {
+        return replicates;
+    }
+
+    // False if maxGames ran out before every target was reached
+    public boolean isConverged() {
+        return converged;
+    }
+
+    // Strategy runs only: generated layouts skipped because a token could get trapped on them
+    public long getRejectedBoards() {
+        return rejectedBoards;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("games=").append(games)
+                .append(" replicates=").append(replicates)
+                .append(" converged=").append(converged)
+                .append(" plainGamesEstimate=").append(plainGames)
+                .append(" rejectedBoards=").append(rejectedBoards);
+        for (Metric metric : Metric.values()) {
+            int m = metric.ordinal();
+            sb.append(' ').append(metric).append('=')
+                    .append(String.format("%.4f+-%.4f (x%.2f)", means[m], halfWidths[m], speedups[m]));
+        }
+        return sb.toString();
+    }
+}
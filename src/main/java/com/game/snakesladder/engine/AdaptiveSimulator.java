@@ -0,0 +1,276 @@
+package com.game.snakesladder.engine;
+
+import com.game.snakesladder.analytics.GameLengthSolver;
+import com.game.snakesladder.analytics.RunningStats;
+import com.game.snakesladder.dice.Die;
+import com.game.snakesladder.dice.StandardDie;
+import com.game.snakesladder.difficulty.DifficultyStrategy;
+import com.game.snakesladder.factory.BoardFactory;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.rules.RulesEngine;
+import com.game.snakesladder.rules.TurnOutcome;
+import com.game.snakesladder.state.GameStateStore;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+
+// Monte Carlo that plays games until the requested metrics are pinned down to a target confidence-interval
+// half-width, instead of for a fixed count. Games are grouped into replicates; Welford statistics over
+// replicate means are checked after every batch of replicates, and the run stops once every targeted metric is
+// narrow enough (or maxGames is reached).
+//
+// Every seat rolls from its own Die, one roll per turn: a die with one face per equally likely way the turn's roll
+// loop can go (216 for a d6: x, 6 x, 6 6 x, 6 6 6), ranked by how far the turn moves the token. Variance reduction
+// changes what a replicate is:
+//  - common random numbers: the same seat streams are replayed once per rotation (seat i takes stream i + r),
+//    so which stream is luckier cancels out of the seat-1 win rate instead of adding noise to it
+//  - antithetic turns: every game is replayed with each turn's rank reversed, so a revoked turn pairs with
+//    6 6 5 and a 1 with a 5 or a six chain, pairing fast and slow games
+// Each replicate is still an unbiased sample, so the estimates match a plain run; only the spread shrinks.
+public class AdaptiveSimulator {
+    public enum Metric {
+        MEAN_TURNS,        // turns until someone wins
+        SEAT_ONE_WIN_RATE, // fraction of games won by the first seat
+        KILL_RATE          // kills per game
+    }
+
+    private static final int DEFAULT_FACES = 6;
+    private static final int MAX_FACES = 20; // turn die of at most 8,000 faces, looked up directly
+    private static final int DEFAULT_BATCH_REPLICATES = 64;
+    private static final long DEFAULT_MAX_GAMES = 10_000_000L;
+    private static final double DEFAULT_CONFIDENCE = 0.95;
+
+    private final Board fixedBoard; // null: a new board from the factory for every replicate
+    private final RulesEngine fixedRules;
+    private final BoardFactory factory;
+    private final int boardSize;
+    private final int players;
+    private final SplittableRandom seeds;
+    private final GameStateStore state;
+    private final long[] seatSeeds;
+    private final Die[] seatDice;
+    // Roll sequence for each turn-die face (0-based), ranked by distance; likelier sequences fill more faces
+    private int[][] turnRolls;
+    private int faces = DEFAULT_FACES;
+    private final double[] targets = new double[Metric.values().length];
+    private double confidence = DEFAULT_CONFIDENCE;
+    private int batchReplicates = DEFAULT_BATCH_REPLICATES;
+    private long maxGames = DEFAULT_MAX_GAMES;
+    private boolean commonRandomNumbers;
+    private boolean antithetic;
+    private int lastWinner;
+    private int lastKills;
+    private long rejectedBoards;
+
+    // Throws IllegalArgumentException if the board cannot always be finished; a game on it could run forever
+    public AdaptiveSimulator(Board board, int players, long seed) {
+        this(board, null, board.getSize(), players, seed);
+        try {
+            GameLengthSolver.momentsFor(board); // cached on the board
+        } catch (IllegalStateException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    // Statistics over the strategy's boards: every replicate plays on a freshly generated layout. Layouts a token
+    // can get trapped on are skipped, so the estimates are over finishable boards only.
+    public AdaptiveSimulator(DifficultyStrategy strategy, int boardSize, int players, long seed) {
+        this(null, new BoardFactory(strategy), boardSize, players, seed);
+    }
+
+    private AdaptiveSimulator(Board board, BoardFactory factory, int boardSize, int players, long seed) {
+        if (players < 2) {
+            throw new IllegalArgumentException("At least two players required");
+        }
+        this.fixedBoard = board;
+        this.fixedRules = board == null ? null : RulesEngine.withTurnTable(board);
+        this.factory = factory;
+        this.boardSize = boardSize;
+        this.players = players;
+        this.seeds = new SplittableRandom(seed);
+        this.state = new GameStateStore(1, players, boardSize * boardSize - 1);
+        this.seatSeeds = new long[players];
+        this.seatDice = new Die[players];
+        Arrays.fill(targets, Double.NaN);
+        buildTurnDie(DEFAULT_FACES);
+    }
+
+    // Die size; the rules' six chain only exists for 6 or more faces. A fixed board is re-screened for this die.
+    public AdaptiveSimulator withFaces(int faces) {
+        if (faces < 2 || faces > MAX_FACES) {
+            throw new IllegalArgumentException("Faces must be between 2 and " + MAX_FACES);
+        }
+        if (fixedBoard != null && !new GameLengthSolver(fixedBoard, faces).isFinishable()) {
+            throw new IllegalArgumentException("Board cannot always be finished with a " + faces + "-sided die");
+        }
+        this.faces = faces;
+        buildTurnDie(faces);
+        return this;
+    }
+
+    private void buildTurnDie(int faces) {
+        int[][] sequences = GameLengthSolver.rollSequences(faces);
+        Integer[] order = new Integer[sequences.length];
+        for (int k = 0; k < order.length; k++) order[k] = k;
+        Arrays.sort(order, Comparator.comparingInt(k -> advance(sequences[k])));
+        int depth = faces >= 6 ? 3 : 1; // rolls a turn can take
+        int turnFaces = 1;
+        for (int i = 0; i < depth; i++) turnFaces *= faces;
+        turnRolls = new int[turnFaces][];
+        int face = 0;
+        for (Integer k : order) {
+            int weight = 1;
+            for (int i = sequences[k].length; i < depth; i++) weight *= faces;
+            Arrays.fill(turnRolls, face, face + weight, sequences[k]);
+            face += weight;
+        }
+    }
+
+    // Cells a roll sequence moves the token on an open board; a revoked turn moves it nowhere
+    private static int advance(int[] sequence) {
+        if (sequence.length == 3 && sequence[2] == 6) return 0;
+        int sum = 0;
+        for (int roll : sequence) sum += roll;
+        return sum;
+    }
+
+    // Stop once the metric's confidence interval is mean +- halfWidth or narrower
+    public AdaptiveSimulator withTarget(Metric metric, double halfWidth) {
+        if (!(halfWidth > 0)) {
+            throw new IllegalArgumentException("Target half-width must be > 0");
+        }
+        targets[metric.ordinal()] = halfWidth;
+        return this;
+    }
+
+    public AdaptiveSimulator withConfidence(double confidence) {
+        RunningStats.zFor(confidence); // validates
+        this.confidence = confidence;
+        return this;
+    }
+
+    // Replicates played between convergence checks; also the minimum before the run may stop
+    public AdaptiveSimulator withBatchSize(int replicates) {
+        if (replicates < 2) {
+            throw new IllegalArgumentException("Batch size must be >= 2");
+        }
+        this.batchReplicates = replicates;
+        return this;
+    }
+
+    public AdaptiveSimulator withMaxGames(long maxGames) {
+        if (maxGames < 1) {
+            throw new IllegalArgumentException("Max games must be >= 1");
+        }
+        this.maxGames = maxGames;
+        return this;
+    }
+
+    public AdaptiveSimulator withCommonRandomNumbers(boolean enabled) {
+        this.commonRandomNumbers = enabled;
+        return this;
+    }
+
+    public AdaptiveSimulator withAntithetic(boolean enabled) {
+        this.antithetic = enabled;
+        return this;
+    }
+
+    public AdaptiveResult run() {
+        boolean targeted = false;
+        for (double t : targets) targeted |= !Double.isNaN(t);
+        if (!targeted) {
+            throw new IllegalArgumentException("Set at least one target with withTarget");
+        }
+        long start = System.nanoTime();
+        rejectedBoards = 0;
+        int metrics = targets.length;
+        RunningStats[] byReplicate = new RunningStats[metrics];
+        RunningStats[] byGame = new RunningStats[metrics];
+        for (int m = 0; m < metrics; m++) {
+            byReplicate[m] = new RunningStats();
+            byGame[m] = new RunningStats();
+        }
+        int rotations = commonRandomNumbers ? players : 1;
+        int mirrors = antithetic ? 2 : 1;
+        int gamesPerReplicate = rotations * mirrors;
+        double z = RunningStats.zFor(confidence);
+        double[] sums = new double[metrics];
+        long games = 0;
+        boolean converged = false;
+        while (!converged && games + gamesPerReplicate <= maxGames) {
+            for (int b = 0; b < batchReplicates && games + gamesPerReplicate <= maxGames; b++) {
+                Board board = fixedBoard != null ? fixedBoard : drawPlayableBoard();
+                RulesEngine rules = fixedBoard != null ? fixedRules : new RulesEngine(board);
+                for (int seat = 0; seat < players; seat++) {
+                    seatSeeds[seat] = seeds.nextLong();
+                }
+                Arrays.fill(sums, 0.0);
+                for (int mirror = 0; mirror < mirrors; mirror++) {
+                    for (int rotation = 0; rotation < rotations; rotation++) {
+                        for (int seat = 0; seat < players; seat++) {
+                            seatDice[seat] = new StandardDie(turnRolls.length, seatSeeds[(seat + rotation) % players]);
+                        }
+                        int turns = playGame(rules, mirror == 1);
+                        record(byGame, sums, Metric.MEAN_TURNS, turns);
+                        record(byGame, sums, Metric.SEAT_ONE_WIN_RATE, lastWinner == 0 ? 1 : 0);
+                        record(byGame, sums, Metric.KILL_RATE, lastKills);
+                    }
+                }
+                for (int m = 0; m < metrics; m++) {
+                    byReplicate[m].add(sums[m] / gamesPerReplicate);
+                }
+                games += gamesPerReplicate;
+            }
+            converged = true;
+            for (int m = 0; m < metrics; m++) {
+                if (!Double.isNaN(targets[m]) && !(byReplicate[m].halfWidth(z) <= targets[m])) {
+                    converged = false;
+                }
+            }
+        }
+        return new AdaptiveResult(byReplicate, byGame, targets.clone(), z, games, gamesPerReplicate, converged,
+                rejectedBoards, System.nanoTime() - start);
+    }
+
+    private Board drawPlayableBoard() {
+        while (true) {
+            Board board = factory.create(boardSize, seeds.nextLong());
+            // The reachability check solveMoments() throws on, without paying for the moments of a throwaway board
+            if (new GameLengthSolver(board, faces).isFinishable()) {
+                return board;
+            }
+            rejectedBoards++;
+        }
+    }
+
+    private static void record(RunningStats[] byGame, double[] sums, Metric metric, double value) {
+        byGame[metric.ordinal()].add(value);
+        sums[metric.ordinal()] += value;
+    }
+
+    // BatchSimulator's turn loop with one turn-die roll per turn; returns the turn count, winner and kills land
+    // in fields
+    private int playGame(RulesEngine rules, boolean mirrored) {
+        state.reset(0);
+        int kills = 0;
+        while (true) {
+            int seat = state.getCurrentSeat(0);
+            int turns = state.incrementTurns(0);
+            int face = seatDice[seat].roll() - 1;
+            int[] rolls = turnRolls[mirrored ? turnRolls.length - 1 - face : face];
+            int outcome = rules.resolveTurn(state.getPosition(0, seat), rolls, rolls.length);
+            if (!TurnOutcome.isRevoked(outcome)) {
+                if (state.moveTo(0, seat, TurnOutcome.position(outcome)) >= 0) kills++;
+                if (TurnOutcome.isWon(outcome)) {
+                    lastWinner = seat;
+                    lastKills = kills;
+                    return turns;
+                }
+                if (TurnOutcome.getsExtraTurn(outcome)) continue;
+            }
+            state.advanceSeat(0);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.game.snakesladder.engine;
+
+import com.game.snakesladder.dice.Die;
+import com.game.snakesladder.metrics.Metrics;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.rules.RulesEngine;
+import com.game.snakesladder.rules.TurnOutcome;
+import com.game.snakesladder.state.GameStateStore;
+
+// Headless counterpart of GameEngine.playInteractive: same turn loop and kill rule, no console I/O
+public class BatchSimulator {
+    // playGame's result when the turn limit ran out first (a board a token can get trapped on never finishes)
+    public static final int UNFINISHED = -1;
+    public static final int DEFAULT_MAX_TURNS = 1_000_000;
+    private static final int ROLL_BUFFER_SIZE = 4096;
+
+    private final Board board;
+    private final int playerCount;
+    private final Die die;
+    private final RulesEngine rulesEngine;
+    private final GameStateStore state;
+    private final int[] rolls = new int[3]; // a turn is at most three rolls (6, 6, x)
+    private final int[] rollBuffer = new int[ROLL_BUFFER_SIZE]; // refilled in bulk through Die.rollInto
+    private int rollCursor = ROLL_BUFFER_SIZE;
+    private int maxTurns = DEFAULT_MAX_TURNS;
+    private GameEventListener listener = GameEventListener.NONE;
+    private long revokedTally; // published to Metrics once per game, see flushMetrics
+    private long killTally;
+
+    public BatchSimulator(Board board, int playerCount, Die die) {
+        if (playerCount < 2) {
+            throw new IllegalArgumentException("At least two players required");
+        }
+        this.board = board;
+        this.playerCount = playerCount;
+        this.die = die;
+        this.rulesEngine = RulesEngine.withTurnTable(board);
+        this.state = new GameStateStore(1, playerCount, board.getLastIndex());
+    }
+
+    public void setListener(GameEventListener listener) {
+        this.listener = listener == null ? GameEventListener.NONE : listener;
+    }
+
+    // Turns (all seats together) after which a game is abandoned as unfinished
+    public void setMaxTurns(int maxTurns) {
+        if (maxTurns < 1) {
+            throw new IllegalArgumentException("Max turns must be >= 1");
+        }
+        this.maxTurns = maxTurns;
+    }
+
+    public SimulationResult run(int games) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Game count must be >= 0");
+        }
+        SimulationResult result = new SimulationResult(playerCount);
+        for (int g = 0; g < games; g++) {
+            playGame(result);
+        }
+        return result;
+    }
+
+    // Plays one game to completion and returns the winning seat, or UNFINISHED if it hit the turn limit
+    public int playGame(SimulationResult result) {
+        state.reset(0);
+        listener.onGameStart(board, playerCount);
+        while (true) {
+            int currentIdx = state.getCurrentSeat(0);
+            if (state.getTurns(0) == maxTurns) {
+                result.recordUnfinished();
+                if (Metrics.ENABLED) flushMetrics(maxTurns, false);
+                listener.onGameUnfinished(maxTurns);
+                return UNFINISHED;
+            }
+            int turns = state.incrementTurns(0);
+            int rollCount = rollTurn();
+            int start = state.getPosition(0, currentIdx);
+            int outcome = rulesEngine.resolveTurn(start, rolls, rollCount);
+            boolean revoked = TurnOutcome.isRevoked(outcome);
+            result.recordTurn(rollCount, revoked);
+            if (Metrics.ENABLED && revoked) revokedTally++;
+            listener.onTurn(currentIdx, start, rolls, rollCount, outcome);
+            if (!revoked) {
+                // Kill rule: the occupancy index tells us directly who (if anyone) stood on the landing cell
+                int position = TurnOutcome.position(outcome);
+                int victim = state.moveTo(0, currentIdx, position);
+                if (victim >= 0) {
+                    result.recordKill(currentIdx);
+                    if (Metrics.ENABLED) killTally++;
+                    listener.onKill(currentIdx, victim, position);
+                }
+                if (TurnOutcome.isWon(outcome)) {
+                    state.markWon(0, currentIdx);
+                    result.recordGame(currentIdx, turns);
+                    if (Metrics.ENABLED) flushMetrics(turns, true);
+                    listener.onGameEnd(currentIdx, turns);
+                    return currentIdx;
+                }
+                if (TurnOutcome.getsExtraTurn(outcome)) {
+                    continue;
+                }
+            }
+            state.advanceSeat(0);
+        }
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    private void flushMetrics(int turns, boolean finished) {
+        if (finished) Metrics.GAMES.increment();
+        Metrics.TURNS.add(turns);
+        Metrics.REVOKED_TURNS.add(revokedTally);
+        Metrics.KILLS.add(killTally);
+        revokedTally = killTally = 0;
+        rulesEngine.flushMetrics();
+    }
+
+    // Mirrors the interactive roll loop: keep rolling on a 6, stop after the third
+    private int rollTurn() {
+        int count = 0;
+        int sixesInRow = 0;
+        while (true) {
+            if (rollCursor == ROLL_BUFFER_SIZE) {
+                die.rollInto(rollBuffer, 0, ROLL_BUFFER_SIZE);
+                rollCursor = 0;
+            }
+            int r = rollBuffer[rollCursor++];
+            rolls[count++] = r;
+            if (r != 6 || ++sixesInRow == 3) {
+                return count;
+            }
+        }
+    }
+}
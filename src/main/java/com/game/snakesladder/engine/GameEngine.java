@@ -1,11 +1,13 @@
 package com.game.snakesladder.engine;
 
 import com.game.snakesladder.dice.Die;
+import com.game.snakesladder.metrics.Metrics;
 import com.game.snakesladder.model.Board;
 import com.game.snakesladder.model.Player;
 import com.game.snakesladder.rules.RulesEngine;
 import com.game.snakesladder.rules.TurnOutcome;
 import com.game.snakesladder.render.BoardRenderer;
+import com.game.snakesladder.snapshot.GameSnapshot;
 
 import java.util.*;
 
@@ -15,19 +17,28 @@ public class GameEngine {
     private final Die die;
     private final RulesEngine rulesEngine;
     private final BoardRenderer renderer;
+    private final OptionalLong seed;
+    private final int[] rolls = new int[3]; // a turn is at most three rolls (6, 6, x)
+    private GameEventListener listener = GameEventListener.NONE;
+    private int currentIdx; // whose turn it is; a field so a game in progress can be snapshotted
+    private int turns;
+    private int winner = -1;
+    private boolean consoleOutput = true;
 
     public GameEngine(Board board, List<Player> players, Die die) {
-        if (players == null || players.size() < 2) {
-            throw new IllegalArgumentException("At least two players required");
-        }
-        this.board = board;
-        this.players = new ArrayList<>(players);
-        this.die = die;
-        this.rulesEngine = new RulesEngine(board);
-        this.renderer = null;
+        this(board, players, die, null, OptionalLong.empty());
     }
 
     public GameEngine(Board board, List<Player> players, Die die, BoardRenderer renderer) {
+        this(board, players, die, renderer, OptionalLong.empty());
+    }
+
+    // seed is the value the board and die were derived from, reported so the game can be replayed
+    public GameEngine(Board board, List<Player> players, Die die, BoardRenderer renderer, long seed) {
+        this(board, players, die, renderer, OptionalLong.of(seed));
+    }
+
+    private GameEngine(Board board, List<Player> players, Die die, BoardRenderer renderer, OptionalLong seed) {
         if (players == null || players.size() < 2) {
             throw new IllegalArgumentException("At least two players required");
         }
@@ -36,36 +47,91 @@ public class GameEngine {
         this.die = die;
         this.rulesEngine = new RulesEngine(board);
         this.renderer = renderer;
+        this.seed = seed;
+    }
+
+    // Resumes a saved game, keeping its seed; pass a fresh die, dice state is not part of the snapshot
+    public static GameEngine restore(GameSnapshot snapshot, Die die, BoardRenderer renderer) {
+        List<Player> players = new ArrayList<>(snapshot.getPlayerCount());
+        for (int i = 0; i < snapshot.getPlayerCount(); i++) {
+            Player p = new Player(snapshot.names.length == 0 ? "Player " + (i + 1) : snapshot.names[i]);
+            p.setPosition(snapshot.positions[i]);
+            players.add(p);
+        }
+        GameEngine engine = new GameEngine(snapshot.board, players, die, renderer, snapshot.seed);
+        engine.currentIdx = snapshot.currentSeat;
+        engine.turns = snapshot.turns;
+        engine.winner = snapshot.winner;
+        return engine;
+    }
+
+    // Safe between turns: a turn's sixes are all rolled before control returns, so nothing is ever pending
+    public GameSnapshot snapshot() {
+        String[] names = new String[players.size()];
+        int[] positions = new int[players.size()];
+        for (int i = 0; i < players.size(); i++) {
+            names[i] = players.get(i).getName();
+            positions[i] = players.get(i).getPosition();
+        }
+        return new GameSnapshot(0, board, names, positions, currentIdx, turns, winner, new int[0], seed);
+    }
+
+    public OptionalLong getSeed() {
+        return seed;
+    }
+
+    public void setListener(GameEventListener listener) {
+        this.listener = listener == null ? GameEventListener.NONE : listener;
+    }
+
+    // false: playInteractive prints and renders nothing itself and only raises listener events, so console I/O
+    // can run off the game thread (e.g. an EventRing with a ConsoleEventPrinter consumer)
+    public void setConsoleOutput(boolean consoleOutput) {
+        this.consoleOutput = consoleOutput;
     }
 
+    // Headless mode: plays the given number of games without console output and returns aggregates
+    public static SimulationResult simulate(Board board, int playerCount, Die die, int games) {
+        return new BatchSimulator(board, playerCount, die).run(games);
+    }
+
+    // A null scanner rolls without waiting for Enter
     public void playInteractive(Scanner scanner) {
-        boolean won = false;
-        int currentIdx = 0;
+        if (consoleOutput) seed.ifPresent(s -> System.out.println("Game seed: " + s));
+        boolean won = winner >= 0;
+        if (turns == 0) {
+            listener.onGameStart(board, players.size());
+        }
         while (!won) {
             Player current = players.get(currentIdx);
-            if (renderer != null) {
-                System.out.println("Current board:");
-                renderer.render(board, players);
+            if (consoleOutput) {
+                if (renderer != null) {
+                    System.out.println("Current board:");
+                    renderer.render(board, players);
+                }
+                System.out.println("\n" + current.getName() + "'s turn. Position: " + current.getPosition());
+            }
+            if (scanner != null) {
+                if (consoleOutput) System.out.print("Press Enter to roll...");
+                scanner.nextLine();
             }
-            System.out.println("\n" + current.getName() + "'s turn. Position: " + current.getPosition());
-            System.out.print("Press Enter to roll...");
-            scanner.nextLine();
+            turns++;
 
             // Roll logic with extra six and revoke handled by rules engine via batched rolls
-            List<Integer> rolls = new ArrayList<>();
+            int rollCount = 0;
             boolean rolling = true;
             int sixesInRow = 0;
             while (rolling) {
                 int r = die.roll();
-                System.out.println("Rolled: " + r);
-                rolls.add(r);
+                if (consoleOutput) System.out.println("Rolled: " + r);
+                rolls[rollCount++] = r;
                 if (r == 6) {
                     sixesInRow++;
                     if (sixesInRow == 3) {
                         // Stop rolling, let rules engine revoke
                         rolling = false;
                     } else {
-                        System.out.println("Got a 6! Extra roll.");
+                        if (consoleOutput) System.out.println("Got a 6! Extra roll.");
                         // continue loop for extra roll
                     }
                 } else {
@@ -73,31 +139,45 @@ public class GameEngine {
                 }
             }
 
-            TurnOutcome outcome = rulesEngine.applyTurn(current.getPosition(), rolls.stream().mapToInt(Integer::intValue).toArray());
-            if (outcome.turnRevoked) {
-                System.out.println(outcome.message);
+            int startPosition = current.getPosition();
+            int outcome = rulesEngine.resolveTurn(startPosition, rolls, rollCount);
+            String message = consoleOutput ? rulesEngine.describeTurn(startPosition, rolls, rollCount) : "";
+            listener.onTurn(currentIdx, startPosition, rolls, rollCount, outcome);
+            if (Metrics.ENABLED) {
+                Metrics.TURNS.increment();
+                if (TurnOutcome.isRevoked(outcome)) Metrics.REVOKED_TURNS.increment();
+                rulesEngine.flushMetrics();
+            }
+            if (TurnOutcome.isRevoked(outcome)) {
+                if (consoleOutput) System.out.println(message);
                 // no movement
             } else {
-                current.setPosition(outcome.finalPosition);
-                System.out.println(outcome.message + "New position: " + current.getPosition());
+                current.setPosition(TurnOutcome.position(outcome));
+                if (consoleOutput) System.out.println(message + "New position: " + current.getPosition());
                 // Kill rule
-                handleKillIfAny(current);
-                if (outcome.won) {
-                    System.out.println("\nWinner: " + current.getName());
-                    if (renderer != null) {
-                        System.out.println("Final board:");
-                        renderer.render(board, players);
+                handleKillIfAny(currentIdx);
+                if (TurnOutcome.isWon(outcome)) {
+                    winner = currentIdx;
+                    if (Metrics.ENABLED) Metrics.GAMES.increment();
+                    listener.onGameEnd(currentIdx, turns);
+                    if (consoleOutput) {
+                        System.out.println("\nWinner: " + current.getName());
+                        seed.ifPresent(s -> System.out.println("Replay with seed " + s));
+                        if (renderer != null) {
+                            System.out.println("Final board:");
+                            renderer.render(board, players);
+                        }
                     }
                     won = true;
                     break;
                 }
-                if (outcome.getsExtraTurn) {
-                    System.out.println(current.getName() + " gets an extra turn!");
+                if (TurnOutcome.getsExtraTurn(outcome)) {
+                    if (consoleOutput) System.out.println(current.getName() + " gets an extra turn!");
                     // do not advance index
                     continue;
                 }
             }
-            if (renderer != null) {
+            if (consoleOutput && renderer != null) {
                 System.out.println("Board after move:");
                 renderer.render(board, players);
             }
@@ -105,12 +185,16 @@ public class GameEngine {
         }
     }
 
-    private void handleKillIfAny(Player actor) {
-        for (Player p : players) {
+    private void handleKillIfAny(int actorIdx) {
+        Player actor = players.get(actorIdx);
+        for (int i = 0; i < players.size(); i++) {
+            Player p = players.get(i);
             if (p == actor) continue;
             if (p.getPosition() == actor.getPosition() && actor.getPosition() != 0) {
-                System.out.println(actor.getName() + " killed " + p.getName() + "! Sending to start.");
+                if (consoleOutput) System.out.println(actor.getName() + " killed " + p.getName() + "! Sending to start.");
                 p.setPosition(0);
+                listener.onKill(actorIdx, i, actor.getPosition());
+                if (Metrics.ENABLED) Metrics.KILLS.increment();
             }
         }
     }
@@ -0,0 +1,27 @@
+package com.game.snakesladder.engine;
+
+import com.game.snakesladder.model.Board;
+
+// Observer for game events raised by GameEngine and BatchSimulator. Turn outcomes are the packed ints
+// produced by RulesEngine.resolveTurn; the rolls array is reused between calls, so copy it if you keep it.
+public interface GameEventListener {
+    GameEventListener NONE = new GameEventListener() {
+    };
+
+    default void onGameStart(Board board, int playerCount) {
+    }
+
+    default void onTurn(int seat, int startPosition, int[] rolls, int rollCount, int outcome) {
+    }
+
+    // Fired after the turn that caused it; the kill happened on the killer's new position
+    default void onKill(int killerSeat, int victimSeat, int cell) {
+    }
+
+    default void onGameEnd(int winnerSeat, int turns) {
+    }
+
+    // Fired instead of onGameEnd when a simulation abandons a game at its turn limit
+    default void onGameUnfinished(int turns) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.game.snakesladder.engine;
+
+import com.game.snakesladder.model.Board;
+
+// One roll for every lane of a LockstepSimulator. Lane state is structure-of-arrays: cur is the position of the
+// lane's current seat mid-turn, streak the sixes rolled so far this turn and turnStart where the turn began.
+// The kernel moves each lane by roll[i] and writes flags[i]: 0 while the turn continues (a non-third six that
+// did not win), otherwise TURN_ENDED plus REVOKED/WON and the roll count of the turn shifted by ROLLS_SHIFT.
+public interface LockstepKernel {
+    int TURN_ENDED = 1;
+    int REVOKED = 2;
+    int WON = 4;
+    int ROLLS_SHIFT = 3;
+
+    // Lane counts handed to step are always a multiple of this
+    int width();
+
+    void step(int[] roll, int[] cur, int[] streak, int[] turnStart, int[] flags, int lanes);
+
+    static LockstepKernel scalar(Board board) {
+        return new ScalarLockstepKernel(board);
+    }
+
+    // The Vector API kernel when it was compiled in (-Pvector) and the JVM runs with
+    // --add-modules jdk.incubator.vector, otherwise the scalar kernel
+    static LockstepKernel best(Board board) {
+        try {
+            Class<?> type = Class.forName("com.game.snakesladder.engine.vector.VectorLockstepKernel");
+            return (LockstepKernel) type.getConstructor(Board.class).newInstance(board);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return scalar(board);
+        }
+    }
+
+    // Jump table padded with -1 for the six cells past the end, so an overshoot is a plain load that means "stay"
+    static int[] paddedJumps(Board board, int faces) {
+        int last = board.getLastIndex();
+        int[] jumps = new int[last + faces + 1];
+        for (int i = 0; i < jumps.length; i++) {
+            jumps[i] = i <= last ? board.jumpTarget(i) : -1;
+        }
+        return jumps;
+    }
+}
@@ -0,0 +1,121 @@
+package com.game.snakesladder.engine;
+
+import com.game.snakesladder.dice.Die;
+import com.game.snakesladder.metrics.Metrics;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.state.GameStateStore;
+
+// Plays many independent games of the same board in lockstep: every step rolls once for each lane and lets a
+// LockstepKernel move all lanes together; only lanes whose turn just ended drop to the scalar bookkeeping
+// (kill rule, seat rotation, win). A lane that finishes a game starts the next one until the batch is done.
+// Same rules and statistics as BatchSimulator, but rolls are dealt across lanes, so individual games differ.
+// Six-sided dice only, like TurnTable. No GameEventListener: interleaved games have no meaningful event order.
+public class LockstepSimulator {
+    public static final int DEFAULT_LANES = 256;
+
+    private final int playerCount;
+    private final Die die;
+    private final LockstepKernel kernel;
+    private final int lanes;
+    private final GameStateStore state;
+    private final int[] roll;
+    private final int[] cur;
+    private final int[] streak;
+    private final int[] turnStart;
+    private final int[] flags;
+    private final boolean[] active;
+
+    public LockstepSimulator(Board board, int playerCount, Die die) {
+        this(board, playerCount, die, LockstepKernel.best(board), DEFAULT_LANES);
+    }
+
+    public LockstepSimulator(Board board, int playerCount, Die die, LockstepKernel kernel, int lanes) {
+        if (playerCount < 2) {
+            throw new IllegalArgumentException("At least two players required");
+        }
+        if (lanes < 1) {
+            throw new IllegalArgumentException("At least one lane required");
+        }
+        int width = kernel.width();
+        this.lanes = (lanes + width - 1) / width * width;
+        this.playerCount = playerCount;
+        this.die = die;
+        this.kernel = kernel;
+        this.state = new GameStateStore(this.lanes, playerCount, board.getLastIndex());
+        this.roll = new int[this.lanes];
+        this.cur = new int[this.lanes];
+        this.streak = new int[this.lanes];
+        this.turnStart = new int[this.lanes];
+        this.flags = new int[this.lanes];
+        this.active = new boolean[this.lanes];
+    }
+
+    public int getLanes() {
+        return lanes;
+    }
+
+    public LockstepKernel getKernel() {
+        return kernel;
+    }
+
+    public SimulationResult run(int games) {
+        if (games < 0) {
+            throw new IllegalArgumentException("Game count must be >= 0");
+        }
+        SimulationResult result = new SimulationResult(playerCount);
+        int started = 0;
+        for (int lane = 0; lane < lanes; lane++) {
+            active[lane] = started < games;
+            if (active[lane]) started++;
+            startGame(lane);
+        }
+        int finished = 0;
+        long revoked = 0;
+        long kills = 0;
+        while (finished < games) {
+            die.rollInto(roll, 0, lanes);
+            kernel.step(roll, cur, streak, turnStart, flags, lanes);
+            for (int lane = 0; lane < lanes; lane++) {
+                int f = flags[lane];
+                if (f == 0 || !active[lane]) continue;
+                int seat = state.getCurrentSeat(lane);
+                int turns = state.incrementTurns(lane);
+                boolean wasRevoked = (f & LockstepKernel.REVOKED) != 0;
+                result.recordTurn(f >>> LockstepKernel.ROLLS_SHIFT, wasRevoked);
+                if (wasRevoked) {
+                    revoked++;
+                } else if (state.moveTo(lane, seat, cur[lane]) >= 0) {
+                    result.recordKill(seat);
+                    kills++;
+                }
+                if ((f & LockstepKernel.WON) != 0) {
+                    result.recordGame(seat, turns);
+                    finished++;
+                    active[lane] = started < games;
+                    if (active[lane]) started++;
+                    startGame(lane);
+                    continue;
+                }
+                int next = state.advanceSeat(lane);
+                int position = state.getPosition(lane, next);
+                cur[lane] = position;
+                turnStart[lane] = position;
+            }
+        }
+        if (Metrics.ENABLED) {
+            Metrics.GAMES.add(result.getGames());
+            Metrics.TURNS.add(result.getTotalTurns());
+            Metrics.REVOKED_TURNS.add(revoked);
+            Metrics.KILLS.add(kills);
+        }
+        return result;
+    }
+
+    // Idle lanes keep a fresh game too: the kernel steps them anyway and their flags are ignored
+    private void startGame(int lane) {
+        state.reset(lane);
+        cur[lane] = 0;
+        turnStart[lane] = 0;
+        streak[lane] = 0;
+    }
+}
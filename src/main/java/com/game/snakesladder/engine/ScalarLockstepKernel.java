@@ -0,0 +1,47 @@
+package com.game.snakesladder.engine;
+
+import com.game.snakesladder.model.Board;
+
+// Portable lane loop; also the reference the vector kernel must agree with lane for lane
+final class ScalarLockstepKernel implements LockstepKernel {
+    private final int[] jumps;
+    private final int last;
+
+    ScalarLockstepKernel(Board board) {
+        this.jumps = LockstepKernel.paddedJumps(board, 6);
+        this.last = board.getLastIndex();
+    }
+
+    @Override
+    public int width() {
+        return 1;
+    }
+
+    @Override
+    public void step(int[] roll, int[] cur, int[] streak, int[] turnStart, int[] flags, int lanes) {
+        for (int i = 0; i < lanes; i++) {
+            int r = roll[i];
+            boolean six = r == 6;
+            int rolls = streak[i] + 1;
+            if (six && rolls == 3) {
+                cur[i] = turnStart[i];
+                streak[i] = 0;
+                flags[i] = TURN_ENDED | REVOKED | 3 << ROLLS_SHIFT;
+                continue;
+            }
+            int target = jumps[cur[i] + r];
+            int next = target < 0 ? cur[i] : target;
+            cur[i] = next;
+            if (next == last) {
+                streak[i] = 0;
+                flags[i] = TURN_ENDED | WON | rolls << ROLLS_SHIFT;
+            } else if (six) {
+                streak[i] = rolls;
+                flags[i] = 0;
+            } else {
+                streak[i] = 0;
+                flags[i] = TURN_ENDED | rolls << ROLLS_SHIFT;
+            }
+        }
+    }
+}
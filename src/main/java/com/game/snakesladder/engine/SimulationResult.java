@@ -0,0 +1,134 @@
+package com.game.snakesladder.engine;
+
+public class SimulationResult {
+    private final int playerCount;
+    private final long[] winsBySeat;
+    private final long[] killsBySeat;
+    private long games;
+    private long unfinishedGames; // abandoned at the turn limit; not part of games or the turn statistics
+    private long totalTurns;
+    private long totalRolls;
+    private long revokedTurns;
+    private int minTurns = Integer.MAX_VALUE;
+    private int maxTurns;
+
+    public SimulationResult(int playerCount) {
+        if (playerCount < 2) {
+            throw new IllegalArgumentException("At least two players required");
+        }
+        this.playerCount = playerCount;
+        this.winsBySeat = new long[playerCount];
+        this.killsBySeat = new long[playerCount];
+    }
+
+    void recordKill(int killerSeat) {
+        killsBySeat[killerSeat]++;
+    }
+
+    void recordTurn(int rolls, boolean revoked) {
+        totalRolls += rolls;
+        if (revoked) revokedTurns++;
+    }
+
+    void recordUnfinished() {
+        unfinishedGames++;
+    }
+
+    void recordGame(int winnerSeat, int turns) {
+        games++;
+        winsBySeat[winnerSeat]++;
+        totalTurns += turns;
+        if (turns < minTurns) minTurns = turns;
+        if (turns > maxTurns) maxTurns = turns;
+    }
+
+    // Fold another accumulator for the same player count into this one
+    public void merge(SimulationResult other) {
+        if (other.playerCount != playerCount) {
+            throw new IllegalArgumentException("Cannot merge results for different player counts");
+        }
+        for (int i = 0; i < playerCount; i++) {
+            winsBySeat[i] += other.winsBySeat[i];
+            killsBySeat[i] += other.killsBySeat[i];
+        }
+        games += other.games;
+        unfinishedGames += other.unfinishedGames;
+        totalTurns += other.totalTurns;
+        totalRolls += other.totalRolls;
+        revokedTurns += other.revokedTurns;
+        minTurns = Math.min(minTurns, other.minTurns);
+        maxTurns = Math.max(maxTurns, other.maxTurns);
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getUnfinishedGames() {
+        return unfinishedGames;
+    }
+
+    public long getWins(int seat) {
+        return winsBySeat[seat];
+    }
+
+    public double getWinRate(int seat) {
+        return games == 0 ? 0.0 : (double) winsBySeat[seat] / games;
+    }
+
+    public long getKills(int seat) {
+        return killsBySeat[seat];
+    }
+
+    public long getTotalKills() {
+        long total = 0;
+        for (long k : killsBySeat) total += k;
+        return total;
+    }
+
+    public long getTotalTurns() {
+        return totalTurns;
+    }
+
+    public long getTotalRolls() {
+        return totalRolls;
+    }
+
+    public long getRevokedTurns() {
+        return revokedTurns;
+    }
+
+    public double getMeanTurns() {
+        return games == 0 ? 0.0 : (double) totalTurns / games;
+    }
+
+    public int getMinTurns() {
+        return games == 0 ? 0 : minTurns;
+    }
+
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("games=").append(games)
+                .append(" meanTurns=").append(String.format("%.2f", getMeanTurns()))
+                .append(" minTurns=").append(getMinTurns())
+                .append(" maxTurns=").append(maxTurns)
+                .append(" kills=").append(getTotalKills())
+                .append(" revoked=").append(revokedTurns)
+                .append(" unfinished=").append(unfinishedGames)
+                .append(" wins=[");
+        for (int i = 0; i < playerCount; i++) {
+            sb.append(winsBySeat[i]);
+            if (i < playerCount - 1) sb.append(", ");
+        }
+        return sb.append(']').toString();
+    }
+}
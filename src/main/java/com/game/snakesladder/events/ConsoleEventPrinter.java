@@ -0,0 +1,82 @@
+package com.game.snakesladder.events;
+
+import com.game.snakesladder.engine.GameEventListener;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.model.Player;
+import com.game.snakesladder.render.BoardRenderer;
+import com.game.snakesladder.rules.RulesEngine;
+import com.game.snakesladder.rules.TurnOutcome;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+// The console narration GameEngine prints inline, rebuilt from events so it can run as an EventRing consumer:
+// keeps its own copy of the tokens, re-describes each turn from its rolls and renders the board after moves.
+public class ConsoleEventPrinter implements GameEventListener {
+    private final List<String> names;
+    private final BoardRenderer renderer; // null: narration only
+    private final PrintStream out;
+    private final List<Player> players = new ArrayList<>();
+    private Board board;
+    private RulesEngine rules;
+
+    public ConsoleEventPrinter(List<String> names, BoardRenderer renderer, PrintStream out) {
+        this.names = new ArrayList<>(names);
+        this.renderer = renderer;
+        this.out = out;
+    }
+
+    @Override
+    public void onGameStart(Board board, int playerCount) {
+        if (this.board != board) {
+            this.board = board;
+            this.rules = new RulesEngine(board);
+        }
+        players.clear();
+        for (int i = 0; i < playerCount; i++) {
+            players.add(new Player(i < names.size() ? names.get(i) : "Player" + (i + 1)));
+        }
+    }
+
+    @Override
+    public void onTurn(int seat, int startPosition, int[] rolls, int rollCount, int outcome) {
+        render("Current board:"); // before the turn, so earlier kills are already applied
+        Player current = players.get(seat);
+        StringBuilder line = new StringBuilder(current.getName()).append(" rolled");
+        for (int i = 0; i < rollCount; i++) {
+            line.append(' ').append(rolls[i]);
+        }
+        out.println(line.append(". ").append(rules.describeTurn(startPosition, rolls, rollCount)));
+        if (!TurnOutcome.isRevoked(outcome)) {
+            current.setPosition(TurnOutcome.position(outcome));
+            out.println("New position: " + current.getPosition());
+        }
+    }
+
+    @Override
+    public void onKill(int killerSeat, int victimSeat, int cell) {
+        players.get(victimSeat).setPosition(0);
+        out.println(players.get(killerSeat).getName() + " killed " + players.get(victimSeat).getName()
+                + "! Sending to start.");
+    }
+
+    @Override
+    public void onGameEnd(int winnerSeat, int turns) {
+        out.println("\nWinner: " + players.get(winnerSeat).getName() + " after " + turns + " turns");
+        render("Final board:");
+    }
+
+    @Override
+    public void onGameUnfinished(int turns) {
+        out.println("\nNo winner after " + turns + " turns");
+        render("Final board:");
+    }
+
+    private void render(String title) {
+        if (renderer != null && board != null) {
+            out.println(title);
+            renderer.render(board, players);
+        }
+    }
+}
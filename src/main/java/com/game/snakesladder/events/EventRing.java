@@ -0,0 +1,260 @@
+package com.game.snakesladder.events;
+
+import com.game.snakesladder.engine.GameEventListener;
+import com.game.snakesladder.model.Board;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Single-producer ring buffer between a game thread and slow consumers (rendering, logging, stats). The ring is
+// itself a GameEventListener: attach it to GameEngine or BatchSimulator and every event is copied into a
+// preallocated slot instead of being handled inline. Each consumer runs on its own thread, tracks its own
+// sequence and handles everything published since its last pass as one batch, so a slow consumer catches up in
+// large strides. The producer only waits when the slowest consumer is a full ring behind, never on I/O.
+//
+// Sequences are the last published (producer) or handled (consumer) event number, starting at -1.
+// Only one thread may publish; listener methods are called on the consumer's thread.
+public class EventRing implements GameEventListener, Closeable {
+    private static final byte GAME_START = 0;
+    private static final byte TURN = 1;
+    private static final byte KILL = 2;
+    private static final byte GAME_END = 3;
+    private static final byte GAME_UNFINISHED = 4;
+    private static final int MAX_ROLLS = 3;
+    private static final int PAD = 16; // longs between sequence counters, so each sits on its own cache lines
+    private static final int CURSOR = 0;
+
+    private final int mask;
+    private final WaitStrategy waitStrategy;
+    // Slots as parallel arrays; field meaning depends on the event type, see the on* methods
+    private final byte[] types;
+    private final int[] seats;
+    private final int[] values;
+    private final int[] counts;
+    private final int[] outcomes;
+    private final int[] rolls; // [slot * MAX_ROLLS + i]
+    private final Board[] boards;
+    private final List<ConsumerThread> consumers = new ArrayList<>();
+    private AtomicLongArray sequences;
+    private long published = -1;     // producer-local copy of the cursor
+    private long gatingSequence = -1; // slowest consumer as last seen by the producer
+    private volatile boolean started;
+    private volatile boolean closed;
+
+    public EventRing(int capacity, WaitStrategy waitStrategy) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring capacity must be a power of two >= 2: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.waitStrategy = waitStrategy;
+        this.types = new byte[capacity];
+        this.seats = new int[capacity];
+        this.values = new int[capacity];
+        this.counts = new int[capacity];
+        this.outcomes = new int[capacity];
+        this.rolls = new int[capacity * MAX_ROLLS];
+        this.boards = new Board[capacity];
+    }
+
+    // Registers a consumer; all consumers must be added before start()
+    public EventRing addConsumer(String name, GameEventListener listener) {
+        if (started) {
+            throw new IllegalStateException("Consumers must be added before the ring starts");
+        }
+        consumers.add(new ConsumerThread(name, listener, consumers.size() + 1));
+        return this;
+    }
+
+    public void start() {
+        if (started) {
+            throw new IllegalStateException("Ring already started");
+        }
+        sequences = new AtomicLongArray((consumers.size() + 1) * PAD);
+        for (int i = 0; i <= consumers.size(); i++) {
+            sequences.set(i * PAD, -1);
+        }
+        started = true;
+        for (ConsumerThread consumer : consumers) {
+            consumer.start();
+        }
+    }
+
+    @Override
+    public void onGameStart(Board board, int playerCount) {
+        int slot = claim();
+        types[slot] = GAME_START;
+        boards[slot] = board;
+        counts[slot] = playerCount;
+        publish();
+    }
+
+    @Override
+    public void onTurn(int seat, int startPosition, int[] rolls, int rollCount, int outcome) {
+        int slot = claim();
+        types[slot] = TURN;
+        seats[slot] = seat;
+        values[slot] = startPosition;
+        counts[slot] = rollCount;
+        outcomes[slot] = outcome;
+        System.arraycopy(rolls, 0, this.rolls, slot * MAX_ROLLS, Math.min(rollCount, MAX_ROLLS));
+        publish();
+    }
+
+    @Override
+    public void onKill(int killerSeat, int victimSeat, int cell) {
+        int slot = claim();
+        types[slot] = KILL;
+        seats[slot] = killerSeat;
+        counts[slot] = victimSeat;
+        values[slot] = cell;
+        publish();
+    }
+
+    @Override
+    public void onGameEnd(int winnerSeat, int turns) {
+        int slot = claim();
+        types[slot] = GAME_END;
+        seats[slot] = winnerSeat;
+        values[slot] = turns;
+        publish();
+    }
+
+    @Override
+    public void onGameUnfinished(int turns) {
+        int slot = claim();
+        types[slot] = GAME_UNFINISHED;
+        values[slot] = turns;
+        publish();
+    }
+
+    // Blocks the producer (with the wait strategy) until every consumer has handled everything published so far
+    public void awaitConsumers() {
+        int attempt = 0;
+        while (minimumConsumerSequence() < published) {
+            waitStrategy.idle(attempt++);
+        }
+    }
+
+    public long getPublished() {
+        return published;
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    // Lets the consumers drain what was published, then stops them. Rethrows the first consumer failure.
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        RuntimeException failure = null;
+        for (ConsumerThread consumer : consumers) {
+            try {
+                consumer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (consumer.failure != null && failure == null) {
+                failure = new IllegalStateException("Event consumer " + consumer.getName() + " failed", consumer.failure);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    // Next slot to write; waits while it still holds an event the slowest consumer has not handled
+    private int claim() {
+        if (!started || closed) {
+            throw new IllegalStateException(closed ? "Ring is closed" : "Ring not started");
+        }
+        long next = published + 1;
+        long wrapPoint = next - (mask + 1);
+        if (wrapPoint > gatingSequence) {
+            int attempt = 0;
+            while (wrapPoint > (gatingSequence = minimumConsumerSequence())) {
+                waitStrategy.idle(attempt++);
+            }
+        }
+        return (int) (next & mask);
+    }
+
+    private void publish() {
+        sequences.lazySet(CURSOR, ++published); // release: slot writes become visible before the new cursor
+    }
+
+    private long minimumConsumerSequence() {
+        long min = Long.MAX_VALUE; // no consumers: nothing to wait for
+        for (int i = 1; i <= consumers.size(); i++) {
+            min = Math.min(min, sequences.get(i * PAD));
+        }
+        return min;
+    }
+
+    private void dispatch(long sequence, GameEventListener listener, int[] scratch) {
+        int slot = (int) (sequence & mask);
+        switch (types[slot]) {
+            case GAME_START:
+                listener.onGameStart(boards[slot], counts[slot]);
+                break;
+            case TURN:
+                System.arraycopy(rolls, slot * MAX_ROLLS, scratch, 0, MAX_ROLLS);
+                listener.onTurn(seats[slot], values[slot], scratch, counts[slot], outcomes[slot]);
+                break;
+            case KILL:
+                listener.onKill(seats[slot], counts[slot], values[slot]);
+                break;
+            case GAME_END:
+                listener.onGameEnd(seats[slot], values[slot]);
+                break;
+            default:
+                listener.onGameUnfinished(values[slot]);
+                break;
+        }
+    }
+
+    private final class ConsumerThread extends Thread {
+        private final GameEventListener listener;
+        private final int index;
+        private final int[] scratch = new int[MAX_ROLLS];
+        private volatile Throwable failure;
+
+        ConsumerThread(String name, GameEventListener listener, int index) {
+            super(name);
+            setDaemon(true);
+            this.listener = listener;
+            this.index = index * PAD;
+        }
+
+        @Override
+        public void run() {
+            long handled = -1;
+            int attempt = 0;
+            try {
+                while (true) {
+                    boolean closing = closed; // read before the cursor: nothing is published after close
+                    long available = sequences.get(CURSOR);
+                    if (available > handled) {
+                        for (long s = handled + 1; s <= available; s++) {
+                            dispatch(s, listener, scratch);
+                        }
+                        handled = available;
+                        sequences.lazySet(index, handled);
+                        attempt = 0;
+                    } else if (closing) {
+                        return;
+                    } else {
+                        waitStrategy.idle(attempt++);
+                    }
+                }
+            } catch (Throwable t) {
+                failure = t;
+                sequences.set(index, Long.MAX_VALUE); // stop gating the producer
+            }
+        }
+    }
+}
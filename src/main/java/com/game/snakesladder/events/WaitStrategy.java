@@ -0,0 +1,44 @@
+package com.game.snakesladder.events;
+
+import java.util.concurrent.locks.LockSupport;
+
+// What an EventRing thread does while it has nothing to consume (or, for the producer, no free slot).
+// attempt counts consecutive idle calls and resets once work shows up.
+public enum WaitStrategy {
+    // Lowest latency, burns a core per waiting thread; only sensible with a core to spare for each consumer
+    BUSY_SPIN {
+        @Override
+        public void idle(int attempt) {
+            Thread.onSpinWait();
+        }
+    },
+    // Spins briefly, then gives the CPU to other runnable threads
+    YIELD {
+        @Override
+        public void idle(int attempt) {
+            if (attempt < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+    },
+    // Spins, yields, then sleeps in short parks: near-zero CPU when idle at the cost of wake-up latency
+    PARK {
+        @Override
+        public void idle(int attempt) {
+            if (attempt < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else if (attempt < 2 * SPIN_TRIES) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+        }
+    };
+
+    private static final int SPIN_TRIES = 100;
+    private static final long PARK_NANOS = 50_000;
+
+    public abstract void idle(int attempt);
+}
@@ -0,0 +1,136 @@
+package com.game.snakesladder.factory;
+
+import com.game.snakesladder.difficulty.Difficulty;
+import com.game.snakesladder.model.Board;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Interns Boards by layout fingerprint so identical layouts share one instance, and with it every artifact
+// attached through Board.derived (solved stats, turn tables, ...). Seeded boards of a built-in difficulty are
+// also remembered by recipe (difficulty, size, seed), which skips generation entirely on a hit.
+// Both maps are LRU-bounded to maxEntries; evicted boards stay valid for whoever still holds them.
+public class BoardCache {
+    private final int maxEntries;
+    private final Map<Long, Board> byFingerprint;
+    private final Map<Recipe, Board> byRecipe;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoardCache(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Cache must hold at least one board");
+        }
+        this.maxEntries = maxEntries;
+        this.byFingerprint = lruMap();
+        this.byRecipe = lruMap();
+    }
+
+    // The cached Board with the same layout, or this one (now cached) if there is none
+    public Board intern(Board board) {
+        synchronized (this) {
+            Board cached = byFingerprint.get(board.fingerprint());
+            if (cached != null && cached.sameLayout(board)) {
+                hits.increment();
+                return cached;
+            }
+            misses.increment();
+            if (cached == null) {
+                byFingerprint.put(board.fingerprint(), board);
+            }
+            return board; // a fingerprint collision keeps the first board cached and leaves this one uninterned
+        }
+    }
+
+    // Looks the board up by how it was made; generate runs outside the lock on a miss
+    public Board getOrCreate(Difficulty difficulty, int size, long seed, Supplier<Board> generate) {
+        Recipe recipe = new Recipe(difficulty, size, seed);
+        synchronized (this) {
+            Board cached = byRecipe.get(recipe);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+        Board board = intern(generate.get());
+        synchronized (this) {
+            Board raced = byRecipe.putIfAbsent(recipe, board);
+            return raced != null ? raced : board;
+        }
+    }
+
+    public synchronized int size() {
+        return byFingerprint.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    public synchronized void clear() {
+        byFingerprint.clear();
+        byRecipe.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "boards=" + size() + " hits=" + getHits() + " misses=" + getMisses() + " evictions=" + getEvictions()
+                + " hitRate=" + String.format("%.3f", getHitRate());
+    }
+
+    private <K> Map<K, Board> lruMap() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Board> eldest) {
+                if (size() > maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    private static final class Recipe {
+        final Difficulty difficulty;
+        final int size;
+        final long seed;
+
+        Recipe(Difficulty difficulty, int size, long seed) {
+            this.difficulty = difficulty;
+            this.size = size;
+            this.seed = seed;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Recipe)) return false;
+            Recipe other = (Recipe) o;
+            return difficulty == other.difficulty && size == other.size && seed == other.seed;
+        }
+
+        @Override
+        public int hashCode() {
+            return (31 * difficulty.hashCode() + size) * 31 + Long.hashCode(seed);
+        }
+    }
+}
@@ -1,55 +1,78 @@
 package com.game.snakesladder.factory;
 
+import com.game.snakesladder.difficulty.Difficulty;
 import com.game.snakesladder.difficulty.DifficultyStrategy;
+import com.game.snakesladder.metrics.Metrics;
 import com.game.snakesladder.model.Board;
-import com.game.snakesladder.model.Ladder;
-import com.game.snakesladder.model.Snake;
+import com.game.snakesladder.model.BoardLayout;
+import com.game.snakesladder.model.SparseBoard;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.SplittableRandom;
 
 public class BoardFactory {
     private final DifficultyStrategy difficultyStrategy;
+    private final BoardCache cache;
 
     public BoardFactory(DifficultyStrategy difficultyStrategy) {
+        this(difficultyStrategy, null);
+    }
+
+    // With a cache, boards are interned and seeded boards of a built-in difficulty are reused outright
+    public BoardFactory(DifficultyStrategy difficultyStrategy, BoardCache cache) {
         this.difficultyStrategy = difficultyStrategy;
+        this.cache = cache;
     }
 
+    // Throws IllegalArgumentException when the strategy cannot fit its snakes and ladders on this size
     public Board create(int size) {
-        int lastIndex = size * size - 1;
-        // Generate until snakes and ladders do not overlap on the same cell
-        // Avoid rare collisions from randomized strategies
-        List<Snake> snakes;
-        List<Ladder> ladders;
-        int attempts = 0;
-        do {
-            snakes = difficultyStrategy.generateSnakes(size, lastIndex);
-            ladders = difficultyStrategy.generateLadders(size, lastIndex);
-            attempts++;
-        } while (hasOverlap(snakes, ladders) && attempts < 20);
-
-        // If still overlapping after attempts, filter ladders that clash with snake heads as a last resort
-        if (hasOverlap(snakes, ladders)) {
-            Set<Integer> snakeHeads = new HashSet<>();
-            for (Snake s : snakes) snakeHeads.add(s.getHead());
-            ladders.removeIf(l -> snakeHeads.contains(l.getStart()));
-        }
+        long start = Metrics.startTimer();
+        BoardLayout layout = difficultyStrategy.generateLayout(size, lastIndexFor(size));
+        Board board = new Board(size, layout.getSnakes(), layout.getLadders());
+        Board result = cache == null ? board : cache.intern(board);
+        if (Metrics.ENABLED) Metrics.BOARD_CREATE_NANOS.recordSince(start);
+        return result;
+    }
 
-        return new Board(size, snakes, ladders);
+    // Deterministic: the same size, strategy type and seed always produce the same layout
+    public Board create(int size, long seed) {
+        long start = Metrics.startTimer();
+        Board board = createSeeded(size, seed);
+        if (Metrics.ENABLED) Metrics.BOARD_CREATE_NANOS.recordSince(start);
+        return board;
     }
 
-    private boolean hasOverlap(List<Snake> snakes, List<Ladder> ladders) {
-        Set<Integer> snakeHeads = new HashSet<>();
-        for (Snake s : snakes) {
-            snakeHeads.add(s.getHead());
+    // Boards of any size (N up to 100,000 and beyond) with long cell indices; not cached, there is no Board to intern
+    public SparseBoard createSparse(int size, long seed) {
+        long start = Metrics.startTimer();
+        SparseBoard board = difficultyStrategy.generateSparseBoard(size, new SplittableRandom(seed));
+        if (Metrics.ENABLED) Metrics.BOARD_CREATE_NANOS.recordSince(start);
+        return board;
+    }
+
+    private Board createSeeded(int size, long seed) {
+        Difficulty difficulty = Difficulty.of(difficultyStrategy);
+        if (cache == null) {
+            return generate(size, seed);
         }
-        for (Ladder l : ladders) {
-            if (snakeHeads.contains(l.getStart())) return true;
+        if (difficulty == Difficulty.CUSTOM) {
+            return cache.intern(generate(size, seed)); // custom strategies may not be seed-deterministic
         }
-        return false;
+        return cache.getOrCreate(difficulty, size, seed, () -> generate(size, seed));
     }
-}
-
 
+    private Board generate(int size, long seed) {
+        BoardLayout layout = difficultyStrategy.generateLayout(size, lastIndexFor(size), new SplittableRandom(seed));
+        return new Board(size, layout.getSnakes(), layout.getLadders());
+    }
 
+    private static int lastIndexFor(int size) {
+        if (size < 2) {
+            throw new IllegalArgumentException("Board size must be >= 2");
+        }
+        if (size > Board.MAX_SIZE) {
+            throw new IllegalArgumentException("Board size " + size + " overflows int cell indices (max " + Board.MAX_SIZE
+                    + "); use createSparse");
+        }
+        return size * size - 1;
+    }
+}
@@ -0,0 +1,37 @@
+package com.game.snakesladder.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Monotonic counter on a striped LongAdder: increments from many threads do not contend on one cache line
+public class Counter {
+    private final String name;
+    private final String help;
+    private final LongAdder value = new LongAdder();
+
+    Counter(String name, String help) {
+        this.name = name;
+        this.help = help;
+    }
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void add(long delta) {
+        value.add(delta);
+    }
+
+    public long sum() {
+        return value.sum();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    void writePrometheus(StringBuilder out) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n')
+                .append("# TYPE ").append(name).append(" counter\n")
+                .append(name).append(' ').append(sum()).append('\n');
+    }
+}
@@ -0,0 +1,100 @@
+package com.game.snakesladder.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// HDR-style log-linear histogram of nanosecond latencies: every power of two is split into 2^SUB_BITS linear
+// sub-buckets, so any recorded value is reported within ~3% using one fixed array of counts. Each bucket is a
+// LongAdder, like Counter: hot buckets (a steady latency hits the same few) would otherwise have every recording
+// thread contending on one cache line, and an adder stays a single field until it actually sees contention.
+public class LatencyHistogram {
+    private static final int SUB_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = 2 * SUB_BUCKETS + (63 - SUB_BITS) * SUB_BUCKETS;
+    private static final double[] EXPORTED_QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final String name;
+    private final String help;
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+
+    LatencyHistogram(String name, String help) {
+        this.name = name;
+        this.help = help;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        counts[bucketOf(nanos)].increment();
+        count.increment();
+        sum.add(nanos);
+    }
+
+    // For use with Metrics.startTimer(); a zero start means metrics were off when the timer started
+    public void recordSince(long startNanos) {
+        if (startNanos != 0) {
+            record(System.nanoTime() - startNanos);
+        }
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    // Upper bound of the bucket holding the given quantile, in nanoseconds
+    public long percentile(double fraction) {
+        if (fraction <= 0.0 || fraction > 1.0) {
+            throw new IllegalArgumentException("Fraction must be in (0, 1]");
+        }
+        long total = 0;
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts[i].sum();
+            total += snapshot[i];
+        }
+        if (total == 0) return 0;
+        double needed = fraction * total;
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulative += snapshot[i];
+            if (cumulative >= needed) return upperBound(i);
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // Values below 2 * SUB_BUCKETS get exact buckets; above that, the top SUB_BITS + 1 bits select the bucket
+    static int bucketOf(long value) {
+        if (value < 2 * SUB_BUCKETS) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS; // >= 1
+        int sub = (int) (value >>> exponent) - SUB_BUCKETS;
+        return 2 * SUB_BUCKETS + (exponent - 1) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) return bucket;
+        int exponent = (bucket - 2 * SUB_BUCKETS) / SUB_BUCKETS + 1;
+        long sub = (bucket - 2 * SUB_BUCKETS) % SUB_BUCKETS;
+        return ((SUB_BUCKETS + sub + 1) << exponent) - 1;
+    }
+
+    void writePrometheus(StringBuilder out) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n')
+                .append("# TYPE ").append(name).append(" summary\n");
+        for (double q : EXPORTED_QUANTILES) {
+            out.append(name).append("{quantile=\"").append(q).append("\"} ").append(percentile(q)).append('\n');
+        }
+        out.append(name).append("_sum ").append(getSum()).append('\n')
+                .append(name).append("_count ").append(getCount()).append('\n');
+    }
+}
@@ -0,0 +1,42 @@
+package com.game.snakesladder.metrics;
+
+// Engine-wide metrics. Instrumented code guards every update with `if (Metrics.ENABLED)`: the flag is a
+// static final read once at class init from -Dsnakesladder.metrics=true, so when it is off the JIT folds
+// the branch away and the hot paths pay nothing.
+public final class Metrics {
+    public static final boolean ENABLED = Boolean.getBoolean("snakesladder.metrics");
+    public static final MetricsRegistry REGISTRY = new MetricsRegistry();
+
+    public static final Counter TURNS = REGISTRY.counter("snakesladder_turns_total",
+            "Turns played by GameEngine, BatchSimulator and GameSession");
+    public static final Counter REVOKED_TURNS = REGISTRY.counter("snakesladder_revoked_turns_total",
+            "Turns revoked by three sixes");
+    public static final Counter KILLS = REGISTRY.counter("snakesladder_kills_total",
+            "Tokens sent back to start by another player");
+    public static final Counter GAMES = REGISTRY.counter("snakesladder_games_finished_total",
+            "Games played to a winner");
+    public static final Counter RULES_RESOLUTIONS = REGISTRY.counter("snakesladder_rules_resolutions_total",
+            "Turns resolved by RulesEngine in games played by GameEngine, BatchSimulator and GameSession"
+                    + " (analysis such as GameLengthSolver and TurnTable is not counted)");
+    public static final Counter SNAKE_BITES = REGISTRY.counter("snakesladder_rules_snake_bites_total",
+            "Rolls that landed on a snake head");
+    public static final Counter LADDER_CLIMBS = REGISTRY.counter("snakesladder_rules_ladder_climbs_total",
+            "Rolls that landed on a ladder start");
+    public static final Counter OVERSHOOTS = REGISTRY.counter("snakesladder_rules_overshoots_total",
+            "Rolls ignored for overshooting the last cell");
+
+    public static final LatencyHistogram APPLY_TURN_NANOS = REGISTRY.histogram("snakesladder_apply_turn_nanoseconds",
+            "RulesEngine.applyTurn latency");
+    public static final LatencyHistogram RENDER_NANOS = REGISTRY.histogram("snakesladder_render_nanoseconds",
+            "Board render latency");
+    public static final LatencyHistogram BOARD_CREATE_NANOS = REGISTRY.histogram("snakesladder_board_create_nanoseconds",
+            "BoardFactory.create latency");
+
+    private Metrics() {
+    }
+
+    // Start of a timed section, or 0 when metrics are off (LatencyHistogram.recordSince ignores it)
+    public static long startTimer() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+}
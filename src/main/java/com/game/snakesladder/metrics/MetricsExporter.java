@@ -0,0 +1,73 @@
+package com.game.snakesladder.metrics;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Periodically writes a registry snapshot in Prometheus text format, either to a file (replaced atomically,
+// so a node_exporter textfile collector never reads half a snapshot) or to a stream such as System.out.
+public class MetricsExporter implements AutoCloseable {
+    private final MetricsRegistry registry;
+    private final Path file;
+    private final PrintStream stream;
+    private final ScheduledExecutorService scheduler;
+
+    public MetricsExporter(MetricsRegistry registry, Path file, long period, TimeUnit unit) {
+        this(registry, file, null, period, unit);
+    }
+
+    public MetricsExporter(MetricsRegistry registry, PrintStream stream, long period, TimeUnit unit) {
+        this(registry, null, stream, period, unit);
+    }
+
+    private MetricsExporter(MetricsRegistry registry, Path file, PrintStream stream, long period, TimeUnit unit) {
+        this.registry = registry;
+        this.file = file;
+        this.stream = stream;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "metrics-exporter");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleAtFixedRate(this::exportQuietly, period, period, unit);
+    }
+
+    public void export() {
+        String text = registry.toPrometheusText();
+        if (stream != null) {
+            stream.print(text);
+            stream.flush();
+            return;
+        }
+        try {
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(tmp, text.getBytes(StandardCharsets.UTF_8));
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // A failed export must not cancel the schedule
+    private void exportQuietly() {
+        try {
+            export();
+        } catch (RuntimeException e) {
+            System.err.println("Metrics export failed: " + e.getMessage());
+        }
+    }
+
+    // Stops the schedule and writes one final snapshot
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        export();
+    }
+}
@@ -0,0 +1,40 @@
+package com.game.snakesladder.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Named counters and histograms, exported in registration order
+public class MetricsRegistry {
+    private final List<Counter> counters = new ArrayList<>();
+    private final List<LatencyHistogram> histograms = new ArrayList<>();
+
+    public synchronized Counter counter(String name, String help) {
+        for (Counter c : counters) {
+            if (c.getName().equals(name)) return c;
+        }
+        Counter c = new Counter(name, help);
+        counters.add(c);
+        return c;
+    }
+
+    public synchronized LatencyHistogram histogram(String name, String help) {
+        for (LatencyHistogram h : histograms) {
+            if (h.getName().equals(name)) return h;
+        }
+        LatencyHistogram h = new LatencyHistogram(name, help);
+        histograms.add(h);
+        return h;
+    }
+
+    // Prometheus text exposition format (version 0.0.4)
+    public synchronized String toPrometheusText() {
+        StringBuilder out = new StringBuilder();
+        for (Counter c : counters) {
+            c.writePrometheus(out);
+        }
+        for (LatencyHistogram h : histograms) {
+            h.writePrometheus(out);
+        }
+        return out.toString();
+    }
+}
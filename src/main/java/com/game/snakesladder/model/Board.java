@@ -1,17 +1,29 @@
 package com.game.snakesladder.model;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 public class Board {
+    // Largest dense board: the jump table is one int per cell. Bigger boards need SparseBoard.
+    public static final int MAX_SIZE = 46340; // floor(sqrt(Integer.MAX_VALUE))
+
     private final int size; // N x N
     private final int lastIndex; // N*N - 1 (zero-based)
     private final Map<Integer, Snake> snakesByHead;
     private final Map<Integer, Ladder> laddersByStart;
+    private final int[] jump; // destination for every cell, identity where there is no snake or ladder
+    private final long fingerprint;
+    private final Map<Function<Board, ?>, Object> derived = new ConcurrentHashMap<>();
 
     public Board(int size, List<Snake> snakes, List<Ladder> ladders) {
         if (size < 2) {
             throw new IllegalArgumentException("Board size must be >= 2");
         }
+        if (size > MAX_SIZE) {
+            throw new IllegalArgumentException("Board size " + size + " overflows int cell indices (max " + MAX_SIZE
+                    + "); use SparseBoard");
+        }
         this.size = size;
         this.lastIndex = size * size - 1;
         this.snakesByHead = new HashMap<>();
@@ -43,6 +55,18 @@ public class Board {
                 throw new IllegalArgumentException("Snake head and ladder start overlap at " + head);
             }
         }
+
+        this.jump = new int[lastIndex + 1];
+        for (int i = 0; i <= lastIndex; i++) {
+            jump[i] = i;
+        }
+        for (Snake s : snakesByHead.values()) {
+            jump[s.getHead()] = s.getTail();
+        }
+        for (Ladder l : laddersByStart.values()) {
+            jump[l.getStart()] = l.getEnd();
+        }
+        this.fingerprint = computeFingerprint();
     }
 
     public int getSize() {
@@ -58,6 +82,41 @@ public class Board {
         return zeroBasedIndex + 1;
     }
 
+    // Allocation-free lookup: where a token landing on index ends up after any snake or ladder
+    public int jumpTarget(int index) {
+        return jump[index];
+    }
+
+    public boolean isSnakeHead(int index) {
+        return jump[index] < index;
+    }
+
+    public boolean isLadderStart(int index) {
+        return jump[index] > index;
+    }
+
+    // Content hash of size plus every snake/ladder pair in cell order; equal layouts always agree
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    public boolean sameLayout(Board other) {
+        return other == this || (other.fingerprint == fingerprint && other.size == size && Arrays.equals(other.jump, jump));
+    }
+
+    // Lazily computed artifact shared by everyone holding this Board, keyed by the function itself (keep it in
+    // a static final field). The function may run more than once under contention; only one result is kept.
+    @SuppressWarnings("unchecked")
+    public <T> T derived(Function<Board, T> compute) {
+        Object value = derived.get(compute);
+        if (value == null) {
+            value = compute.apply(this);
+            Object raced = derived.putIfAbsent(compute, value);
+            if (raced != null) value = raced;
+        }
+        return (T) value;
+    }
+
     public Optional<Snake> getSnakeAt(int index) {
         return Optional.ofNullable(snakesByHead.get(index));
     }
@@ -66,6 +125,23 @@ public class Board {
         return Optional.ofNullable(laddersByStart.get(index));
     }
 
+    private long computeFingerprint() {
+        long h = mix(size);
+        for (int i = 0; i <= lastIndex; i++) {
+            if (jump[i] != i) {
+                h = mix(h ^ ((long) i << 32 | jump[i]));
+            }
+        }
+        return h;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
     private void validateInBounds(int index) {
         if (index < 0 || index > lastIndex) {
             throw new IllegalArgumentException("Index out of bounds: " + index);
@@ -0,0 +1,23 @@
+package com.game.snakesladder.model;
+
+import java.util.Collections;
+import java.util.List;
+
+// Snakes and ladders generated together for one board
+public class BoardLayout {
+    private final List<Snake> snakes;
+    private final List<Ladder> ladders;
+
+    public BoardLayout(List<Snake> snakes, List<Ladder> ladders) {
+        this.snakes = Collections.unmodifiableList(snakes);
+        this.ladders = Collections.unmodifiableList(ladders);
+    }
+
+    public List<Snake> getSnakes() {
+        return snakes;
+    }
+
+    public List<Ladder> getLadders() {
+        return ladders;
+    }
+}
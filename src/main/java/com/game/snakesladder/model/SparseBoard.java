@@ -0,0 +1,161 @@
+package com.game.snakesladder.model;
+
+import java.util.Arrays;
+
+// Board for sizes far beyond what a per-cell jump table can hold (N up to 100,000, i.e. 10^10 cells): cell
+// indices are longs and only snakes and ladders are stored, so memory is proportional to their number.
+// Jump sources are kept in Eytzinger (BFS) order, so a lookup walks down an implicit binary tree whose top
+// levels share a few cache lines, instead of jumping across a sorted array.
+public class SparseBoard {
+    private final int size;
+    private final long lastIndex;
+    private final long[] sources; // [1..jumps] in Eytzinger order; slot 0 unused
+    private final long[] targets; // parallel to sources
+    private final int snakes;
+    private final int ladders;
+
+    // heads/tails and starts/ends are parallel arrays in any order; they are copied, not kept
+    public SparseBoard(int size, long[] snakeHeads, long[] snakeTails, long[] ladderStarts, long[] ladderEnds) {
+        if (size < 2) {
+            throw new IllegalArgumentException("Board size must be >= 2");
+        }
+        if (snakeHeads.length != snakeTails.length || ladderStarts.length != ladderEnds.length) {
+            throw new IllegalArgumentException("Snake and ladder endpoint arrays must be the same length");
+        }
+        this.size = size;
+        this.lastIndex = (long) size * size - 1; // any int N: N * N - 1 < 2^62
+        this.snakes = snakeHeads.length;
+        this.ladders = ladderStarts.length;
+
+        int jumps = snakes + ladders;
+        long[] from = new long[jumps];
+        long[] to = new long[jumps];
+        for (int i = 0; i < snakes; i++) {
+            validate(snakeHeads[i], snakeTails[i]);
+            if (snakeTails[i] >= snakeHeads[i]) {
+                throw new IllegalArgumentException("Snake head must be above tail: " + snakeHeads[i] + "->" + snakeTails[i]);
+            }
+            from[i] = snakeHeads[i];
+            to[i] = snakeTails[i];
+        }
+        for (int i = 0; i < ladders; i++) {
+            validate(ladderStarts[i], ladderEnds[i]);
+            if (ladderEnds[i] <= ladderStarts[i]) {
+                throw new IllegalArgumentException("Ladder end must be above start: " + ladderStarts[i] + "->" + ladderEnds[i]);
+            }
+            from[snakes + i] = ladderStarts[i];
+            to[snakes + i] = ladderEnds[i];
+        }
+
+        // Sort sources (carrying targets along), then reject duplicates: two snakes, two ladders or a ladder on a
+        // snake head all show up as equal neighbours
+        long[] sortedSources = from.clone();
+        Arrays.sort(sortedSources);
+        for (int i = 1; i < jumps; i++) {
+            if (sortedSources[i] == sortedSources[i - 1]) {
+                throw new IllegalArgumentException("More than one snake or ladder starts at " + sortedSources[i]);
+            }
+        }
+        long[] sortedTargets = new long[jumps];
+        for (int i = 0; i < jumps; i++) {
+            sortedTargets[Arrays.binarySearch(sortedSources, from[i])] = to[i];
+        }
+
+        this.sources = new long[jumps + 1];
+        this.targets = new long[jumps + 1];
+        fillEytzinger(sortedSources, sortedTargets, 0, 1);
+    }
+
+    // Same layout as a dense board, e.g. to cross-check sparse resolution against the jump table
+    public static SparseBoard of(Board board) {
+        long[][] snakeEnds = new long[2][];
+        long[][] ladderEnds = new long[2][];
+        int snakeCount = 0;
+        int ladderCount = 0;
+        for (int i = 0; i <= board.getLastIndex(); i++) {
+            if (board.isSnakeHead(i)) snakeCount++;
+            else if (board.isLadderStart(i)) ladderCount++;
+        }
+        snakeEnds[0] = new long[snakeCount];
+        snakeEnds[1] = new long[snakeCount];
+        ladderEnds[0] = new long[ladderCount];
+        ladderEnds[1] = new long[ladderCount];
+        snakeCount = ladderCount = 0;
+        for (int i = 0; i <= board.getLastIndex(); i++) {
+            if (board.isSnakeHead(i)) {
+                snakeEnds[0][snakeCount] = i;
+                snakeEnds[1][snakeCount++] = board.jumpTarget(i);
+            } else if (board.isLadderStart(i)) {
+                ladderEnds[0][ladderCount] = i;
+                ladderEnds[1][ladderCount++] = board.jumpTarget(i);
+            }
+        }
+        return new SparseBoard(board.getSize(), snakeEnds[0], snakeEnds[1], ladderEnds[0], ladderEnds[1]);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getLastIndex() {
+        return lastIndex;
+    }
+
+    // Destination of a cell: the other end of a snake or ladder starting there, otherwise the cell itself
+    public long jumpTarget(long cell) {
+        int k = find(cell);
+        return k == 0 ? cell : targets[k];
+    }
+
+    public boolean isSnakeHead(long cell) {
+        int k = find(cell);
+        return k != 0 && targets[k] < cell;
+    }
+
+    public boolean isLadderStart(long cell) {
+        int k = find(cell);
+        return k != 0 && targets[k] > cell;
+    }
+
+    public int getSnakeCount() {
+        return snakes;
+    }
+
+    public int getLadderCount() {
+        return ladders;
+    }
+
+    // Heap bytes held by the board: two long arrays, nothing per cell
+    public long getFootprintBytes() {
+        return 2 * (16L + 8L * sources.length);
+    }
+
+    // Eytzinger slot holding cell, or 0. Descends k -> 2k (go left) or 2k + 1 (go right) until it falls off the
+    // tree; the slot of the last "go left" is the first source >= cell.
+    private int find(long cell) {
+        int n = sources.length - 1;
+        int k = 1;
+        while (k <= n) {
+            k = 2 * k + (sources[k] < cell ? 1 : 0);
+        }
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1; // undo the trailing right turns
+        return k != 0 && sources[k] == cell ? k : 0;
+    }
+
+    // In-order walk of the implicit tree assigns sorted elements to BFS slots; returns the next sorted index
+    private int fillEytzinger(long[] sortedSources, long[] sortedTargets, int i, int k) {
+        if (k < sources.length) {
+            i = fillEytzinger(sortedSources, sortedTargets, i, 2 * k);
+            sources[k] = sortedSources[i];
+            targets[k] = sortedTargets[i];
+            i = fillEytzinger(sortedSources, sortedTargets, i + 1, 2 * k + 1);
+        }
+        return i;
+    }
+
+    private void validate(long from, long to) {
+        if (from < 0 || from > lastIndex || to < 0 || to > lastIndex) {
+            throw new IllegalArgumentException("Index out of bounds: " + from + "->" + to);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.game.snakesladder.render;
 
+import com.game.snakesladder.metrics.Metrics;
 import com.game.snakesladder.model.Board;
 import com.game.snakesladder.model.Player;
 import com.game.snakesladder.model.Snake;
@@ -9,12 +10,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 
 public class ConsoleBoardRenderer implements BoardRenderer {
     // Use Unicode escapes to avoid platform encoding issues
-    private static final String SNAKE_EMOJI = "\uD83D\uDC0D"; // 🐍 snake head
-    private static final String LADDER_EMOJI = "\u2B06"; // ⬆ ladder start (arrow up as ladder marker)
+    static final String SNAKE_EMOJI = "\uD83D\uDC0D"; // 🐍 snake head
+    static final String LADDER_EMOJI = "\u2B06"; // ⬆ ladder start (arrow up as ladder marker)
     // Colorful player tokens (emoji-safe, deterministic selection)
     private static final String[] PLAYER_TOKENS = new String[] {
             "\uD83D\uDD34", // 🔴 red circle
@@ -48,26 +48,23 @@ public class ConsoleBoardRenderer implements BoardRenderer {
             "\uD83D\uDD38", // 🔸
             "\uD83D\uDD39"  // 🔹
     };
-    private static final int CELL_WIDTH = 3;
+    static final int CELL_WIDTH = 3;
 
     @Override
     public void render(Board board, List<Player> players) {
+        long start = Metrics.startTimer();
+        draw(board, players);
+        if (Metrics.ENABLED) Metrics.RENDER_NANOS.recordSince(start);
+    }
+
+    private void draw(Board board, List<Player> players) {
         int n = board.getSize();
         int last = board.getLastIndex();
 
         // Assign unique player symbols from palette in order
         Map<Player, String> playerSymbol = new HashMap<>();
         for (int i = 0; i < players.size(); i++) {
-            Player p = players.get(i);
-            String symbol;
-            if (i < PLAYER_TOKENS.length) {
-                symbol = PLAYER_TOKENS[i];
-            } else if (i - PLAYER_TOKENS.length < DIGIT_TOKENS.length) {
-                symbol = DIGIT_TOKENS[i - PLAYER_TOKENS.length];
-            } else {
-                symbol = "P" + (i + 1);
-            }
-            playerSymbol.put(p, symbol);
+            playerSymbol.put(players.get(i), symbolFor(i));
         }
 
         // Build a map of cell to players on that cell
@@ -77,21 +74,14 @@ public class ConsoleBoardRenderer implements BoardRenderer {
             playersByCell.computeIfAbsent(pos, k -> new ArrayList<>()).add(p);
         }
 
-        // Mark snakes (heads) and ladders (starts)
-        boolean[] isSnakeHead = new boolean[last + 1];
-        boolean[] isLadderStart = new boolean[last + 1];
+        // Collect snakes and ladders for the legend; cell labels ask the board's jump table directly
         List<Snake> snakes = new ArrayList<>();
         List<Ladder> ladders = new ArrayList<>();
         for (int i = 0; i <= last; i++) {
-            Optional<Snake> s = board.getSnakeAt(i);
-            if (s.isPresent()) {
-                isSnakeHead[i] = true;
-                snakes.add(s.get());
-            }
-            Optional<Ladder> l = board.getLadderAt(i);
-            if (l.isPresent()) {
-                isLadderStart[i] = true;
-                ladders.add(l.get());
+            if (board.isSnakeHead(i)) {
+                board.getSnakeAt(i).ifPresent(snakes::add);
+            } else if (board.isLadderStart(i)) {
+                board.getLadderAt(i).ifPresent(ladders::add);
             }
         }
 
@@ -103,7 +93,7 @@ public class ConsoleBoardRenderer implements BoardRenderer {
             for (int c = 0; c < n; c++) {
                 int effectiveCol = (row % 2 == 0) ? c : (n - 1 - c);
                 int idx = row * n + effectiveCol;
-                String label = computeLabel(idx, row, effectiveCol, n, playersByCell, playerSymbol, isSnakeHead, isLadderStart);
+                String label = computeLabel(idx, row, effectiveCol, n, playersByCell, playerSymbol, board);
                 sb.append(padCenter(label, CELL_WIDTH));
                 if (c < n - 1) sb.append(' ');
             }
@@ -148,8 +138,7 @@ public class ConsoleBoardRenderer implements BoardRenderer {
             int n,
             Map<Integer, List<Player>> playersByCell,
             Map<Player, String> playerSymbol,
-            boolean[] isSnakeHead,
-            boolean[] isLadderStart
+            Board board
     ) {
         List<Player> onCell = playersByCell.get(index);
         if (onCell != null && !onCell.isEmpty()) {
@@ -160,8 +149,8 @@ public class ConsoleBoardRenderer implements BoardRenderer {
                 return count < 10 ? ("✳" + count) : "**";
             }
         }
-        if (isSnakeHead[index]) return SNAKE_EMOJI;
-        if (isLadderStart[index]) return LADDER_EMOJI;
+        if (board.isSnakeHead(index)) return SNAKE_EMOJI;
+        if (board.isLadderStart(index)) return LADDER_EMOJI;
         // Human-friendly serpentine numbering (1-based like traditional board)
         int human;
         if (row % 2 == 0) {
@@ -172,7 +161,17 @@ public class ConsoleBoardRenderer implements BoardRenderer {
         return String.valueOf(human);
     }
     
-    private static String padCenter(String s, int width) {
+    // Player token by seat: colored tokens first, then keycap digits, then plain labels
+    static String symbolFor(int i) {
+        if (i < PLAYER_TOKENS.length) {
+            return PLAYER_TOKENS[i];
+        } else if (i - PLAYER_TOKENS.length < DIGIT_TOKENS.length) {
+            return DIGIT_TOKENS[i - PLAYER_TOKENS.length];
+        }
+        return "P" + (i + 1);
+    }
+
+    static String padCenter(String s, int width) {
         if (s == null) s = "";
         // Strip any line breaks just in case
         s = s.replace('\n', ' ').replace('\r', ' ');
@@ -0,0 +1,350 @@
+package com.game.snakesladder.render;
+
+import com.game.snakesladder.metrics.Metrics;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.model.Ladder;
+import com.game.snakesladder.model.Player;
+import com.game.snakesladder.model.Snake;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// Stateful ANSI renderer: draws the full board once per Board, pins it at the top of the terminal with a
+// scroll region, and afterwards rewrites only the cells whose label changed plus the player legend line.
+// Frames where nobody moved emit nothing, so calling render several times per turn is free.
+// The pinned area counts one terminal line per board row and legend line, so snake/ladder legends are wrapped to
+// the terminal width (from COLUMNS or `stty size`, re-measured per board). A board whose rows or player legend
+// would still wrap, or that leaves too little room for the log, is drawn by ConsoleBoardRenderer instead.
+public class IncrementalConsoleBoardRenderer implements BoardRenderer {
+    private static final String ESC = "\u001B[";
+    private static final int DEFAULT_COLUMNS = 80;
+    private static final int DEFAULT_ROWS = 24;
+    private static final int MIN_LOG_ROWS = 3; // terminal lines left below the pinned board for the game log
+
+    private final Writer out;
+    private final boolean measure;
+    private final BoardRenderer fallback;
+    private int columns;
+    private int rows;
+    private boolean fits;
+    private Board board;
+    private String[] staticLabels;   // padded label per cell when no player stands on it
+    private String[] shownLabels;    // what is currently on screen per cell
+    private int[] screenRow;         // 1-based terminal row per cell
+    private int[] screenCol;         // 1-based terminal column per cell
+    private int[] occupancy;         // players per cell in the frame being built
+    private int[] firstOccupant;     // lowest seat per cell in the frame being built
+    private int[] lastPositions = new int[0]; // player positions as of the previous frame
+    private int legendRow;
+    private List<String> jumpLegends; // snake and ladder legends, wrapped to the terminal width
+    private String shownLegend = "";
+
+    // Writes to stdout and measures the terminal before drawing each new board
+    public IncrementalConsoleBoardRenderer() {
+        this(new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8)), 0, 0, true);
+    }
+
+    // A writer that is not a terminal: no size limit, always incremental
+    public IncrementalConsoleBoardRenderer(Writer out) {
+        this(out, Integer.MAX_VALUE, Integer.MAX_VALUE, false);
+    }
+
+    public IncrementalConsoleBoardRenderer(Writer out, int columns, int rows) {
+        this(out, columns, rows, false);
+    }
+
+    private IncrementalConsoleBoardRenderer(Writer out, int columns, int rows, boolean measure) {
+        this.out = out;
+        this.columns = columns;
+        this.rows = rows;
+        this.measure = measure;
+        this.fallback = new ConsoleBoardRenderer();
+    }
+
+    @Override
+    public void render(Board board, List<Player> players) {
+        long start = Metrics.startTimer();
+        try {
+            if (board != this.board) {
+                if (fits) out.write(ESC + "r"); // leaving the pinned layout of the previous board
+                layout(board);
+                if (measure) measureTerminal();
+                fits = fits(players);
+                if (fits) drawFull(players);
+            } else if (fits) {
+                drawChanges(players);
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!fits) fallback.render(board, players); // records its own render time
+        else if (Metrics.ENABLED) Metrics.RENDER_NANOS.recordSince(start);
+    }
+
+    // True if this board falls back to full redraws because it does not fit the terminal
+    public boolean isFallback() {
+        return board != null && !fits;
+    }
+
+    // Releases the pinned board area so later output uses the whole terminal again
+    public void reset() {
+        try {
+            out.write(ESC + "r");
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void layout(Board board) {
+        int n = board.getSize();
+        int last = board.getLastIndex();
+        this.board = board;
+        this.staticLabels = new String[last + 1];
+        this.shownLabels = new String[last + 1];
+        this.screenRow = new int[last + 1];
+        this.screenCol = new int[last + 1];
+        this.occupancy = new int[last + 1];
+        this.firstOccupant = new int[last + 1];
+        this.lastPositions = new int[0];
+        for (int row = 0; row < n; row++) {
+            for (int c = 0; c < n; c++) {
+                int effectiveCol = (row % 2 == 0) ? c : (n - 1 - c);
+                int idx = row * n + effectiveCol;
+                String label;
+                if (board.isSnakeHead(idx)) {
+                    label = ConsoleBoardRenderer.SNAKE_EMOJI;
+                } else if (board.isLadderStart(idx)) {
+                    label = ConsoleBoardRenderer.LADDER_EMOJI;
+                } else {
+                    // Same numbering as ConsoleBoardRenderer
+                    int human = (row % 2 == 0) ? row * n + effectiveCol + 1 : (row + 1) * n - effectiveCol;
+                    label = String.valueOf(human);
+                }
+                staticLabels[idx] = ConsoleBoardRenderer.padCenter(label, ConsoleBoardRenderer.CELL_WIDTH);
+                screenRow[idx] = n - row;
+                screenCol[idx] = 1 + c * (ConsoleBoardRenderer.CELL_WIDTH + 1);
+            }
+        }
+        legendRow = n + 1;
+    }
+
+    private void drawFull(List<Player> players) throws IOException {
+        int n = board.getSize();
+        collectOccupancy(players);
+        out.write(ESC + "r" + ESC + "2J" + ESC + "H");
+        for (int displayRow = n - 1; displayRow >= 0; displayRow--) {
+            for (int c = 0; c < n; c++) {
+                int effectiveCol = (displayRow % 2 == 0) ? c : (n - 1 - c);
+                int idx = displayRow * n + effectiveCol;
+                String label = labelFor(idx, players);
+                shownLabels[idx] = label;
+                out.write(label);
+                if (c < n - 1) out.write(' ');
+            }
+            out.write('\n');
+        }
+        shownLegend = playersLegend(players);
+        out.write(shownLegend);
+        out.write('\n');
+        int lines = legendRow + 1;
+        for (String legend : jumpLegends) {
+            out.write(legend + "\n");
+            lines++;
+        }
+        // Everything printed from here on scrolls underneath the pinned board
+        out.write(ESC + (lines + 1) + "r" + ESC + (lines + 1) + ";1H");
+        rememberOccupied(players);
+    }
+
+    // Snake and ladder legends as terminal lines, breaking between entries; each omitted when empty
+    private List<String> wrapJumpLegends() {
+        List<String> snakes = new ArrayList<>();
+        List<String> ladders = new ArrayList<>();
+        for (int i = 0; i <= board.getLastIndex(); i++) {
+            if (board.isSnakeHead(i)) {
+                Snake s = board.getSnakeAt(i).get();
+                snakes.add(s.getHead() + "->" + s.getTail());
+            } else if (board.isLadderStart(i)) {
+                Ladder l = board.getLadderAt(i).get();
+                ladders.add(l.getStart() + "->" + l.getEnd());
+            }
+        }
+        List<String> lines = new ArrayList<>();
+        wrap(ConsoleBoardRenderer.SNAKE_EMOJI + " (head->tail):", snakes, lines);
+        wrap(ConsoleBoardRenderer.LADDER_EMOJI + " (start->end):", ladders, lines);
+        return lines;
+    }
+
+    private void wrap(String prefix, List<String> entries, List<String> lines) {
+        if (entries.isEmpty()) return;
+        StringBuilder line = new StringBuilder(prefix);
+        int width = displayWidth(prefix);
+        for (int i = 0; i < entries.size(); i++) {
+            String entry = i < entries.size() - 1 ? entries.get(i) + "," : entries.get(i);
+            if (width > 0 && width + 1 + entry.length() > columns) {
+                lines.add(line.toString());
+                line.setLength(0);
+                width = 0;
+            }
+            if (width > 0) {
+                line.append(' ');
+                width++;
+            }
+            line.append(entry);
+            width += entry.length();
+        }
+        lines.add(line.toString());
+    }
+
+    // Every pinned line must fit on one terminal line, with a few lines left for the log. The player legend is
+    // checked with every position at its widest, since it is rewritten in place as players move.
+    private boolean fits(List<Player> players) {
+        int n = board.getSize();
+        if (n * (ConsoleBoardRenderer.CELL_WIDTH + 1) - 1 > columns) return false;
+        List<Player> widest = new ArrayList<>(players.size());
+        for (Player p : players) {
+            Player w = new Player(p.getName());
+            w.setPosition(board.getLastIndex());
+            widest.add(w);
+        }
+        if (displayWidth(playersLegend(widest)) > columns) return false;
+        jumpLegends = wrapJumpLegends();
+        for (String legend : jumpLegends) {
+            if (displayWidth(legend) > columns) return false; // only a terminal narrower than the prefix
+        }
+        return (long) n + 1 + jumpLegends.size() + MIN_LOG_ROWS <= rows;
+    }
+
+    // Terminal columns a string takes, erring wide: any non-ASCII symbol counts as two columns, emoji
+    // modifiers (variation selectors, the keycap mark) as none
+    static int displayWidth(String s) {
+        int width = 0;
+        for (int i = 0; i < s.length(); ) {
+            int cp = s.codePointAt(i);
+            i += Character.charCount(cp);
+            if (cp < 0x80) width++;
+            else if (cp != 0xFE0F && cp != 0x20E3 && Character.getType(cp) != Character.NON_SPACING_MARK) width += 2;
+        }
+        return width;
+    }
+
+    // COLUMNS/LINES if the shell exports them, else `stty size` on the controlling terminal, else 80x24
+    private void measureTerminal() {
+        columns = envInt("COLUMNS");
+        rows = envInt("LINES");
+        if (columns <= 0 || rows <= 0) {
+            int[] size = sttySize();
+            if (columns <= 0) columns = size[1];
+            if (rows <= 0) rows = size[0];
+        }
+    }
+
+    private static int envInt(String name) {
+        try {
+            String value = System.getenv(name);
+            return value == null ? -1 : Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static int[] sttySize() {
+        try {
+            Process stty = new ProcessBuilder("sh", "-c", "stty size < /dev/tty")
+                    .redirectErrorStream(true).start();
+            String[] parts = new String(stty.getInputStream().readAllBytes(), StandardCharsets.US_ASCII)
+                    .trim().split("\\s+");
+            if (stty.waitFor() == 0 && parts.length == 2) {
+                return new int[] {Integer.parseInt(parts[0]), Integer.parseInt(parts[1])};
+            }
+        } catch (IOException | NumberFormatException e) {
+            // no stty or no terminal: use the defaults
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return new int[] {DEFAULT_ROWS, DEFAULT_COLUMNS};
+    }
+
+    private void drawChanges(List<Player> players) throws IOException {
+        collectOccupancy(players);
+        boolean saved = false;
+        for (int idx : lastPositions) {
+            saved = redrawIfChanged(idx, players, saved);
+        }
+        for (Player p : players) {
+            saved = redrawIfChanged(p.getPosition(), players, saved);
+        }
+        String legend = playersLegend(players);
+        if (!legend.equals(shownLegend)) {
+            if (!saved) {
+                out.write("\u001B7");
+                saved = true;
+            }
+            out.write(ESC + legendRow + ";1H" + ESC + "2K" + legend);
+            shownLegend = legend;
+        }
+        if (saved) {
+            out.write("\u001B8");
+        }
+        rememberOccupied(players);
+    }
+
+    private boolean redrawIfChanged(int idx, List<Player> players, boolean saved) throws IOException {
+        String label = labelFor(idx, players);
+        if (label.equals(shownLabels[idx])) {
+            return saved;
+        }
+        if (!saved) {
+            out.write("\u001B7"); // save cursor so the scrolling log continues where it was
+        }
+        out.write(ESC + screenRow[idx] + ";" + screenCol[idx] + "H");
+        out.write(label);
+        shownLabels[idx] = label;
+        return true;
+    }
+
+    private void collectOccupancy(List<Player> players) {
+        for (int pos : lastPositions) {
+            occupancy[pos] = 0;
+        }
+        for (int seat = 0; seat < players.size(); seat++) {
+            int pos = players.get(seat).getPosition();
+            if (occupancy[pos]++ == 0) firstOccupant[pos] = seat;
+        }
+    }
+
+    private void rememberOccupied(List<Player> players) {
+        if (lastPositions.length != players.size()) {
+            lastPositions = new int[players.size()];
+        }
+        for (int seat = 0; seat < players.size(); seat++) {
+            lastPositions[seat] = players.get(seat).getPosition();
+        }
+    }
+
+    private String labelFor(int idx, List<Player> players) {
+        int count = occupancy[idx];
+        if (count == 0) return staticLabels[idx];
+        String label = count == 1 ? ConsoleBoardRenderer.symbolFor(firstOccupant[idx]) : (count < 10 ? "✳" + count : "**");
+        return ConsoleBoardRenderer.padCenter(label, ConsoleBoardRenderer.CELL_WIDTH);
+    }
+
+    private static String playersLegend(List<Player> players) {
+        StringBuilder legend = new StringBuilder("Players: ");
+        for (int i = 0; i < players.size(); i++) {
+            Player p = players.get(i);
+            legend.append(ConsoleBoardRenderer.symbolFor(i)).append("=").append(p.getName())
+                    .append("@").append(p.getPosition());
+            if (i < players.size() - 1) legend.append(" | ");
+        }
+        return legend.toString();
+    }
+}
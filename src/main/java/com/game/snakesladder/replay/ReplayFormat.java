@@ -0,0 +1,34 @@
+package com.game.snakesladder.replay;
+
+// Layout of a replay log (all integers are unsigned LEB128 varints unless noted):
+//   header: magic "SLRP" (4 bytes), version (1 byte), board size, snake count, {head, tail}*,
+//           ladder count, {start, end}*, seed flag (1 byte), seed (8 bytes big-endian, only if flag is 1)
+//   records, each starting with a tag byte:
+//     GAME_START  player count
+//     TURN | n    seat, n rolls, (position << 3 | flags) where flags are won/revoked/extra from TurnOutcome
+//     KILL        victim seat (killer and cell are the preceding turn's seat and position)
+//     GAME_END    winner seat, turns
+//     GAME_UNFINISHED  turns (the game hit its turn limit; added in version 2, which readers of version 1 reject)
+final class ReplayFormat {
+    static final int MAGIC = 0x534C5250; // "SLRP"
+    static final byte VERSION = 2;
+
+    static final int TAG_GAME_START = 0x01;
+    static final int TAG_KILL = 0x02;
+    static final int TAG_GAME_END = 0x03;
+    static final int TAG_GAME_UNFINISHED = 0x04;
+    static final int TAG_TURN = 0x10; // low nibble carries the roll count
+    static final int MAX_ROLLS = 0x0F;
+
+    static final int FLAG_EXTRA = 1;
+    static final int FLAG_REVOKED = 2;
+    static final int FLAG_WON = 4;
+
+    static final int MAX_VARINT_BYTES = 5;
+    // Largest record: tag, seat, MAX_ROLLS rolls, position
+    static final int MAX_RECORD_BYTES = 1 + MAX_VARINT_BYTES * (MAX_ROLLS + 2);
+    static final int BUFFER_SIZE = 1 << 16;
+
+    private ReplayFormat() {
+    }
+}
@@ -0,0 +1,170 @@
+package com.game.snakesladder.replay;
+
+import com.game.snakesladder.engine.GameEventListener;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.model.Ladder;
+import com.game.snakesladder.model.Snake;
+import com.game.snakesladder.rules.TurnOutcome;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalLong;
+
+import static com.game.snakesladder.replay.ReplayFormat.*;
+
+// Streams a log written by ReplayWriter back through a GameEventListener. Only one buffer's worth of the
+// file is held in memory, so logs of any size can be replayed or aggregated. Start positions are not
+// stored; the reader rebuilds them by tracking every seat as the events go by.
+public class ReplayReader implements Closeable {
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final int[] rolls = new int[MAX_ROLLS];
+    private final Board board;
+    private final OptionalLong seed;
+    private boolean eof;
+    private int[] positions = new int[0];
+    private int lastSeat = -1;
+    private int lastPosition;
+
+    public ReplayReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        buffer.limit(0);
+        try {
+            fill(5);
+            if (buffer.remaining() < 5 || buffer.getInt() != MAGIC) {
+                throw new IOException("Not a replay log: " + path);
+            }
+            byte version = buffer.get();
+            if (version < 1 || version > VERSION) { // a version 1 log is a valid version 2 log
+                throw new IOException("Unsupported replay log version " + version);
+            }
+            int size = readVarint();
+            int snakeCount = readVarint();
+            List<Snake> snakes = new ArrayList<>(snakeCount);
+            for (int i = 0; i < snakeCount; i++) {
+                snakes.add(new Snake(readVarint(), readVarint()));
+            }
+            int ladderCount = readVarint();
+            List<Ladder> ladders = new ArrayList<>(ladderCount);
+            for (int i = 0; i < ladderCount; i++) {
+                ladders.add(new Ladder(readVarint(), readVarint()));
+            }
+            this.board = new Board(size, snakes, ladders);
+            fill(9);
+            this.seed = buffer.get() == 1 ? OptionalLong.of(buffer.getLong()) : OptionalLong.empty();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public OptionalLong getSeed() {
+        return seed;
+    }
+
+    // Dispatches the next event; returns false at the end of the log
+    public boolean next(GameEventListener listener) throws IOException {
+        fill(MAX_RECORD_BYTES);
+        if (!buffer.hasRemaining()) {
+            return false;
+        }
+        int tag = buffer.get() & 0xFF;
+        if ((tag & ~MAX_ROLLS) == TAG_TURN) {
+            int rollCount = tag & MAX_ROLLS;
+            int seat = readVarint();
+            for (int i = 0; i < rollCount; i++) {
+                rolls[i] = readVarint();
+            }
+            int encoded = readVarint();
+            int position = encoded >>> 3;
+            int outcome = TurnOutcome.pack(position, (encoded & FLAG_EXTRA) != 0,
+                    (encoded & FLAG_REVOKED) != 0, (encoded & FLAG_WON) != 0);
+            int start = positions[seat];
+            if ((encoded & FLAG_REVOKED) == 0) {
+                positions[seat] = position;
+            }
+            lastSeat = seat;
+            lastPosition = positions[seat];
+            listener.onTurn(seat, start, rolls, rollCount, outcome);
+        } else if (tag == TAG_GAME_START) {
+            int players = readVarint();
+            if (positions.length != players) {
+                positions = new int[players];
+            } else {
+                Arrays.fill(positions, 0);
+            }
+            lastSeat = -1;
+            listener.onGameStart(board, players);
+        } else if (tag == TAG_KILL) {
+            int victim = readVarint();
+            positions[victim] = 0;
+            listener.onKill(lastSeat, victim, lastPosition);
+        } else if (tag == TAG_GAME_END) {
+            int winner = readVarint();
+            int turns = readVarint();
+            listener.onGameEnd(winner, turns);
+        } else if (tag == TAG_GAME_UNFINISHED) {
+            listener.onGameUnfinished(readVarint());
+        } else {
+            throw new IOException("Corrupt replay log: unknown record tag " + tag);
+        }
+        return true;
+    }
+
+    // Replays the remainder of the log and returns the number of events dispatched
+    public long replay(GameEventListener listener) throws IOException {
+        long events = 0;
+        while (next(listener)) {
+            events++;
+        }
+        return events;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // Makes at least `bytes` bytes available unless the file ends first
+    private void fill(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes || eof) {
+            return;
+        }
+        buffer.compact();
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                eof = true;
+                break;
+            }
+        }
+        buffer.flip();
+    }
+
+    private int readVarint() throws IOException {
+        fill(MAX_VARINT_BYTES);
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (!buffer.hasRemaining()) {
+                throw new EOFException("Truncated replay log");
+            }
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Corrupt replay log: varint too long");
+    }
+}
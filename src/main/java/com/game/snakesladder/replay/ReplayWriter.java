@@ -0,0 +1,162 @@
+package com.game.snakesladder.replay;
+
+import com.game.snakesladder.engine.GameEventListener;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.rules.TurnOutcome;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.OptionalLong;
+
+import static com.game.snakesladder.replay.ReplayFormat.*;
+
+// Append-only binary game log; attach it with GameEngine.setListener or BatchSimulator.setListener.
+// Events are varint-encoded into a direct buffer and written to the channel only when it fills up.
+// One log covers one board: games on a different board are rejected.
+public class ReplayWriter implements GameEventListener, Closeable {
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final Board board;
+
+    public ReplayWriter(Path path, Board board, OptionalLong seed) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.board = board;
+        try {
+            writeHeader(board, seed);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void writeHeader(Board board, OptionalLong seed) throws IOException {
+        buffer.putInt(MAGIC).put(VERSION);
+        putVarint(board.getSize());
+        int last = board.getLastIndex();
+        int snakes = 0;
+        int ladders = 0;
+        for (int i = 0; i <= last; i++) {
+            if (board.isSnakeHead(i)) snakes++;
+            else if (board.isLadderStart(i)) ladders++;
+        }
+        ensure(MAX_VARINT_BYTES);
+        putVarint(snakes);
+        for (int i = 0; i <= last; i++) {
+            if (board.isSnakeHead(i)) {
+                ensure(2 * MAX_VARINT_BYTES);
+                putVarint(i);
+                putVarint(board.jumpTarget(i));
+            }
+        }
+        ensure(MAX_VARINT_BYTES);
+        putVarint(ladders);
+        for (int i = 0; i <= last; i++) {
+            if (board.isLadderStart(i)) {
+                ensure(2 * MAX_VARINT_BYTES);
+                putVarint(i);
+                putVarint(board.jumpTarget(i));
+            }
+        }
+        ensure(9);
+        if (seed.isPresent()) {
+            buffer.put((byte) 1).putLong(seed.getAsLong());
+        } else {
+            buffer.put((byte) 0);
+        }
+    }
+
+    @Override
+    public void onGameStart(Board board, int playerCount) {
+        if (board != this.board) {
+            throw new IllegalArgumentException("Replay log was opened for a different board");
+        }
+        ensureRecord();
+        buffer.put((byte) TAG_GAME_START);
+        putVarint(playerCount);
+    }
+
+    @Override
+    public void onTurn(int seat, int startPosition, int[] rolls, int rollCount, int outcome) {
+        if (rollCount > MAX_ROLLS) {
+            throw new IllegalArgumentException("Too many rolls in one turn: " + rollCount);
+        }
+        ensureRecord();
+        buffer.put((byte) (TAG_TURN | rollCount));
+        putVarint(seat);
+        for (int i = 0; i < rollCount; i++) {
+            putVarint(rolls[i]);
+        }
+        int flags = (TurnOutcome.getsExtraTurn(outcome) ? FLAG_EXTRA : 0)
+                | (TurnOutcome.isRevoked(outcome) ? FLAG_REVOKED : 0)
+                | (TurnOutcome.isWon(outcome) ? FLAG_WON : 0);
+        putVarint(TurnOutcome.position(outcome) << 3 | flags);
+    }
+
+    @Override
+    public void onKill(int killerSeat, int victimSeat, int cell) {
+        ensureRecord();
+        buffer.put((byte) TAG_KILL);
+        putVarint(victimSeat);
+    }
+
+    @Override
+    public void onGameEnd(int winnerSeat, int turns) {
+        ensureRecord();
+        buffer.put((byte) TAG_GAME_END);
+        putVarint(winnerSeat);
+        putVarint(turns);
+    }
+
+    @Override
+    public void onGameUnfinished(int turns) {
+        ensureRecord();
+        buffer.put((byte) TAG_GAME_UNFINISHED);
+        putVarint(turns);
+    }
+
+    // Pushes buffered events to the file (not forced to disk)
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void ensureRecord() {
+        try {
+            ensure(MAX_RECORD_BYTES);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void putVarint(int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+}
@@ -1,24 +1,117 @@
 package com.game.snakesladder.rules;
 
+import com.game.snakesladder.metrics.Metrics;
 import com.game.snakesladder.model.Board;
-import com.game.snakesladder.model.Ladder;
-import com.game.snakesladder.model.Snake;
 
-import java.util.Optional;
+import java.util.Arrays;
 
 public class RulesEngine {
     private final Board board;
+    private final TurnTable turnTable; // null: resolve by replaying the rolls
+    // Per-instance tallies, published to the shared Metrics counters by flushMetrics(); plain fields because
+    // an engine has a single owner and a LongAdder update per roll would dominate a ~15 ns turn
+    private long resolutions;
+    private long snakeBites;
+    private long ladderClimbs;
+    private long overshoots;
+    // Table-resolved turns by packed event byte, decoded at flush: one increment per turn instead of four
+    private final long[] turnsByEvents = Metrics.ENABLED ? new long[TurnTable.EVENT_KINDS] : null;
 
     public RulesEngine(Board board) {
+        this(board, null);
+    }
+
+    private RulesEngine(Board board, TurnTable turnTable) {
+        if (board.getLastIndex() > TurnOutcome.POSITION_MASK) {
+            throw new IllegalArgumentException("Board too large for packed turn outcomes");
+        }
         this.board = board;
+        this.turnTable = turnTable;
+    }
+
+    // Resolves roll-loop sequences with the board's shared TurnTable (one array load per turn), falling back to
+    // the rules for anything else. With metrics on, snake/ladder/overshoot counts come from the table's per-entry
+    // event counts, so they stay exact without replaying.
+    // Boards above TurnTable.MAX_CELLS get no table: it would be 72 bytes per cell and no longer fit in cache.
+    public static RulesEngine withTurnTable(Board board) {
+        boolean fits = board.getLastIndex() < TurnTable.MAX_CELLS;
+        return new RulesEngine(board, fits ? TurnTable.forBoard(board) : null);
     }
 
     public TurnOutcome applyTurn(int startPosition, int[] rolls) {
+        long start = Metrics.startTimer();
+        int[] snapshot = Arrays.copyOf(rolls, rolls.length);
+        int packed = resolveTurn(startPosition, snapshot, snapshot.length);
+        if (Metrics.ENABLED) Metrics.APPLY_TURN_NANOS.recordSince(start);
+        return new TurnOutcome(packed, () -> describeTurn(startPosition, snapshot, snapshot.length));
+    }
+
+    // Allocation-free turn resolution; decode the result with the TurnOutcome static helpers
+    public int resolveTurn(int startPosition, int[] rolls, int rollCount) {
+        if (turnTable != null) {
+            int id = turnTable.sequenceId(rolls, rollCount);
+            if (id >= 0) {
+                if (Metrics.ENABLED) turnsByEvents[turnTable.events(startPosition, id)]++;
+                return turnTable.outcome(startPosition, id);
+            }
+        }
+        return resolve(startPosition, rolls, rollCount, null, Metrics.ENABLED);
+    }
+
+    // Snake bites, ladder climbs and overshoots of one turn packed as TurnTable.events stores them; counts
+    // regardless of Metrics.ENABLED, for building the table
+    int events(int startPosition, int[] rolls, int rollCount) {
+        long resolved = resolutions;
+        long bites = snakeBites;
+        long climbs = ladderClimbs;
+        long misses = overshoots;
+        resolve(startPosition, rolls, rollCount, null, true);
+        int packed = TurnTable.packEvents((int) (snakeBites - bites), (int) (ladderClimbs - climbs),
+                (int) (overshoots - misses));
+        resolutions = resolved;
+        snakeBites = bites;
+        ladderClimbs = climbs;
+        overshoots = misses;
+        return packed;
+    }
+
+    private void countTableTurns() {
+        for (int events = 0; events < turnsByEvents.length; events++) {
+            long turns = turnsByEvents[events];
+            if (turns == 0) continue;
+            resolutions += turns;
+            snakeBites += turns * TurnTable.snakeBites(events);
+            ladderClimbs += turns * TurnTable.ladderClimbs(events);
+            overshoots += turns * TurnTable.overshoots(events);
+            turnsByEvents[events] = 0;
+        }
+    }
+
+    // Narrative text for a turn, e.g. "Bitten by snake to 12. "
+    public String describeTurn(int startPosition, int[] rolls, int rollCount) {
+        StringBuilder message = new StringBuilder();
+        resolve(startPosition, rolls, rollCount, message, false);
+        return message.toString();
+    }
+
+    // Adds this engine's tallies since the last flush to Metrics; owners call it at game or turn boundaries
+    public void flushMetrics() {
+        if (!Metrics.ENABLED) return;
+        countTableTurns();
+        Metrics.RULES_RESOLUTIONS.add(resolutions);
+        Metrics.SNAKE_BITES.add(snakeBites);
+        Metrics.LADDER_CLIMBS.add(ladderClimbs);
+        Metrics.OVERSHOOTS.add(overshoots);
+        resolutions = snakeBites = ladderClimbs = overshoots = 0;
+    }
+
+    // describeTurn passes counted = false: it re-resolves a turn that was already counted
+    private int resolve(int startPosition, int[] rolls, int rollCount, StringBuilder message, boolean counted) {
+        if (counted) resolutions++;
         int position = startPosition;
         int consecutiveSixes = 0;
-        StringBuilder message = new StringBuilder();
 
-        for (int i = 0; i < rolls.length; i++) {
+        for (int i = 0; i < rollCount; i++) {
             int roll = rolls[i];
 
             if (roll == 6) {
@@ -28,40 +121,38 @@ public class RulesEngine {
             }
 
             if (consecutiveSixes == 3) {
-                message.append("Three sixes rolled. Turn revoked. ");
-                return new TurnOutcome(startPosition, false, true, false, message.toString());
+                if (message != null) message.append("Three sixes rolled. Turn revoked. ");
+                return startPosition | TurnOutcome.REVOKED_FLAG;
             }
 
             int tentative = position + roll;
             if (tentative > board.getLastIndex()) {
-                message.append("Overshoot ignored (need exact). ");
+                if (message != null) message.append("Overshoot ignored (need exact). ");
+                if (counted) overshoots++;
                 // do not move on overshoot
             } else {
-                position = tentative;
                 // check snake or ladder
-                Optional<Snake> snake = board.getSnakeAt(position);
-                if (snake.isPresent()) {
-                    position = snake.get().getTail();
-                    message.append("Bitten by snake to ").append(position).append(". ");
-                } else {
-                    Optional<Ladder> ladder = board.getLadderAt(position);
-                    if (ladder.isPresent()) {
-                        position = ladder.get().getEnd();
+                position = board.jumpTarget(tentative);
+                if (counted && position != tentative) {
+                    if (position < tentative) snakeBites++;
+                    else ladderClimbs++;
+                }
+                if (message != null) {
+                    if (position < tentative) {
+                        message.append("Bitten by snake to ").append(position).append(". ");
+                    } else if (position > tentative) {
                         message.append("Climbed ladder to ").append(position).append(". ");
                     }
                 }
             }
 
             if (position == board.getLastIndex()) {
-                message.append("Reached last cell. ");
-                return new TurnOutcome(position, false, false, true, message.toString());
+                if (message != null) message.append("Reached last cell. ");
+                return position | TurnOutcome.WON_FLAG;
             }
         }
 
-        boolean extra = rolls.length > 0 && rolls[rolls.length - 1] == 6 && consecutiveSixes < 3;
-        return new TurnOutcome(position, extra, false, false, message.toString());
+        boolean extra = rollCount > 0 && rolls[rollCount - 1] == 6 && consecutiveSixes < 3;
+        return extra ? position | TurnOutcome.EXTRA_TURN_FLAG : position;
     }
 }
-
-
-
@@ -0,0 +1,44 @@
+package com.game.snakesladder.rules;
+
+import com.game.snakesladder.model.SparseBoard;
+
+// RulesEngine.resolveTurn for SparseBoard: the same roll loop (three sixes revoke, exact finish, snakes and
+// ladders on landing) over long cell indices. Each landing is one Eytzinger lookup, and nothing is allocated
+// per cell, so memory stays proportional to the number of snakes and ladders. Outcomes use the long
+// encoding in TurnOutcome (LONG_*_FLAG; decode with the long overloads of position/isWon/...).
+public class SparseRulesEngine {
+    private final SparseBoard board;
+
+    public SparseRulesEngine(SparseBoard board) {
+        if (board.getLastIndex() > TurnOutcome.LONG_POSITION_MASK) {
+            throw new IllegalArgumentException("Board too large for packed turn outcomes");
+        }
+        this.board = board;
+    }
+
+    public long resolveTurn(long startPosition, int[] rolls, int rollCount) {
+        long last = board.getLastIndex();
+        long position = startPosition;
+        int consecutiveSixes = 0;
+        for (int i = 0; i < rollCount; i++) {
+            int roll = rolls[i];
+            consecutiveSixes = roll == 6 ? consecutiveSixes + 1 : 0;
+            if (consecutiveSixes == 3) {
+                return startPosition | TurnOutcome.LONG_REVOKED_FLAG;
+            }
+            long tentative = position + roll;
+            if (tentative <= last) { // overshoot: stay put
+                position = board.jumpTarget(tentative);
+            }
+            if (position == last) {
+                return position | TurnOutcome.LONG_WON_FLAG;
+            }
+        }
+        boolean extra = rollCount > 0 && rolls[rollCount - 1] == 6 && consecutiveSixes < 3;
+        return extra ? position | TurnOutcome.LONG_EXTRA_TURN_FLAG : position;
+    }
+
+    public SparseBoard getBoard() {
+        return board;
+    }
+}
@@ -1,11 +1,25 @@
 package com.game.snakesladder.rules;
 
+import java.util.function.Supplier;
+
 public class TurnOutcome {
+    // Packed encoding used by RulesEngine.resolveTurn: final position in the low bits plus flag bits
+    public static final int POSITION_MASK = (1 << 28) - 1;
+    public static final int EXTRA_TURN_FLAG = 1 << 28;
+    public static final int REVOKED_FLAG = 1 << 29;
+    public static final int WON_FLAG = 1 << 30;
+    // Same idea in a long for SparseRulesEngine, whose positions need more than 28 bits
+    public static final long LONG_POSITION_MASK = (1L << 60) - 1;
+    public static final long LONG_EXTRA_TURN_FLAG = 1L << 60;
+    public static final long LONG_REVOKED_FLAG = 1L << 61;
+    public static final long LONG_WON_FLAG = 1L << 62;
+
     public final int finalPosition;
     public final boolean getsExtraTurn;
     public final boolean turnRevoked;
     public final boolean won;
-    public final String message;
+    private Supplier<String> messageSupplier;
+    private String message;
 
     public TurnOutcome(int finalPosition, boolean getsExtraTurn, boolean turnRevoked, boolean won, String message) {
         this.finalPosition = finalPosition;
@@ -14,7 +28,62 @@ public class TurnOutcome {
         this.won = won;
         this.message = message;
     }
-}
 
+    // Unpacks a resolveTurn result; the message is only built if getMessage() is called
+    public TurnOutcome(int packed, Supplier<String> messageSupplier) {
+        this.finalPosition = position(packed);
+        this.getsExtraTurn = getsExtraTurn(packed);
+        this.turnRevoked = isRevoked(packed);
+        this.won = isWon(packed);
+        this.messageSupplier = messageSupplier;
+    }
+
+    public String getMessage() {
+        if (message == null) {
+            message = messageSupplier == null ? "" : messageSupplier.get();
+            messageSupplier = null;
+        }
+        return message;
+    }
+
+    public static int pack(int finalPosition, boolean getsExtraTurn, boolean turnRevoked, boolean won) {
+        int packed = finalPosition;
+        if (getsExtraTurn) packed |= EXTRA_TURN_FLAG;
+        if (turnRevoked) packed |= REVOKED_FLAG;
+        if (won) packed |= WON_FLAG;
+        return packed;
+    }
+
+    public static int position(int packed) {
+        return packed & POSITION_MASK;
+    }
 
+    public static boolean getsExtraTurn(int packed) {
+        return (packed & EXTRA_TURN_FLAG) != 0;
+    }
 
+    public static boolean isRevoked(int packed) {
+        return (packed & REVOKED_FLAG) != 0;
+    }
+
+    public static boolean isWon(int packed) {
+        return (packed & WON_FLAG) != 0;
+    }
+
+    // Overloads for the long encoding; an int outcome still picks the int versions above
+    public static long position(long packed) {
+        return packed & LONG_POSITION_MASK;
+    }
+
+    public static boolean getsExtraTurn(long packed) {
+        return (packed & LONG_EXTRA_TURN_FLAG) != 0;
+    }
+
+    public static boolean isRevoked(long packed) {
+        return (packed & LONG_REVOKED_FLAG) != 0;
+    }
+
+    public static boolean isWon(long packed) {
+        return (packed & LONG_WON_FLAG) != 0;
+    }
+}
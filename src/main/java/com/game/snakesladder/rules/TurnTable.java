@@ -0,0 +1,100 @@
+package com.game.snakesladder.rules;
+
+import com.game.snakesladder.metrics.Metrics;
+import com.game.snakesladder.model.Board;
+
+import java.util.function.Function;
+
+// Every turn the roll loop can produce is k sixes (0..2) followed by one more roll x, so a turn is identified by
+// sequenceId = k * faces + (x - 1). This table holds the packed TurnOutcome for every (start, sequenceId) pair,
+// turning resolution into one array load. Built lazily once per Board and shared through Board.derived.
+// Footprint is (cells * 3 * faces) ints: 2500 * 18 * 4 bytes = ~176 KiB for a 50x50 board with a d6. With metrics
+// on, a parallel byte per entry holds the turn's snake bites, ladder climbs and overshoots (2 bits each, at most 3
+// rolls), so counting them costs one more load instead of replaying the turn.
+public final class TurnTable {
+    public static final int SIX = 6;
+    // Largest board RulesEngine.withTurnTable builds a table for: 256x256, a 4.5 MiB table
+    public static final int MAX_CELLS = 1 << 16;
+    private static final int MAX_SIXES = 3;
+    static final int EVENT_KINDS = 1 << 6; // distinct packed event bytes
+    private static final Function<Board, TurnTable> SIX_SIDED = b -> new TurnTable(b, SIX);
+
+    private final int faces;
+    private final int stride;
+    private final int[] outcomes; // [start * stride + sequenceId]
+    private final byte[] events;  // same index; null unless Metrics.ENABLED
+
+    private TurnTable(Board board, int faces) {
+        int cells = board.getLastIndex() + 1;
+        this.faces = faces;
+        this.stride = MAX_SIXES * faces;
+        if ((long) cells * stride > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Board too large for a turn table");
+        }
+        this.outcomes = new int[cells * stride];
+        this.events = Metrics.ENABLED ? new byte[cells * stride] : null;
+        RulesEngine rules = new RulesEngine(board);
+        int[] rolls = new int[MAX_SIXES];
+        for (int start = 0; start < cells; start++) {
+            for (int k = 0; k < MAX_SIXES; k++) {
+                for (int x = 1; x <= faces; x++) {
+                    for (int i = 0; i < k; i++) rolls[i] = SIX;
+                    rolls[k] = x;
+                    int entry = start * stride + k * faces + x - 1;
+                    outcomes[entry] = rules.resolveTurn(start, rolls, k + 1);
+                    if (events != null) events[entry] = (byte) rules.events(start, rolls, k + 1);
+                }
+            }
+        }
+    }
+
+    // The shared table for a six-sided die on this board, built on first use
+    public static TurnTable forBoard(Board board) {
+        return board.derived(SIX_SIDED);
+    }
+
+    // Id of a roll sequence, or -1 if it is not one the roll loop produces (every roll but the last a six)
+    public int sequenceId(int[] rolls, int rollCount) {
+        if (rollCount < 1 || rollCount > MAX_SIXES) return -1;
+        for (int i = 0; i < rollCount - 1; i++) {
+            if (rolls[i] != SIX) return -1;
+        }
+        int x = rolls[rollCount - 1];
+        if (x < 1 || x > faces) return -1;
+        return (rollCount - 1) * faces + x - 1;
+    }
+
+    public int outcome(int start, int sequenceId) {
+        return outcomes[start * stride + sequenceId];
+    }
+
+    // Packed snake bites, ladder climbs and overshoots of the turn; only available with metrics on
+    public int events(int start, int sequenceId) {
+        return events[start * stride + sequenceId];
+    }
+
+    static int packEvents(int snakeBites, int ladderClimbs, int overshoots) {
+        return snakeBites | ladderClimbs << 2 | overshoots << 4;
+    }
+
+    public static int snakeBites(int events) {
+        return events & 3;
+    }
+
+    public static int ladderClimbs(int events) {
+        return (events >>> 2) & 3;
+    }
+
+    public static int overshoots(int events) {
+        return (events >>> 4) & 3;
+    }
+
+    public int getSequenceCount() {
+        return stride;
+    }
+
+    public long getFootprintBytes() {
+        long bytes = 16L + 4L * outcomes.length; // array header plus payload
+        return events == null ? bytes : bytes + 16L + events.length;
+    }
+}
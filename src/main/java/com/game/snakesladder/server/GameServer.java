@@ -0,0 +1,135 @@
+package com.game.snakesladder.server;
+
+import com.game.snakesladder.dice.StandardDie;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.snapshot.GameSnapshot;
+import com.game.snakesladder.snapshot.SnapshotReader;
+import com.game.snakesladder.snapshot.SnapshotWriter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// In-process multi-lobby host. Sessions are pinned to one of a few single-threaded shards (event loops),
+// so each session has a single writer and needs no locking; lobbies never own a thread of their own.
+// (On Java 17 there are no virtual threads to give each lobby, so shards are plain single-thread executors.)
+public class GameServer implements AutoCloseable {
+    private final ExecutorService[] shards;
+    private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    public GameServer() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public GameServer(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("At least one shard required");
+        }
+        this.shards = new ExecutorService[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            int shard = i;
+            shards[i] = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "game-shard-" + shard);
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    public long openLobby(Board board, int players, long seed) {
+        long id = nextId.getAndIncrement();
+        sessions.put(id, new GameSession(id, board, players, new StandardDie(6, seed)));
+        return id;
+    }
+
+    public CompletableFuture<RollReport> roll(long sessionId, int seat) {
+        GameSession session = sessions.get(sessionId);
+        if (session == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Unknown session " + sessionId));
+        }
+        return CompletableFuture.supplyAsync(() -> session.roll(seat), shardFor(sessionId));
+    }
+
+    // Runs a read-only query on the owning shard so it sees a consistent session state
+    public <T> CompletableFuture<T> inspect(long sessionId, Function<GameSession, T> query) {
+        GameSession session = sessions.get(sessionId);
+        if (session == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Unknown session " + sessionId));
+        }
+        return CompletableFuture.supplyAsync(() -> query.apply(session), shardFor(sessionId));
+    }
+
+    public boolean closeLobby(long sessionId) {
+        return sessions.remove(sessionId) != null;
+    }
+
+    // Captures every session on its own shard, then writes them all through one buffered channel
+    public int snapshotTo(Path path) throws IOException {
+        List<CompletableFuture<GameSnapshot>> pending = new ArrayList<>(sessions.size());
+        for (Long id : sessions.keySet()) {
+            pending.add(inspect(id, GameSession::snapshot));
+        }
+        try (SnapshotWriter writer = new SnapshotWriter(path)) {
+            for (CompletableFuture<GameSnapshot> f : pending) {
+                GameSnapshot s = f.exceptionally(e -> null).join();
+                if (s != null) { // closed while we were collecting
+                    writer.write(s);
+                }
+            }
+            return (int) writer.getCount();
+        }
+    }
+
+    // Reopens the sessions in a snapshot file under their original ids; dice are reseeded from seed
+    public int restoreFrom(Path path, long seed) throws IOException {
+        SplittableRandom seeds = new SplittableRandom(seed);
+        int restored = 0;
+        try (SnapshotReader reader = new SnapshotReader(path)) {
+            GameSnapshot s;
+            while ((s = reader.next()) != null) {
+                GameSession session = GameSession.restore(s, new StandardDie(6, seeds.split()));
+                if (sessions.putIfAbsent(s.id, session) != null) {
+                    throw new IllegalStateException("Session " + s.id + " is already open");
+                }
+                long id = s.id;
+                nextId.accumulateAndGet(id + 1, Math::max);
+                restored++;
+            }
+        }
+        return restored;
+    }
+
+    public int getActiveSessions() {
+        return sessions.size();
+    }
+
+    private ExecutorService shardFor(long sessionId) {
+        return shards[(int) Long.remainderUnsigned(sessionId, shards.length)];
+    }
+
+    @Override
+    public void close() {
+        for (ExecutorService shard : shards) {
+            shard.shutdown();
+        }
+        for (ExecutorService shard : shards) {
+            try {
+                shard.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.game.snakesladder.server;
+
+import com.game.snakesladder.dice.Die;
+import com.game.snakesladder.metrics.Metrics;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.rules.RulesEngine;
+import com.game.snakesladder.rules.TurnOutcome;
+import com.game.snakesladder.snapshot.GameSnapshot;
+import com.game.snakesladder.state.GameStateStore;
+
+import java.util.Arrays;
+
+// One game as a state machine advanced by single "roll" commands. Not thread-safe: GameServer guarantees
+// that only the session's owning shard thread ever touches it.
+public class GameSession {
+    private final long id;
+    private final Board board;
+    private final RulesEngine rulesEngine;
+    private final Die die;
+    private final GameStateStore state;
+    private final int[] pendingRolls = new int[3]; // sixes rolled so far this turn plus the current roll
+    private int pendingCount;
+
+    public GameSession(long id, Board board, int players, Die die) {
+        this.id = id;
+        this.board = board;
+        this.rulesEngine = RulesEngine.withTurnTable(board);
+        this.die = die;
+        this.state = new GameStateStore(1, players, board.getLastIndex());
+    }
+
+    // Rebuilds a session from a snapshot; the die is new, so the rolls that follow differ from the original run
+    public static GameSession restore(GameSnapshot snapshot, Die die) {
+        GameSession session = new GameSession(snapshot.id, snapshot.board, snapshot.getPlayerCount(), die);
+        GameStateStore state = session.state;
+        for (int seat = 0; seat < snapshot.positions.length; seat++) {
+            state.moveTo(0, seat, snapshot.positions[seat]);
+        }
+        state.setCurrentSeat(0, snapshot.currentSeat);
+        state.setTurns(0, snapshot.turns);
+        if (snapshot.winner >= 0) {
+            state.markWon(0, snapshot.winner);
+        }
+        System.arraycopy(snapshot.pendingRolls, 0, session.pendingRolls, 0, snapshot.pendingRolls.length);
+        session.pendingCount = snapshot.pendingRolls.length;
+        return session;
+    }
+
+    public GameSnapshot snapshot() {
+        int[] positions = new int[state.getPlayerCount()];
+        for (int seat = 0; seat < positions.length; seat++) {
+            positions[seat] = state.getPosition(0, seat);
+        }
+        return new GameSnapshot(id, board, new String[0], positions, state.getCurrentSeat(0), state.getTurns(0),
+                state.getWinner(0), Arrays.copyOf(pendingRolls, pendingCount));
+    }
+
+    public RollReport roll(int seat) {
+        if (isFinished()) {
+            throw new IllegalStateException("Game " + id + " is already finished");
+        }
+        int current = state.getCurrentSeat(0);
+        if (seat != current) {
+            throw new IllegalStateException("Not seat " + seat + "'s turn in game " + id + " (seat " + current + " to roll)");
+        }
+        int r = die.roll();
+        pendingRolls[pendingCount++] = r;
+        if (r == 6 && pendingCount < 3) {
+            return new RollReport(id, seat, r, RollReport.Kind.ROLL_AGAIN, state.getPosition(0, seat), -1, seat);
+        }
+
+        int outcome = rulesEngine.resolveTurn(state.getPosition(0, seat), pendingRolls, pendingCount);
+        pendingCount = 0;
+        state.incrementTurns(0);
+        if (Metrics.ENABLED) {
+            Metrics.TURNS.increment();
+            rulesEngine.flushMetrics();
+        }
+        if (TurnOutcome.isRevoked(outcome)) {
+            if (Metrics.ENABLED) Metrics.REVOKED_TURNS.increment();
+            return new RollReport(id, seat, r, RollReport.Kind.REVOKED, state.getPosition(0, seat), -1, state.advanceSeat(0));
+        }
+        int killed = state.moveTo(0, seat, TurnOutcome.position(outcome));
+        if (Metrics.ENABLED && killed >= 0) Metrics.KILLS.increment();
+        if (TurnOutcome.isWon(outcome)) {
+            state.markWon(0, seat);
+            if (Metrics.ENABLED) Metrics.GAMES.increment();
+            return new RollReport(id, seat, r, RollReport.Kind.WON, TurnOutcome.position(outcome), killed, -1);
+        }
+        int next = TurnOutcome.getsExtraTurn(outcome) ? seat : state.advanceSeat(0);
+        return new RollReport(id, seat, r, RollReport.Kind.MOVED, TurnOutcome.position(outcome), killed, next);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public int getPlayerCount() {
+        return state.getPlayerCount();
+    }
+
+    public int getPosition(int seat) {
+        return state.getPosition(0, seat);
+    }
+
+    public int getCurrentSeat() {
+        return state.getCurrentSeat(0);
+    }
+
+    public int getTurns() {
+        return state.getTurns(0);
+    }
+
+    public boolean isFinished() {
+        return state.isFinished(0);
+    }
+
+    public int getWinner() {
+        return state.getWinner(0);
+    }
+}
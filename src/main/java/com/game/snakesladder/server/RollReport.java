@@ -0,0 +1,34 @@
+package com.game.snakesladder.server;
+
+public class RollReport {
+    public enum Kind {
+        ROLL_AGAIN, // rolled a 6: same player rolls again before anything moves
+        MOVED,
+        REVOKED,    // third 6 in a row: the whole turn is cancelled
+        WON
+    }
+
+    public final long sessionId;
+    public final int seat;
+    public final int roll;
+    public final Kind kind;
+    public final int position;
+    public final int killedSeat; // -1 if nobody was sent back to start
+    public final int nextSeat;
+
+    public RollReport(long sessionId, int seat, int roll, Kind kind, int position, int killedSeat, int nextSeat) {
+        this.sessionId = sessionId;
+        this.seat = seat;
+        this.roll = roll;
+        this.kind = kind;
+        this.position = position;
+        this.killedSeat = killedSeat;
+        this.nextSeat = nextSeat;
+    }
+
+    @Override
+    public String toString() {
+        return "session " + sessionId + " seat " + seat + " rolled " + roll + ": " + kind
+                + " @" + position + (killedSeat >= 0 ? " killed seat " + killedSeat : "") + ", next seat " + nextSeat;
+    }
+}
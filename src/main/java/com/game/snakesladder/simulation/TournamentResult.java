@@ -0,0 +1,73 @@
+package com.game.snakesladder.simulation;
+
+import com.game.snakesladder.engine.SimulationResult;
+
+public class TournamentResult {
+    private final SimulationResult[] byPlayerCount; // index = player count
+    private long boards;
+    private long rejectedBoards;
+
+    public TournamentResult(int maxPlayers) {
+        this.byPlayerCount = new SimulationResult[maxPlayers + 1];
+    }
+
+    void add(SimulationResult result) {
+        boards++;
+        mergeInto(result);
+    }
+
+    void reject() {
+        rejectedBoards++;
+    }
+
+    public void merge(TournamentResult other) {
+        boards += other.boards;
+        rejectedBoards += other.rejectedBoards;
+        for (SimulationResult r : other.byPlayerCount) {
+            if (r != null) mergeInto(r);
+        }
+    }
+
+    private void mergeInto(SimulationResult result) {
+        int players = result.getPlayerCount();
+        if (players >= byPlayerCount.length) {
+            throw new IllegalArgumentException("Unexpected player count " + players);
+        }
+        if (byPlayerCount[players] == null) {
+            byPlayerCount[players] = new SimulationResult(players);
+        }
+        byPlayerCount[players].merge(result);
+    }
+
+    public long getBoards() {
+        return boards;
+    }
+
+    // Generated boards that could not always be finished and were not played
+    public long getRejectedBoards() {
+        return rejectedBoards;
+    }
+
+    public long getGames() {
+        long games = 0;
+        for (SimulationResult r : byPlayerCount) {
+            if (r != null) games += r.getGames();
+        }
+        return games;
+    }
+
+    // Aggregate for games played with the given number of players, or null if none were played
+    public SimulationResult forPlayerCount(int players) {
+        return players < byPlayerCount.length ? byPlayerCount[players] : null;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("boards=").append(boards)
+                .append(" rejectedBoards=").append(rejectedBoards).append(" games=").append(getGames());
+        for (SimulationResult r : byPlayerCount) {
+            if (r != null) sb.append("\n  ").append(r.getPlayerCount()).append(" players: ").append(r);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,101 @@
+package com.game.snakesladder.simulation;
+
+import com.game.snakesladder.analytics.GameLengthSolver;
+import com.game.snakesladder.dice.StandardDie;
+import com.game.snakesladder.difficulty.DifficultyStrategy;
+import com.game.snakesladder.engine.BatchSimulator;
+import com.game.snakesladder.factory.BoardFactory;
+import com.game.snakesladder.model.Board;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+// Runs many independent boards in parallel. Every board gets its own seed derived up front from the
+// tournament seed, so results do not depend on how the pool schedules work. Boards a token can get trapped on
+// (possible with custom strategies) are skipped and counted as rejected instead of hanging the pool.
+public class TournamentRunner {
+    private static final int LEAF_BOARDS = 4;
+
+    private final Function<SplittableRandom, DifficultyStrategy> strategyFactory;
+    private final int boardSize;
+    private final int minPlayers;
+    private final int maxPlayers;
+    private final ForkJoinPool pool;
+
+    public TournamentRunner(Function<SplittableRandom, DifficultyStrategy> strategyFactory, int boardSize,
+                            int minPlayers, int maxPlayers) {
+        this(strategyFactory, boardSize, minPlayers, maxPlayers, ForkJoinPool.commonPool());
+    }
+
+    public TournamentRunner(Function<SplittableRandom, DifficultyStrategy> strategyFactory, int boardSize,
+                            int minPlayers, int maxPlayers, ForkJoinPool pool) {
+        if (minPlayers < 2 || maxPlayers < minPlayers) {
+            throw new IllegalArgumentException("Player range must satisfy 2 <= min <= max");
+        }
+        this.strategyFactory = strategyFactory;
+        this.boardSize = boardSize;
+        this.minPlayers = minPlayers;
+        this.maxPlayers = maxPlayers;
+        this.pool = pool;
+    }
+
+    public TournamentResult run(int boards, int gamesPerBoard, long seed) {
+        if (boards < 0 || gamesPerBoard < 0) {
+            throw new IllegalArgumentException("Board and game counts must be >= 0");
+        }
+        SplittableRandom root = new SplittableRandom(seed);
+        long[] boardSeeds = new long[boards];
+        for (int i = 0; i < boards; i++) {
+            boardSeeds[i] = root.nextLong();
+        }
+        return pool.invoke(new BoardRange(boardSeeds, 0, boards, gamesPerBoard));
+    }
+
+    private TournamentResult playBoards(long[] boardSeeds, int from, int to, int gamesPerBoard) {
+        TournamentResult result = new TournamentResult(maxPlayers);
+        for (int i = from; i < to; i++) {
+            SplittableRandom random = new SplittableRandom(boardSeeds[i]);
+            int players = minPlayers + random.nextInt(maxPlayers - minPlayers + 1);
+            Board board = new BoardFactory(strategyFactory.apply(random.split())).create(boardSize);
+            if (!new GameLengthSolver(board).isFinishable()) {
+                result.reject();
+                continue;
+            }
+            BatchSimulator simulator = new BatchSimulator(board, players, new StandardDie(6, random.split()));
+            result.add(simulator.run(gamesPerBoard));
+        }
+        return result;
+    }
+
+    private class BoardRange extends RecursiveTask<TournamentResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] boardSeeds;
+        private final int from;
+        private final int to;
+        private final int gamesPerBoard;
+
+        BoardRange(long[] boardSeeds, int from, int to, int gamesPerBoard) {
+            this.boardSeeds = boardSeeds;
+            this.from = from;
+            this.to = to;
+            this.gamesPerBoard = gamesPerBoard;
+        }
+
+        @Override
+        protected TournamentResult compute() {
+            if (to - from <= LEAF_BOARDS) {
+                return playBoards(boardSeeds, from, to, gamesPerBoard);
+            }
+            int mid = (from + to) >>> 1;
+            BoardRange left = new BoardRange(boardSeeds, from, mid, gamesPerBoard);
+            left.fork();
+            TournamentResult right = new BoardRange(boardSeeds, mid, to, gamesPerBoard).compute();
+            TournamentResult merged = left.join();
+            merged.merge(right);
+            return merged;
+        }
+    }
+}
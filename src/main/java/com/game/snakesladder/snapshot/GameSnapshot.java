@@ -0,0 +1,75 @@
+package com.game.snakesladder.snapshot;
+
+import com.game.snakesladder.model.Board;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.OptionalLong;
+
+// Everything needed to resume a game: the board, token positions, whose turn it is and any sixes already
+// rolled in that turn. Dice are not part of it; a restored game continues with a freshly seeded die, but the
+// game's seed (if it had one) is kept so it is still reported for replay.
+public class GameSnapshot {
+    public final long id; // session id, 0 for games outside a server
+    public final Board board;
+    public final String[] names; // player names, empty when the game has none (server sessions)
+    public final int[] positions;
+    public final int currentSeat;
+    public final int turns;
+    public final int winner; // seat, or -1 while the game is running
+    public final int[] pendingRolls; // sixes rolled so far in the current turn
+    public final OptionalLong seed; // what the board and die were derived from, if known
+
+    public GameSnapshot(long id, Board board, String[] names, int[] positions, int currentSeat, int turns,
+                        int winner, int[] pendingRolls) {
+        this(id, board, names, positions, currentSeat, turns, winner, pendingRolls, OptionalLong.empty());
+    }
+
+    public GameSnapshot(long id, Board board, String[] names, int[] positions, int currentSeat, int turns,
+                        int winner, int[] pendingRolls, OptionalLong seed) {
+        if (positions.length < 2) {
+            throw new IllegalArgumentException("At least two players required");
+        }
+        if (names.length != 0 && names.length != positions.length) {
+            throw new IllegalArgumentException("Expected " + positions.length + " names, got " + names.length);
+        }
+        if (currentSeat < 0 || currentSeat >= positions.length) {
+            throw new IllegalArgumentException("Current seat out of range: " + currentSeat);
+        }
+        if (pendingRolls.length > 2) {
+            throw new IllegalArgumentException("At most two sixes can be pending");
+        }
+        for (int p : positions) {
+            if (p < 0 || p > board.getLastIndex()) {
+                throw new IllegalArgumentException("Position out of bounds: " + p);
+            }
+        }
+        this.id = id;
+        this.board = board;
+        this.names = names;
+        this.positions = positions;
+        this.currentSeat = currentSeat;
+        this.turns = turns;
+        this.winner = winner;
+        this.pendingRolls = pendingRolls;
+        this.seed = seed;
+    }
+
+    public int getPlayerCount() {
+        return positions.length;
+    }
+
+    // Standalone encoding with the board inlined; use SnapshotWriter for many games at once
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(SnapshotCodec.maxEncodedSize(this, true));
+        SnapshotCodec.encode(this, buffer, new IdentityHashMap<>());
+        byte[] out = new byte[buffer.position()];
+        buffer.flip().get(out);
+        return out;
+    }
+
+    public static GameSnapshot fromBytes(byte[] bytes) {
+        return SnapshotCodec.decode(ByteBuffer.wrap(bytes), new ArrayList<>());
+    }
+}
@@ -0,0 +1,169 @@
+package com.game.snakesladder.snapshot;
+
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.model.Ladder;
+import com.game.snakesladder.model.Snake;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+// Varint encoding of one GameSnapshot:
+//   id, board ref (0 = inline board follows, else 1 + index of an earlier board in the same stream),
+//   [size, snake count, {head, tail}*, ladder count, {start, end}*], player count,
+//   name flag, [{utf-8 length, bytes}*], positions*, current seat, turns, winner + 1,
+//   pending count, pending rolls*, seed flag, [seed (8 bytes big-endian)]
+// Boards are written once per stream and referenced afterwards, since many sessions share a board.
+final class SnapshotCodec {
+    private static final int MAX_VARINT_BYTES = 10;
+
+    private SnapshotCodec() {
+    }
+
+    static int maxEncodedSize(GameSnapshot s, boolean inlineBoard) {
+        int size = MAX_VARINT_BYTES * (9 + s.positions.length + s.pendingRolls.length) + Long.BYTES;
+        if (inlineBoard) {
+            size += MAX_VARINT_BYTES * (3 + 2 * jumpCount(s.board));
+        }
+        for (String name : s.names) {
+            size += MAX_VARINT_BYTES + 3 * name.length();
+        }
+        return size;
+    }
+
+    static void encode(GameSnapshot s, ByteBuffer out, Map<Board, Integer> boards) {
+        putVarint(out, s.id);
+        Integer ref = boards.get(s.board);
+        if (ref != null) {
+            putVarint(out, ref + 1);
+        } else {
+            putVarint(out, 0);
+            boards.put(s.board, boards.size());
+            putBoard(out, s.board);
+        }
+        putVarint(out, s.positions.length);
+        putVarint(out, s.names.length == 0 ? 0 : 1);
+        for (String name : s.names) {
+            byte[] utf8 = name.getBytes(StandardCharsets.UTF_8);
+            putVarint(out, utf8.length);
+            out.put(utf8);
+        }
+        for (int p : s.positions) {
+            putVarint(out, p);
+        }
+        putVarint(out, s.currentSeat);
+        putVarint(out, s.turns);
+        putVarint(out, s.winner + 1);
+        putVarint(out, s.pendingRolls.length);
+        for (int r : s.pendingRolls) {
+            putVarint(out, r);
+        }
+        putVarint(out, s.seed.isPresent() ? 1 : 0);
+        if (s.seed.isPresent()) {
+            out.putLong(s.seed.getAsLong());
+        }
+    }
+
+    static GameSnapshot decode(ByteBuffer in, List<Board> boards) {
+        long id = getVarint(in);
+        int ref = (int) getVarint(in);
+        Board board;
+        if (ref == 0) {
+            board = getBoard(in);
+            boards.add(board);
+        } else {
+            board = boards.get(ref - 1);
+        }
+        int players = (int) getVarint(in);
+        String[] names = new String[getVarint(in) == 0 ? 0 : players];
+        for (int i = 0; i < names.length; i++) {
+            byte[] utf8 = new byte[(int) getVarint(in)];
+            in.get(utf8);
+            names[i] = new String(utf8, StandardCharsets.UTF_8);
+        }
+        int[] positions = new int[players];
+        for (int i = 0; i < players; i++) {
+            positions[i] = (int) getVarint(in);
+        }
+        int currentSeat = (int) getVarint(in);
+        int turns = (int) getVarint(in);
+        int winner = (int) getVarint(in) - 1;
+        int[] pending = new int[(int) getVarint(in)];
+        for (int i = 0; i < pending.length; i++) {
+            pending[i] = (int) getVarint(in);
+        }
+        OptionalLong seed = getVarint(in) == 0 ? OptionalLong.empty() : OptionalLong.of(in.getLong());
+        return new GameSnapshot(id, board, names, positions, currentSeat, turns, winner, pending, seed);
+    }
+
+    private static void putBoard(ByteBuffer out, Board board) {
+        int last = board.getLastIndex();
+        int snakes = 0;
+        int ladders = 0;
+        for (int i = 0; i <= last; i++) {
+            if (board.isSnakeHead(i)) snakes++;
+            else if (board.isLadderStart(i)) ladders++;
+        }
+        putVarint(out, board.getSize());
+        putVarint(out, snakes);
+        for (int i = 0; i <= last; i++) {
+            if (board.isSnakeHead(i)) {
+                putVarint(out, i);
+                putVarint(out, board.jumpTarget(i));
+            }
+        }
+        putVarint(out, ladders);
+        for (int i = 0; i <= last; i++) {
+            if (board.isLadderStart(i)) {
+                putVarint(out, i);
+                putVarint(out, board.jumpTarget(i));
+            }
+        }
+    }
+
+    private static Board getBoard(ByteBuffer in) {
+        int size = (int) getVarint(in);
+        int snakeCount = (int) getVarint(in);
+        List<Snake> snakes = new ArrayList<>(snakeCount);
+        for (int i = 0; i < snakeCount; i++) {
+            snakes.add(new Snake((int) getVarint(in), (int) getVarint(in)));
+        }
+        int ladderCount = (int) getVarint(in);
+        List<Ladder> ladders = new ArrayList<>(ladderCount);
+        for (int i = 0; i < ladderCount; i++) {
+            ladders.add(new Ladder((int) getVarint(in), (int) getVarint(in)));
+        }
+        return new Board(size, snakes, ladders);
+    }
+
+    private static int jumpCount(Board board) {
+        int count = 0;
+        for (int i = 0; i <= board.getLastIndex(); i++) {
+            if (board.jumpTarget(i) != i) count++;
+        }
+        return count;
+    }
+
+    private static void putVarint(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static long getVarint(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Corrupt snapshot: varint too long");
+    }
+}
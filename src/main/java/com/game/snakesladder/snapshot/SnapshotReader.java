@@ -0,0 +1,98 @@
+package com.game.snakesladder.snapshot;
+
+import com.game.snakesladder.model.Board;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// Streams snapshots back from a file written by SnapshotWriter
+public class SnapshotReader implements Closeable {
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(SnapshotWriter.BUFFER_SIZE);
+    private final List<Board> boards = new ArrayList<>();
+    private boolean eof;
+
+    public SnapshotReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        buffer.limit(0);
+        try {
+            fill(5);
+            if (buffer.remaining() < 5 || buffer.getInt() != SnapshotWriter.MAGIC) {
+                throw new IOException("Not a snapshot file: " + path);
+            }
+            byte version = buffer.get();
+            if (version != SnapshotWriter.VERSION) {
+                throw new IOException("Unsupported snapshot version " + version);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // Next snapshot, or null at the end of the file
+    public GameSnapshot next() throws IOException {
+        fill(4);
+        if (!buffer.hasRemaining()) {
+            return null;
+        }
+        if (buffer.remaining() < 4) {
+            throw new EOFException("Truncated snapshot file");
+        }
+        int length = buffer.getInt();
+        ByteBuffer record;
+        if (length <= buffer.capacity()) {
+            fill(length);
+            if (buffer.remaining() < length) {
+                throw new EOFException("Truncated snapshot file");
+            }
+            record = buffer.slice().limit(length);
+            buffer.position(buffer.position() + length);
+        } else {
+            record = ByteBuffer.allocate(length);
+            record.put(buffer);
+            while (record.hasRemaining()) {
+                if (channel.read(record) < 0) {
+                    throw new EOFException("Truncated snapshot file");
+                }
+            }
+            record.flip();
+        }
+        return SnapshotCodec.decode(record, boards);
+    }
+
+    public List<GameSnapshot> readAll() throws IOException {
+        List<GameSnapshot> out = new ArrayList<>();
+        GameSnapshot s;
+        while ((s = next()) != null) {
+            out.add(s);
+        }
+        return out;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void fill(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes || eof) {
+            return;
+        }
+        buffer.compact();
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                eof = true;
+                break;
+            }
+        }
+        buffer.flip();
+    }
+}
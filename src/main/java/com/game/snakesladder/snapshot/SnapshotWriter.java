@@ -0,0 +1,77 @@
+package com.game.snakesladder.snapshot;
+
+import com.game.snakesladder.model.Board;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+// Bulk snapshot file: "SLSN" magic, version byte, then length-prefixed (int32) SnapshotCodec records.
+// Records are encoded straight into one direct buffer that is written out only when full, so thousands of
+// sessions go to disk in a handful of write calls. Shared boards are stored once.
+public class SnapshotWriter implements Closeable {
+    static final int MAGIC = 0x534C534E; // "SLSN"
+    static final byte VERSION = 2; // 2: records end with the game seed
+    static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final Map<Board, Integer> boards = new IdentityHashMap<>();
+    private long count;
+
+    public SnapshotWriter(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.putInt(MAGIC).put(VERSION);
+    }
+
+    public void write(GameSnapshot snapshot) throws IOException {
+        int bound = 4 + SnapshotCodec.maxEncodedSize(snapshot, !boards.containsKey(snapshot.board));
+        ByteBuffer target = buffer;
+        if (buffer.remaining() < bound) {
+            flush();
+            if (bound > buffer.capacity()) {
+                target = ByteBuffer.allocate(bound); // oversized record (huge board), written on its own
+            }
+        }
+        int lengthAt = target.position();
+        target.position(lengthAt + 4);
+        SnapshotCodec.encode(snapshot, target, boards);
+        target.putInt(lengthAt, target.position() - lengthAt - 4);
+        if (target != buffer) {
+            target.flip();
+            while (target.hasRemaining()) {
+                channel.write(target);
+            }
+        }
+        count++;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    // Flushes and forces the file to disk before closing, so a completed snapshot survives a host crash
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+    }
+}
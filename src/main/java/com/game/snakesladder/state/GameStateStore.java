@@ -0,0 +1,134 @@
+package com.game.snakesladder.state;
+
+import java.util.Arrays;
+
+// Structure-of-arrays state for many games on boards of the same size. Positions of all games live in one
+// int[]; a per-game cell occupancy index makes the kill check a single load instead of a scan over players.
+// Cell 0 (start) is never indexed: any number of players may wait there and nobody can be killed on it.
+public class GameStateStore {
+    public static final int MAX_PLAYERS = 127;
+    private static final byte EMPTY = 0;
+
+    private final int games;
+    private final int players;
+    private final int cells;
+    private final int[] positions;   // [game * players + seat]
+    private final byte[] occupant;   // [game * cells + cell] = seat + 1, or EMPTY
+    private final byte[] currentSeat;
+    private final int[] turns;
+    private final byte[] winner;     // seat, or -1 while the game is running
+
+    public GameStateStore(int games, int players, int lastIndex) {
+        if (games < 1) {
+            throw new IllegalArgumentException("At least one game required");
+        }
+        if (players < 2 || players > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Players per game must be between 2 and " + MAX_PLAYERS);
+        }
+        if ((long) games * (lastIndex + 1) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many games for one store at this board size");
+        }
+        this.games = games;
+        this.players = players;
+        this.cells = lastIndex + 1;
+        this.positions = new int[games * players];
+        this.occupant = new byte[games * cells];
+        this.currentSeat = new byte[games];
+        this.turns = new int[games];
+        this.winner = new byte[games];
+        Arrays.fill(winner, (byte) -1);
+    }
+
+    public int getGameCount() {
+        return games;
+    }
+
+    public int getPlayerCount() {
+        return players;
+    }
+
+    public int getPosition(int game, int seat) {
+        return positions[game * players + seat];
+    }
+
+    // Seat standing on the given cell, or -1 (always -1 for the start cell)
+    public int occupantOf(int game, int cell) {
+        return occupant[game * cells + cell] - 1;
+    }
+
+    // Moves a token and applies the kill rule; returns the seat sent back to start, or -1
+    public int moveTo(int game, int seat, int cell) {
+        int slot = game * players + seat;
+        int from = positions[slot];
+        if (from == cell) {
+            return -1;
+        }
+        int base = game * cells;
+        if (from != 0) {
+            occupant[base + from] = EMPTY;
+        }
+        positions[slot] = cell;
+        if (cell == 0) {
+            return -1;
+        }
+        int victim = occupant[base + cell] - 1;
+        occupant[base + cell] = (byte) (seat + 1);
+        if (victim >= 0) {
+            positions[game * players + victim] = 0;
+        }
+        return victim;
+    }
+
+    public int getCurrentSeat(int game) {
+        return currentSeat[game];
+    }
+
+    public void setCurrentSeat(int game, int seat) {
+        currentSeat[game] = (byte) seat;
+    }
+
+    public int advanceSeat(int game) {
+        int next = currentSeat[game] + 1;
+        if (next == players) next = 0;
+        currentSeat[game] = (byte) next;
+        return next;
+    }
+
+    public int getTurns(int game) {
+        return turns[game];
+    }
+
+    public int incrementTurns(int game) {
+        return ++turns[game];
+    }
+
+    public void setTurns(int game, int count) {
+        turns[game] = count;
+    }
+
+    public int getWinner(int game) {
+        return winner[game];
+    }
+
+    public boolean isFinished(int game) {
+        return winner[game] >= 0;
+    }
+
+    public void markWon(int game, int seat) {
+        winner[game] = (byte) seat;
+    }
+
+    // Puts every token of a game back on start and clears turn bookkeeping
+    public void reset(int game) {
+        int base = game * players;
+        int cellBase = game * cells;
+        for (int seat = 0; seat < players; seat++) {
+            int pos = positions[base + seat];
+            if (pos != 0) occupant[cellBase + pos] = EMPTY;
+            positions[base + seat] = 0;
+        }
+        currentSeat[game] = 0;
+        turns[game] = 0;
+        winner[game] = -1;
+    }
+}
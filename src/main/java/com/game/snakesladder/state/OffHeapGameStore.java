@@ -0,0 +1,245 @@
+package com.game.snakesladder.state;
+
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.rules.TurnOutcome;
+import com.game.snakesladder.rules.TurnTable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+// Live games kept outside the Java heap, for lobbies with millions of concurrent games: each game is one
+// fixed-size slot in a direct-buffer slab, so the heap holds a handful of slabs instead of an object graph per
+// game. Roll handling reads and writes the slot in place and resolves turns through the board's TurnTable.
+// Released slots are recycled through an intrusive free list (the link lives in the freed slot itself).
+// Not thread-safe: like GameSession, a store belongs to one shard thread.
+//
+// Slot layout, native byte order:
+//   0  int   board id, or the next free slot while on the free list
+//   4  int   turns played
+//   8  byte  players
+//   9  byte  current seat
+//   10 byte  winner seat, RUNNING while in play, FREE while on the free list
+//   11 byte  sixes rolled so far in the current turn
+//   12 char  position per seat (maxPlayers of them), padded to 8 bytes
+public class OffHeapGameStore {
+    public static final int MAX_PLAYERS = 16;
+    public static final int MAX_LAST_INDEX = Character.MAX_VALUE;
+    static final int SLAB_SHIFT = 16;
+    static final int SLOTS_PER_SLAB = 1 << SLAB_SHIFT;
+    static final int SLAB_MASK = SLOTS_PER_SLAB - 1;
+
+    private static final int BOARD = 0;
+    private static final int TURNS = 4;
+    private static final int PLAYERS = 8;
+    private static final int SEAT = 9;
+    private static final int WINNER = 10;
+    private static final int SIXES = 11;
+    private static final int POSITIONS = 12;
+    private static final byte RUNNING = -1;
+    private static final byte FREE = -2;
+    private static final int NONE = -1;
+
+    private final int maxPlayers;
+    private final int slotSize;
+    private ByteBuffer[] slabs = new ByteBuffer[0];
+    private int nextUnused;       // slots below this have been handed out at least once
+    private int freeHead = NONE;
+    private int live;
+    private Board[] boards = new Board[0];
+    private TurnTable[] tables = new TurnTable[0];
+    private final Map<Board, Integer> boardIds = new IdentityHashMap<>();
+    private int lastVictim = -1;
+
+    public OffHeapGameStore(int maxPlayers) {
+        if (maxPlayers < 2 || maxPlayers > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Players per game must be between 2 and " + MAX_PLAYERS);
+        }
+        this.maxPlayers = maxPlayers;
+        this.slotSize = (POSITIONS + 2 * maxPlayers + 7) & ~7;
+    }
+
+    // Id under which games on this board are created; registering the same Board again returns the same id
+    public int registerBoard(Board board) {
+        Integer known = boardIds.get(board);
+        if (known != null) {
+            return known;
+        }
+        if (board.getLastIndex() > MAX_LAST_INDEX) {
+            throw new IllegalArgumentException("Board too large for off-heap slots (last index " + board.getLastIndex()
+                    + " > " + MAX_LAST_INDEX + ")");
+        }
+        int id = boards.length;
+        boards = Arrays.copyOf(boards, id + 1);
+        tables = Arrays.copyOf(tables, id + 1);
+        boards[id] = board;
+        tables[id] = TurnTable.forBoard(board);
+        boardIds.put(board, id);
+        return id;
+    }
+
+    public Board getBoard(int boardId) {
+        return boards[boardId];
+    }
+
+    // Starts a game with every token on start and seat 0 to roll; returns its handle
+    public int create(int boardId, int players) {
+        if (boardId < 0 || boardId >= boards.length) {
+            throw new IllegalArgumentException("Unknown board id " + boardId);
+        }
+        if (players < 2 || players > maxPlayers) {
+            throw new IllegalArgumentException("Players per game must be between 2 and " + maxPlayers);
+        }
+        int game = allocate();
+        ByteBuffer slab = slabs[game >>> SLAB_SHIFT];
+        int base = (game & SLAB_MASK) * slotSize;
+        slab.putInt(base + BOARD, boardId);
+        slab.putInt(base + TURNS, 0);
+        slab.put(base + PLAYERS, (byte) players);
+        slab.put(base + SEAT, (byte) 0);
+        slab.put(base + WINNER, RUNNING);
+        slab.put(base + SIXES, (byte) 0);
+        for (int seat = 0; seat < players; seat++) {
+            slab.putChar(base + POSITIONS + 2 * seat, (char) 0);
+        }
+        live++;
+        return game;
+    }
+
+    // Returns the slot to the free list; the handle must not be used afterwards
+    public void release(int game) {
+        ByteBuffer slab = slot(game);
+        int base = (game & SLAB_MASK) * slotSize;
+        slab.put(base + WINNER, FREE);
+        slab.putInt(base + BOARD, freeHead);
+        freeHead = game;
+        live--;
+    }
+
+    // Applies one die value for the seat to roll, in place. Returns a packed TurnOutcome: EXTRA_TURN_FLAG with the
+    // unchanged position while the turn continues after a six, otherwise the turn's result (REVOKED_FLAG on a
+    // third six, WON_FLAG on reaching the last cell). getLastVictim() tells who, if anyone, was sent home.
+    public int roll(int game, int value) {
+        ByteBuffer slab = slot(game);
+        int base = (game & SLAB_MASK) * slotSize;
+        if (slab.get(base + WINNER) != RUNNING) {
+            throw new IllegalStateException("Game " + game + " is already finished");
+        }
+        if (value < 1 || value > TurnTable.SIX) {
+            throw new IllegalArgumentException("Roll must be between 1 and " + TurnTable.SIX + ": " + value);
+        }
+        lastVictim = -1;
+        int seat = slab.get(base + SEAT);
+        int seatOffset = base + POSITIONS + 2 * seat;
+        int start = slab.getChar(seatOffset);
+        int sixes = slab.get(base + SIXES);
+        if (value == TurnTable.SIX && sixes < 2) {
+            slab.put(base + SIXES, (byte) (sixes + 1));
+            return start | TurnOutcome.EXTRA_TURN_FLAG;
+        }
+
+        int outcome = tables[slab.getInt(base + BOARD)].outcome(start, sixes * TurnTable.SIX + value - 1);
+        slab.put(base + SIXES, (byte) 0);
+        slab.putInt(base + TURNS, slab.getInt(base + TURNS) + 1);
+        int players = slab.get(base + PLAYERS);
+        if (!TurnOutcome.isRevoked(outcome)) {
+            int position = TurnOutcome.position(outcome);
+            slab.putChar(seatOffset, (char) position);
+            // Kill rule: a scan over at most MAX_PLAYERS chars in the same cache line beats an occupancy index here
+            if (position != 0) {
+                for (int other = 0; other < players; other++) {
+                    int otherOffset = base + POSITIONS + 2 * other;
+                    if (other != seat && slab.getChar(otherOffset) == position) {
+                        slab.putChar(otherOffset, (char) 0);
+                        lastVictim = other;
+                        break;
+                    }
+                }
+            }
+            if (TurnOutcome.isWon(outcome)) {
+                slab.put(base + WINNER, (byte) seat);
+                return outcome;
+            }
+        }
+        int next = seat + 1;
+        slab.put(base + SEAT, (byte) (next == players ? 0 : next));
+        return outcome;
+    }
+
+    // Seat sent back to start by the last roll(), or -1
+    public int getLastVictim() {
+        return lastVictim;
+    }
+
+    public int getBoardId(int game) {
+        return slot(game).getInt((game & SLAB_MASK) * slotSize + BOARD);
+    }
+
+    public int getPlayerCount(int game) {
+        return slot(game).get((game & SLAB_MASK) * slotSize + PLAYERS);
+    }
+
+    public int getPosition(int game, int seat) {
+        return slot(game).getChar((game & SLAB_MASK) * slotSize + POSITIONS + 2 * seat);
+    }
+
+    public int getCurrentSeat(int game) {
+        return slot(game).get((game & SLAB_MASK) * slotSize + SEAT);
+    }
+
+    public int getSixStreak(int game) {
+        return slot(game).get((game & SLAB_MASK) * slotSize + SIXES);
+    }
+
+    public int getTurns(int game) {
+        return slot(game).getInt((game & SLAB_MASK) * slotSize + TURNS);
+    }
+
+    public int getWinner(int game) {
+        return slot(game).get((game & SLAB_MASK) * slotSize + WINNER);
+    }
+
+    public boolean isFinished(int game) {
+        return getWinner(game) >= 0;
+    }
+
+    public int getLiveGames() {
+        return live;
+    }
+
+    public int getSlotSize() {
+        return slotSize;
+    }
+
+    // Direct memory reserved by the slabs, live or free
+    public long getOffHeapBytes() {
+        return (long) slabs.length * SLOTS_PER_SLAB * slotSize;
+    }
+
+    private int allocate() {
+        if (freeHead != NONE) {
+            int game = freeHead;
+            freeHead = slabs[game >>> SLAB_SHIFT].getInt((game & SLAB_MASK) * slotSize + BOARD);
+            return game;
+        }
+        if (nextUnused == Integer.MAX_VALUE) {
+            throw new IllegalStateException("Off-heap store is full");
+        }
+        int game = nextUnused++;
+        int slab = game >>> SLAB_SHIFT;
+        if (slab == slabs.length) {
+            slabs = Arrays.copyOf(slabs, slab + 1);
+            slabs[slab] = ByteBuffer.allocateDirect(SLOTS_PER_SLAB * slotSize).order(ByteOrder.nativeOrder());
+        }
+        return game;
+    }
+
+    private ByteBuffer slot(int game) {
+        if (game < 0 || game >= nextUnused || slabs[game >>> SLAB_SHIFT].get((game & SLAB_MASK) * slotSize + WINNER) == FREE) {
+            throw new IllegalArgumentException("No live game with handle " + game);
+        }
+        return slabs[game >>> SLAB_SHIFT];
+    }
+}
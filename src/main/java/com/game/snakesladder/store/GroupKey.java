@@ -0,0 +1,59 @@
+package com.game.snakesladder.store;
+
+import com.game.snakesladder.difficulty.Difficulty;
+
+// Breakdown key for ResultQuery.runGrouped; orders by board size, then difficulty, then players
+public final class GroupKey implements Comparable<GroupKey> {
+    private final int boardSize;
+    private final Difficulty difficulty;
+    private final int players;
+
+    GroupKey(int boardSize, Difficulty difficulty, int players) {
+        this.boardSize = boardSize;
+        this.difficulty = difficulty;
+        this.players = players;
+    }
+
+    static GroupKey unpack(int packed) {
+        return new GroupKey(packed >>> 16, Difficulty.fromCode((packed >>> 8) & 0xFF), packed & 0xFF);
+    }
+
+    static int pack(int boardSize, int difficulty, int players) {
+        return boardSize << 16 | difficulty << 8 | players;
+    }
+
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    public int getPlayers() {
+        return players;
+    }
+
+    @Override
+    public int compareTo(GroupKey other) {
+        return Integer.compare(hashCode(), other.hashCode());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof GroupKey)) return false;
+        GroupKey other = (GroupKey) o;
+        return boardSize == other.boardSize && difficulty == other.difficulty && players == other.players;
+    }
+
+    @Override
+    public int hashCode() {
+        return pack(boardSize, difficulty.code(), players);
+    }
+
+    @Override
+    public String toString() {
+        return boardSize + "x" + boardSize + " " + difficulty + " " + players + "p";
+    }
+}
@@ -0,0 +1,73 @@
+package com.game.snakesladder.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+// One fixed-width primitive column backed by a file, mapped in chunks of ROWS_PER_CHUNK rows so that
+// columns larger than a single 2 GiB mapping still work. Chunks are mapped as the column grows.
+final class MappedColumn implements Closeable {
+    static final int CHUNK_SHIFT = 22;
+    static final int ROWS_PER_CHUNK = 1 << CHUNK_SHIFT; // 4M rows
+    static final int CHUNK_MASK = ROWS_PER_CHUNK - 1;
+
+    private final FileChannel channel;
+    private final int width;
+    private volatile MappedByteBuffer[] chunks = new MappedByteBuffer[0];
+
+    MappedColumn(Path file, int width, long rows) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.width = width;
+        ensureCapacity(rows);
+    }
+
+    // Maps enough chunks to address rows [0, rows)
+    void ensureCapacity(long rows) throws IOException {
+        int needed = (int) ((rows + CHUNK_MASK) >>> CHUNK_SHIFT);
+        MappedByteBuffer[] current = chunks;
+        if (needed <= current.length) {
+            return;
+        }
+        MappedByteBuffer[] grown = Arrays.copyOf(current, needed);
+        long chunkBytes = (long) ROWS_PER_CHUNK * width;
+        for (int c = current.length; c < needed; c++) {
+            grown[c] = channel.map(FileChannel.MapMode.READ_WRITE, c * chunkBytes, chunkBytes);
+        }
+        chunks = grown;
+    }
+
+    // Chunk c covers rows [c * ROWS_PER_CHUNK, (c + 1) * ROWS_PER_CHUNK); read it with absolute gets
+    ByteBuffer chunk(int c) {
+        return chunks[c];
+    }
+
+    void putByte(long row, int value) {
+        chunks[(int) (row >>> CHUNK_SHIFT)].put((int) (row & CHUNK_MASK), (byte) value);
+    }
+
+    void putShort(long row, int value) {
+        chunks[(int) (row >>> CHUNK_SHIFT)].putShort((int) (row & CHUNK_MASK) << 1, (short) value);
+    }
+
+    void putInt(long row, int value) {
+        chunks[(int) (row >>> CHUNK_SHIFT)].putInt((int) (row & CHUNK_MASK) << 2, value);
+    }
+
+    void force() {
+        for (MappedByteBuffer chunk : chunks) {
+            chunk.force();
+        }
+    }
+
+    // Mappings stay valid until garbage collected; Java 17 has no supported way to unmap them early
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
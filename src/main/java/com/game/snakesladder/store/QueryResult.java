@@ -0,0 +1,129 @@
+package com.game.snakesladder.store;
+
+import java.util.Arrays;
+
+// Aggregates over the rows matched by a ResultQuery. Turns and kills are kept as exact histograms up to a
+// cap (with an overflow bucket), so percentiles are exact unless they land in the overflow.
+public class QueryResult {
+    static final int TURN_BUCKETS = 4096;
+    static final int KILL_BUCKETS = 1024;
+    private static final int MAX_SEATS = Byte.MAX_VALUE;
+
+    private final long[] winsBySeat = new long[MAX_SEATS];
+    private final long[] gamesByPlayers = new long[MAX_SEATS + 1];
+    private final long[] turnsHistogram = new long[TURN_BUCKETS + 1];
+    private final long[] killsHistogram = new long[KILL_BUCKETS + 1];
+    private long games;
+    private long totalTurns;
+    private long totalKills;
+    private int minTurns = Integer.MAX_VALUE;
+    private int maxTurns;
+
+    void add(int players, int winner, int turns, int kills) {
+        games++;
+        gamesByPlayers[players]++;
+        winsBySeat[winner]++;
+        totalTurns += turns;
+        totalKills += kills;
+        turnsHistogram[Math.min(turns, TURN_BUCKETS)]++;
+        killsHistogram[Math.min(kills, KILL_BUCKETS)]++;
+        if (turns < minTurns) minTurns = turns;
+        if (turns > maxTurns) maxTurns = turns;
+    }
+
+    QueryResult merge(QueryResult other) {
+        for (int i = 0; i < MAX_SEATS; i++) winsBySeat[i] += other.winsBySeat[i];
+        for (int i = 0; i <= MAX_SEATS; i++) gamesByPlayers[i] += other.gamesByPlayers[i];
+        for (int i = 0; i <= TURN_BUCKETS; i++) turnsHistogram[i] += other.turnsHistogram[i];
+        for (int i = 0; i <= KILL_BUCKETS; i++) killsHistogram[i] += other.killsHistogram[i];
+        games += other.games;
+        totalTurns += other.totalTurns;
+        totalKills += other.totalKills;
+        minTurns = Math.min(minTurns, other.minTurns);
+        maxTurns = Math.max(maxTurns, other.maxTurns);
+        return this;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getWins(int seat) {
+        return winsBySeat[seat];
+    }
+
+    // Wins for the seat over the games that had that seat at all (mixed player counts are allowed)
+    public double getWinRate(int seat) {
+        long seated = 0;
+        for (int p = seat + 1; p <= MAX_SEATS; p++) seated += gamesByPlayers[p];
+        return seated == 0 ? 0.0 : (double) winsBySeat[seat] / seated;
+    }
+
+    public double getMeanTurns() {
+        return games == 0 ? 0.0 : (double) totalTurns / games;
+    }
+
+    public int getMinTurns() {
+        return games == 0 ? 0 : minTurns;
+    }
+
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    // Smallest turn count t with P(turns <= t) >= fraction
+    public int turnsPercentile(double fraction) {
+        return percentile(turnsHistogram, fraction, maxTurns);
+    }
+
+    // Index t counts games that took t turns; the last bucket counts everything at or above TURN_BUCKETS
+    public long[] getTurnsHistogram() {
+        return turnsHistogram.clone();
+    }
+
+    public long getTotalKills() {
+        return totalKills;
+    }
+
+    public double getMeanKills() {
+        return games == 0 ? 0.0 : (double) totalKills / games;
+    }
+
+    public long[] getKillsHistogram() {
+        return killsHistogram.clone();
+    }
+
+    private int percentile(long[] histogram, double fraction, int max) {
+        if (fraction <= 0.0 || fraction > 1.0) {
+            throw new IllegalArgumentException("Fraction must be in (0, 1]");
+        }
+        if (games == 0) return 0;
+        double needed = fraction * games;
+        long cumulative = 0;
+        for (int i = 0; i < histogram.length - 1; i++) {
+            cumulative += histogram[i];
+            if (cumulative >= needed) return i;
+        }
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        int seats = 0;
+        for (int p = 0; p <= MAX_SEATS; p++) {
+            if (gamesByPlayers[p] > 0) seats = p;
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("games=").append(games)
+                .append(" meanTurns=").append(String.format("%.2f", getMeanTurns()))
+                .append(" p50=").append(games == 0 ? 0 : turnsPercentile(0.5))
+                .append(" p90=").append(games == 0 ? 0 : turnsPercentile(0.9))
+                .append(" meanKills=").append(String.format("%.2f", getMeanKills()))
+                .append(" winRate=[");
+        for (int i = 0; i < seats; i++) {
+            sb.append(String.format("%.3f", getWinRate(i)));
+            if (i < seats - 1) sb.append(", ");
+        }
+        return sb.append(']').toString();
+    }
+}
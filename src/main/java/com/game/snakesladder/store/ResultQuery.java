@@ -0,0 +1,139 @@
+package com.game.snakesladder.store;
+
+import com.game.snakesladder.difficulty.Difficulty;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+// Filtered aggregate over a ResultStore. The row range is cut into segments that are scanned in parallel
+// straight from the mapped columns; each segment builds its own QueryResult and the partials are merged.
+// Rows appended after the query starts are not included.
+public class ResultQuery {
+    private static final int SEGMENT_SHIFT = 18; // 256K rows, always inside one column chunk
+    private static final int SEGMENT_ROWS = 1 << SEGMENT_SHIFT;
+
+    private final ResultStore store;
+    private int boardSize = -1;
+    private int difficulty = -1;
+    private int players = -1;
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    ResultQuery(ResultStore store) {
+        this.store = store;
+    }
+
+    public ResultQuery boardSize(int boardSize) {
+        this.boardSize = boardSize;
+        return this;
+    }
+
+    public ResultQuery difficulty(Difficulty difficulty) {
+        this.difficulty = difficulty.code();
+        return this;
+    }
+
+    public ResultQuery players(int players) {
+        this.players = players;
+        return this;
+    }
+
+    public ResultQuery pool(ForkJoinPool pool) {
+        this.pool = pool;
+        return this;
+    }
+
+    public QueryResult run() {
+        long rows = store.size();
+        int segments = segmentCount(rows);
+        return pool.submit(() -> IntStream.range(0, segments).parallel()
+                .mapToObj(s -> scan(s, rows))
+                .reduce(QueryResult::merge)
+                .orElseGet(QueryResult::new)).join();
+    }
+
+    // The same aggregates broken down by board size, difficulty and player count
+    public Map<GroupKey, QueryResult> runGrouped() {
+        long rows = store.size();
+        int segments = segmentCount(rows);
+        Map<Integer, QueryResult> merged = pool.submit(() -> IntStream.range(0, segments).parallel()
+                .mapToObj(s -> scanGrouped(s, rows))
+                .reduce(ResultQuery::mergeGroups)
+                .orElseGet(HashMap::new)).join();
+        Map<GroupKey, QueryResult> out = new TreeMap<>();
+        merged.forEach((k, v) -> out.put(GroupKey.unpack(k), v));
+        return out;
+    }
+
+    private QueryResult scan(int segment, long rows) {
+        QueryResult result = new QueryResult();
+        Segment s = new Segment(segment, rows);
+        for (int i = s.from; i < s.to; i++) {
+            if (matches(s, i)) {
+                result.add(s.players.get(i), s.winner.get(i), s.turns.getInt(i << 2), s.kills.getInt(i << 2));
+            }
+        }
+        return result;
+    }
+
+    private Map<Integer, QueryResult> scanGrouped(int segment, long rows) {
+        Map<Integer, QueryResult> groups = new HashMap<>();
+        Segment s = new Segment(segment, rows);
+        int lastKey = -1;
+        QueryResult last = null;
+        for (int i = s.from; i < s.to; i++) {
+            if (!matches(s, i)) continue;
+            int p = s.players.get(i);
+            int key = GroupKey.pack(s.boardSize.getShort(i << 1), s.difficulty.get(i), p);
+            if (key != lastKey) {
+                last = groups.computeIfAbsent(key, k -> new QueryResult());
+                lastKey = key;
+            }
+            last.add(p, s.winner.get(i), s.turns.getInt(i << 2), s.kills.getInt(i << 2));
+        }
+        return groups;
+    }
+
+    private boolean matches(Segment s, int i) {
+        return (boardSize < 0 || s.boardSize.getShort(i << 1) == boardSize)
+                && (difficulty < 0 || s.difficulty.get(i) == difficulty)
+                && (players < 0 || s.players.get(i) == players);
+    }
+
+    private static Map<Integer, QueryResult> mergeGroups(Map<Integer, QueryResult> a, Map<Integer, QueryResult> b) {
+        b.forEach((k, v) -> a.merge(k, v, QueryResult::merge));
+        return a;
+    }
+
+    private static int segmentCount(long rows) {
+        return (int) ((rows + SEGMENT_ROWS - 1) >>> SEGMENT_SHIFT);
+    }
+
+    // Views of one segment's column chunks; from/to are row offsets within the chunk
+    private final class Segment {
+        final ByteBuffer boardSize;
+        final ByteBuffer difficulty;
+        final ByteBuffer players;
+        final ByteBuffer winner;
+        final ByteBuffer turns;
+        final ByteBuffer kills;
+        final int from;
+        final int to;
+
+        Segment(int segment, long rows) {
+            long first = (long) segment << SEGMENT_SHIFT;
+            int chunk = (int) (first >>> MappedColumn.CHUNK_SHIFT);
+            this.from = (int) (first & MappedColumn.CHUNK_MASK);
+            this.to = (int) (from + Math.min(SEGMENT_ROWS, rows - first));
+            this.boardSize = store.boardSize.chunk(chunk);
+            this.difficulty = store.difficulty.chunk(chunk);
+            this.players = store.players.chunk(chunk);
+            this.winner = store.winner.chunk(chunk);
+            this.turns = store.turns.chunk(chunk);
+            this.kills = store.kills.chunk(chunk);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.game.snakesladder.store;
+
+import com.game.snakesladder.difficulty.Difficulty;
+import com.game.snakesladder.engine.GameEventListener;
+import com.game.snakesladder.model.Board;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Per-game simulation results kept as memory-mapped columns in a directory, one file per column:
+//   boardSize (int16), difficulty (int8), players (int8), winner (int8), turns (int32), kills (int32).
+// Rows live in the page cache rather than on the heap, so very large result sets can be appended and
+// scanned (see ResultQuery) without GC pressure. One writer at a time; queries may run alongside it.
+public class ResultStore implements Closeable {
+    private static final int MAGIC = 0x534C5253; // "SLRS"
+    private static final int VERSION = 1;
+    private static final int META_BYTES = 16; // magic, version, row count
+
+    private final FileChannel metaChannel;
+    private final MappedByteBuffer meta;
+    final MappedColumn boardSize;
+    final MappedColumn difficulty;
+    final MappedColumn players;
+    final MappedColumn winner;
+    final MappedColumn turns;
+    final MappedColumn kills;
+    private volatile long rows;
+
+    private ResultStore(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        this.metaChannel = FileChannel.open(dir.resolve("store.meta"), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.meta = metaChannel.map(FileChannel.MapMode.READ_WRITE, 0, META_BYTES);
+        if (meta.getInt(0) == 0) {
+            meta.putInt(0, MAGIC).putInt(4, VERSION).putLong(8, 0L);
+        } else if (meta.getInt(0) != MAGIC || meta.getInt(4) != VERSION) {
+            metaChannel.close();
+            throw new IOException("Not a result store (or unsupported version): " + dir);
+        }
+        this.rows = meta.getLong(8);
+        this.boardSize = new MappedColumn(dir.resolve("boardSize.col"), 2, rows);
+        this.difficulty = new MappedColumn(dir.resolve("difficulty.col"), 1, rows);
+        this.players = new MappedColumn(dir.resolve("players.col"), 1, rows);
+        this.winner = new MappedColumn(dir.resolve("winner.col"), 1, rows);
+        this.turns = new MappedColumn(dir.resolve("turns.col"), 4, rows);
+        this.kills = new MappedColumn(dir.resolve("kills.col"), 4, rows);
+    }
+
+    // Opens the store in dir, creating it if it does not exist yet
+    public static ResultStore open(Path dir) throws IOException {
+        return new ResultStore(dir);
+    }
+
+    public long size() {
+        return rows;
+    }
+
+    public void append(int boardSize, Difficulty difficulty, int players, int winnerSeat, int turns, int kills)
+            throws IOException {
+        if (boardSize < 2 || boardSize > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Board size out of range: " + boardSize);
+        }
+        if (players < 2 || players > Byte.MAX_VALUE || winnerSeat < 0 || winnerSeat >= players) {
+            throw new IllegalArgumentException("Invalid players/winner: " + players + "/" + winnerSeat);
+        }
+        long row = rows;
+        if ((row & MappedColumn.CHUNK_MASK) == 0) {
+            for (MappedColumn column : columns()) {
+                column.ensureCapacity(row + 1);
+            }
+        }
+        this.boardSize.putShort(row, boardSize);
+        this.difficulty.putByte(row, difficulty.code());
+        this.players.putByte(row, players);
+        this.winner.putByte(row, winnerSeat);
+        this.turns.putInt(row, turns);
+        this.kills.putInt(row, kills);
+        rows = row + 1;
+        meta.putLong(8, row + 1);
+    }
+
+    // Listener that appends one row per finished game, e.g. for BatchSimulator.setListener
+    public GameEventListener recorder(Difficulty difficulty) {
+        return new GameEventListener() {
+            private int size;
+            private int playerCount;
+            private int killCount;
+
+            @Override
+            public void onGameStart(Board board, int playerCount) {
+                this.size = board.getSize();
+                this.playerCount = playerCount;
+                this.killCount = 0;
+            }
+
+            @Override
+            public void onKill(int killerSeat, int victimSeat, int cell) {
+                killCount++;
+            }
+
+            @Override
+            public void onGameEnd(int winnerSeat, int turns) {
+                try {
+                    append(size, difficulty, playerCount, winnerSeat, turns, killCount);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+
+    public ResultQuery query() {
+        return new ResultQuery(this);
+    }
+
+    // Flushes mapped pages to disk
+    public void force() {
+        for (MappedColumn column : columns()) {
+            column.force();
+        }
+        meta.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        for (MappedColumn column : columns()) {
+            column.close();
+        }
+        metaChannel.close();
+    }
+
+    private MappedColumn[] columns() {
+        return new MappedColumn[]{boardSize, difficulty, players, winner, turns, kills};
+    }
+}
@@ -0,0 +1,232 @@
+package com.game.snakesladder.variant;
+
+import com.game.snakesladder.analytics.GameLengthSolver;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.rules.RulesEngine;
+import com.game.snakesladder.rules.TurnOutcome;
+
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+// Bot for MultiTokenGame: picks the token to move by expectimax over whole turns. Chance nodes average over
+// every roll sequence a turn can produce (weighted as in GameLengthSolver); the bot maximises, opponents are
+// assumed to minimise the bot's score. Leaves are scored by the exact expected turns-to-finish of each token
+// (GameLengthSolver, cached on the Board), so even shallow searches see snakes and ladders far ahead.
+// Iterative deepening stops at the time budget and keeps the deepest fully searched answer; chance nodes are
+// cached in a transposition table keyed by a Zobrist hash of the packed positions, kept across moves.
+// Not thread-safe: one instance per bot.
+public class ExpectimaxPlayer {
+    private static final Function<Board, double[]> CELL_TURNS = b -> new GameLengthSolver(b).expectedTurnsByCell();
+    private static final double WIN = 1e6;
+    private static final int MAX_DEPTH = 32;
+    private static final int TABLE_BITS = 16;
+    private static final int CLOCK_CHECK_MASK = 255;
+
+    private final int seat;
+    private final int players;
+    private final int tokens;
+    private final int last;
+    private final long budgetNanos;
+    private final RulesEngine rules;
+    private final double[] cellTurns;
+    private final int[][] sequences;
+    private final double[] sequenceProbability;
+    private final long[] zobrist;   // [seat * cells + cell], summed over tokens so a seat's tokens are interchangeable
+    private final long[] moverKey;
+    private final long[] tableKey = new long[1 << TABLE_BITS];
+    private final double[] tableValue = new double[1 << TABLE_BITS];
+    private final byte[] tableDepth = new byte[1 << TABLE_BITS];
+    private int[] pos;
+    private long deadline;
+    private boolean aborted;
+    private long nodes;
+    private int lastDepth;
+
+    public ExpectimaxPlayer(Board board, int seat, int players, int tokensPerPlayer, long budgetNanos) {
+        if (players * tokensPerPlayer > Long.SIZE) {
+            throw new IllegalArgumentException("At most " + Long.SIZE + " tokens in total");
+        }
+        if (seat < 0 || seat >= players) {
+            throw new IllegalArgumentException("Seat out of range: " + seat);
+        }
+        // A trap cell has infinite expected turns, and leaves with tokens of two seats trapped would score inf - inf
+        if (!new GameLengthSolver(board).isFinishable()) {
+            throw new IllegalArgumentException("Board cannot always be finished");
+        }
+        this.seat = seat;
+        this.players = players;
+        this.tokens = tokensPerPlayer;
+        this.last = board.getLastIndex();
+        this.budgetNanos = budgetNanos;
+        this.rules = RulesEngine.withTurnTable(board);
+        this.cellTurns = board.derived(CELL_TURNS);
+        this.sequences = GameLengthSolver.rollSequences(6);
+        this.sequenceProbability = new double[sequences.length];
+        for (int i = 0; i < sequences.length; i++) {
+            sequenceProbability[i] = Math.pow(1.0 / 6, sequences[i].length);
+        }
+        SplittableRandom random = new SplittableRandom(0x5EEDL);
+        this.zobrist = new long[players * (last + 1)];
+        for (int i = 0; i < zobrist.length; i++) zobrist[i] = random.nextLong();
+        this.moverKey = new long[players];
+        for (int i = 0; i < players; i++) moverKey[i] = random.nextLong();
+    }
+
+    // Best token for the bot's turn given what it rolled
+    public int chooseToken(MultiTokenGame game, int[] rolls, int rollCount) {
+        if (game.getCurrentSeat() != seat) {
+            throw new IllegalStateException("Not seat " + seat + "'s turn");
+        }
+        pos = game.getPositions();
+        int base = seat * tokens;
+        int best = -1;
+        int choices = 0;
+        for (int t = 0; t < tokens; t++) {
+            if (pos[base + t] != last && isFirstAt(base, t)) {
+                if (best < 0) best = t;
+                choices++;
+            }
+        }
+        if (choices < 2) {
+            lastDepth = 0;
+            return best;
+        }
+
+        deadline = System.nanoTime() + budgetNanos;
+        aborted = false;
+        nodes = 0;
+        lastDepth = 0;
+        for (int depth = 1; depth <= MAX_DEPTH; depth++) {
+            int depthBest = -1;
+            double depthValue = Double.NEGATIVE_INFINITY;
+            for (int t = 0; t < tokens; t++) {
+                if (pos[base + t] == last || !isFirstAt(base, t)) continue;
+                double v = move(seat, base + t, rolls, rollCount, depth);
+                if (aborted) break;
+                if (v > depthValue) {
+                    depthValue = v;
+                    depthBest = t;
+                }
+            }
+            if (aborted) break;
+            best = depthBest;
+            lastDepth = depth;
+            if (depthValue >= WIN) break; // forced win found; deeper search cannot improve on it
+        }
+        return best;
+    }
+
+    // Depth of the last completed iteration, 0 when the move was forced
+    public int getLastDepth() {
+        return lastDepth;
+    }
+
+    public long getLastNodes() {
+        return nodes;
+    }
+
+    // Value after the mover applies these rolls to the token at index, with depth turns left to search
+    private double move(int mover, int index, int[] rolls, int rollCount, int depth) {
+        int next = mover + 1 == players ? 0 : mover + 1;
+        int from = pos[index];
+        int outcome = rules.resolveTurn(from, rolls, rollCount);
+        if (TurnOutcome.isRevoked(outcome)) {
+            return chance(next, depth - 1);
+        }
+        int dest = TurnOutcome.position(outcome);
+        pos[index] = dest;
+        long killed = 0;
+        if (dest != 0 && dest != last) {
+            for (int i = 0; i < pos.length; i++) {
+                if (pos[i] == dest && i / tokens != mover) {
+                    killed |= 1L << i;
+                    pos[i] = 0;
+                }
+            }
+        }
+        double value;
+        if (dest == last && allHome(mover)) {
+            value = mover == seat ? WIN + depth : -WIN - depth; // sooner is better
+        } else {
+            value = chance(next, depth - 1);
+        }
+        pos[index] = from;
+        while (killed != 0) {
+            pos[Long.numberOfTrailingZeros(killed)] = dest;
+            killed &= killed - 1;
+        }
+        return value;
+    }
+
+    // Expected value with the mover about to roll
+    private double chance(int mover, int depth) {
+        if (depth == 0) {
+            return evaluate();
+        }
+        if ((++nodes & CLOCK_CHECK_MASK) == 0 && System.nanoTime() > deadline) {
+            aborted = true;
+            return 0.0;
+        }
+        long key = hash(mover);
+        int slot = (int) (key >>> (Long.SIZE - TABLE_BITS));
+        if (tableKey[slot] == key && tableDepth[slot] >= depth) {
+            return tableValue[slot];
+        }
+
+        boolean maximise = mover == seat;
+        int base = mover * tokens;
+        double expected = 0.0;
+        for (int q = 0; q < sequences.length; q++) {
+            double best = maximise ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+            for (int t = 0; t < tokens; t++) {
+                if (pos[base + t] == last || !isFirstAt(base, t)) continue;
+                double v = move(mover, base + t, sequences[q], sequences[q].length, depth);
+                if (aborted) return 0.0;
+                best = maximise ? Math.max(best, v) : Math.min(best, v);
+            }
+            expected += sequenceProbability[q] * best;
+        }
+
+        tableKey[slot] = key;
+        tableValue[slot] = expected;
+        tableDepth[slot] = (byte) depth;
+        return expected;
+    }
+
+    // Bot's remaining expected turns subtracted from its closest opponent's: higher is better for the bot
+    private double evaluate() {
+        double mine = 0.0;
+        double closest = Double.POSITIVE_INFINITY;
+        for (int s = 0; s < players; s++) {
+            double remaining = 0.0;
+            for (int t = 0; t < tokens; t++) remaining += cellTurns[pos[s * tokens + t]];
+            if (s == seat) mine = remaining;
+            else closest = Math.min(closest, remaining);
+        }
+        return closest - mine;
+    }
+
+    private long hash(int mover) {
+        long key = moverKey[mover];
+        int cells = last + 1;
+        for (int i = 0; i < pos.length; i++) {
+            key += zobrist[(i / tokens) * cells + pos[i]];
+        }
+        return key;
+    }
+
+    // Tokens of one seat on the same cell are interchangeable: only search the first of them
+    private boolean isFirstAt(int base, int t) {
+        for (int u = 0; u < t; u++) {
+            if (pos[base + u] == pos[base + t]) return false;
+        }
+        return true;
+    }
+
+    private boolean allHome(int mover) {
+        for (int t = 0; t < tokens; t++) {
+            if (pos[mover * tokens + t] != last) return false;
+        }
+        return true;
+    }
+}
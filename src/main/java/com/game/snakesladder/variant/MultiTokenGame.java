@@ -0,0 +1,117 @@
+package com.game.snakesladder.variant;
+
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.rules.RulesEngine;
+import com.game.snakesladder.rules.TurnOutcome;
+
+import java.util.Arrays;
+
+// Variant where every player owns several tokens and decides, after rolling, which token the turn moves.
+// A turn's rolls are the usual ones (sixes roll again, three sixes revoke) and the chosen token moves exactly
+// as a lone token would under RulesEngine. Landing on another player's tokens sends all of them to start;
+// your own tokens may share a cell. The first player to bring every token to the last cell wins.
+public class MultiTokenGame {
+    private final Board board;
+    private final RulesEngine rulesEngine;
+    private final int players;
+    private final int tokens;
+    private final int[] positions; // [seat * tokens + token]
+    private int currentSeat;
+    private int turns;
+    private int winner = -1;
+
+    public MultiTokenGame(Board board, int players, int tokensPerPlayer) {
+        if (players < 2) {
+            throw new IllegalArgumentException("At least two players required");
+        }
+        if (tokensPerPlayer < 1 || tokensPerPlayer > 4) {
+            throw new IllegalArgumentException("Tokens per player must be between 1 and 4");
+        }
+        this.board = board;
+        this.rulesEngine = new RulesEngine(board);
+        this.players = players;
+        this.tokens = tokensPerPlayer;
+        this.positions = new int[players * tokensPerPlayer];
+    }
+
+    // Plays the current seat's turn with the chosen token and returns its packed TurnOutcome. Three sixes
+    // revoke the turn (the token stays) unless the token reaches the last cell before the third six.
+    public int playTurn(int token, int[] rolls, int rollCount) {
+        if (winner >= 0) {
+            throw new IllegalStateException("Game is already finished");
+        }
+        if (!canMove(token)) {
+            throw new IllegalArgumentException("Token " + token + " of seat " + currentSeat + " cannot move");
+        }
+        int index = currentSeat * tokens + token;
+        int outcome = rulesEngine.resolveTurn(positions[index], rolls, rollCount);
+        if (TurnOutcome.isRevoked(outcome)) {
+            turns++;
+            currentSeat = (currentSeat + 1) % players;
+            return outcome;
+        }
+        int dest = TurnOutcome.position(outcome);
+        positions[index] = dest;
+        if (dest != 0 && dest != board.getLastIndex()) {
+            for (int i = 0; i < positions.length; i++) {
+                if (positions[i] == dest && i / tokens != currentSeat) positions[i] = 0;
+            }
+        }
+        turns++;
+        if (allHome(currentSeat)) {
+            winner = currentSeat;
+        } else {
+            currentSeat = (currentSeat + 1) % players;
+        }
+        return outcome;
+    }
+
+    // A token can move until it has reached the last cell
+    public boolean canMove(int token) {
+        return token >= 0 && token < tokens && positions[currentSeat * tokens + token] != board.getLastIndex();
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public int getPlayerCount() {
+        return players;
+    }
+
+    public int getTokensPerPlayer() {
+        return tokens;
+    }
+
+    public int getPosition(int seat, int token) {
+        return positions[seat * tokens + token];
+    }
+
+    // Copy of every token position, indexed seat * tokensPerPlayer + token
+    public int[] getPositions() {
+        return Arrays.copyOf(positions, positions.length);
+    }
+
+    public int getCurrentSeat() {
+        return currentSeat;
+    }
+
+    public int getTurns() {
+        return turns;
+    }
+
+    public boolean isFinished() {
+        return winner >= 0;
+    }
+
+    public int getWinner() {
+        return winner;
+    }
+
+    private boolean allHome(int seat) {
+        for (int t = 0; t < tokens; t++) {
+            if (positions[seat * tokens + t] != board.getLastIndex()) return false;
+        }
+        return true;
+    }
+}
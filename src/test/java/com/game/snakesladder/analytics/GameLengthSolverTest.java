@@ -0,0 +1,86 @@
+package com.game.snakesladder.analytics;
+
+import com.game.snakesladder.dice.StandardDie;
+import com.game.snakesladder.difficulty.HardStrategy;
+import com.game.snakesladder.difficulty.MediumStrategy;
+import com.game.snakesladder.factory.BoardFactory;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.model.Snake;
+import com.game.snakesladder.rules.RulesEngine;
+import com.game.snakesladder.rules.TurnOutcome;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameLengthSolverTest {
+    private static final int GAMES = 40_000;
+
+    // BatchSimulator needs two players and its kill rule couples them, so this plays the single-player game the
+    // solver models with the same pieces: RulesEngine, a seeded StandardDie and BatchSimulator's roll loop
+    private static RunningStats simulate(Board board, long seed) {
+        RulesEngine rules = RulesEngine.withTurnTable(board);
+        StandardDie die = new StandardDie(6, seed);
+        int[] rolls = new int[3];
+        RunningStats turns = new RunningStats();
+        for (int g = 0; g < GAMES; g++) {
+            int position = 0;
+            int t = 0;
+            boolean won = false;
+            while (!won) {
+                t++;
+                int count = 0;
+                do {
+                    rolls[count++] = die.roll();
+                } while (rolls[count - 1] == 6 && count < 3);
+                int outcome = rules.resolveTurn(position, rolls, count);
+                if (TurnOutcome.isRevoked(outcome)) continue;
+                position = TurnOutcome.position(outcome);
+                won = TurnOutcome.isWon(outcome);
+            }
+            turns.add(t);
+        }
+        return turns;
+    }
+
+    @Test
+    void expectedTurnsMatchSeededSimulation() {
+        List<Board> boards = List.of(
+                new BoardFactory(new MediumStrategy(5L)).create(10, 5L),
+                new BoardFactory(new HardStrategy(6L)).create(10, 6L));
+        for (Board board : boards) {
+            GameLengthStats exact = new GameLengthSolver(board).solveMoments();
+            RunningStats simulated = simulate(board, 7L);
+            double sigma = Math.sqrt(simulated.getVariance() / simulated.getCount());
+            assertEquals(exact.getExpectedTurns(), simulated.getMean(), 5 * sigma);
+            assertEquals(exact.getStandardDeviation(), Math.sqrt(simulated.getVariance()),
+                    0.05 * exact.getStandardDeviation());
+        }
+    }
+
+    @Test
+    void solveAgreesWithMoments() {
+        Board board = new BoardFactory(new HardStrategy(8L)).create(10, 8L);
+        GameLengthSolver solver = new GameLengthSolver(board);
+        GameLengthStats moments = solver.solveMoments();
+        GameLengthStats full = solver.solve();
+        assertEquals(moments.getExpectedTurns(), full.getExpectedTurns(), 1e-6 * moments.getExpectedTurns());
+        assertTrue(full.percentile(0.5) <= full.percentile(0.99));
+    }
+
+    @Test
+    void walledOffBoardIsRejected() {
+        // Six heads in a row: every roll from cell 20 lands on a snake back to 5
+        List<Snake> snakes = new ArrayList<>();
+        for (int head = 21; head <= 26; head++) snakes.add(new Snake(head, 5));
+        GameLengthSolver solver = new GameLengthSolver(new Board(10, snakes, List.of()));
+        assertFalse(solver.isFinishable());
+        assertThrows(IllegalStateException.class, solver::solveMoments);
+        assertThrows(IllegalStateException.class, solver::solve);
+    }
+}
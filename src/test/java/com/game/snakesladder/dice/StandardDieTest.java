@@ -0,0 +1,74 @@
+package com.game.snakesladder.dice;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StandardDieTest {
+    @Test
+    void rollIntoDrawsWhatRollWould() {
+        for (int faces : new int[] {2, 3, 6, 7, 100, 128, 255, 256, 257, 1000}) {
+            StandardDie single = new StandardDie(faces, 3L);
+            StandardDie bulk = new StandardDie(faces, 3L);
+            SplittableRandom lengths = new SplittableRandom(4L);
+            for (int round = 0; round < 200; round++) {
+                // Interleave both calls on the bulk die so a partly used word is carried across them
+                int len = lengths.nextInt(20);
+                int[] expected = new int[len + 1];
+                for (int i = 0; i < expected.length; i++) expected[i] = single.roll();
+                int[] actual = new int[len + 3];
+                bulk.rollInto(actual, 1, len);
+                actual[len + 1] = bulk.roll();
+                int[] trimmed = new int[len + 1];
+                System.arraycopy(actual, 1, trimmed, 0, len + 1);
+                assertArrayEquals(expected, trimmed, faces + " faces, round " + round);
+            }
+        }
+    }
+
+    @Test
+    void rollsAreInRangeAndUnbiased() {
+        // 100 faces is the case a plain byte % faces gets badly wrong: faces 1..56 would come up 3/2 as often
+        for (int faces : new int[] {6, 7, 100, 255}) {
+            StandardDie die = new StandardDie(faces, 5L);
+            int rolls = 20_000 * faces;
+            int[] buf = new int[rolls];
+            die.rollInto(buf, 0, rolls);
+            long[] counts = new long[faces + 1];
+            for (int r : buf) {
+                assertTrue(r >= 1 && r <= faces, "roll " + r);
+                counts[r]++;
+            }
+            double expected = (double) rolls / faces;
+            double chiSquare = 0;
+            for (int f = 1; f <= faces; f++) {
+                double d = counts[f] - expected;
+                chiSquare += d * d / expected;
+            }
+            int df = faces - 1;
+            assertTrue(chiSquare < df + 6 * Math.sqrt(2.0 * df), faces + " faces: chi-square " + chiSquare);
+        }
+    }
+
+    @Test
+    void rejectsFewerThanTwoFaces() {
+        assertThrows(IllegalArgumentException.class, () -> new StandardDie(1, 1L));
+    }
+
+    @Test
+    void scriptedDieWrapsAround() {
+        ScriptedDie die = new ScriptedDie(1, 2, 3);
+        int[] buf = new int[7];
+        die.rollInto(buf, 0, 7);
+        assertArrayEquals(new int[] {1, 2, 3, 1, 2, 3, 1}, buf);
+        assertEquals(2, die.roll());
+        assertEquals(2, die.getCursor());
+        die.reset();
+        assertEquals(1, die.roll());
+    }
+}
@@ -0,0 +1,154 @@
+package com.game.snakesladder.difficulty;
+
+import com.game.snakesladder.analytics.GameLengthSolver;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.model.BoardLayout;
+import com.game.snakesladder.model.Ladder;
+import com.game.snakesladder.model.Snake;
+import com.game.snakesladder.model.SparseBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RandomDifficultyBaseTest {
+    private static final RandomDifficultyBase[] STRATEGIES = {
+            new EasyStrategy(1L), new MediumStrategy(1L), new HardStrategy(1L)};
+
+    @Test
+    void layoutsFollowThePlacementRules() {
+        SplittableRandom random = new SplittableRandom(2L);
+        for (RandomDifficultyBase strategy : STRATEGIES) {
+            for (int n = 6; n <= 40; n += 2) {
+                int last = n * n - 1;
+                int gap = RandomDifficultyBase.minGap(n);
+                for (int round = 0; round < 50; round++) {
+                    BoardLayout layout = strategy.generateLayout(n, last, random);
+                    assertEquals(strategy.getSnakeCount(n), layout.getSnakes().size());
+                    assertEquals(strategy.getLadderCount(n), layout.getLadders().size());
+                    Set<Integer> heads = new HashSet<>();
+                    for (Snake s : layout.getSnakes()) {
+                        assertTrue(s.getHead() >= n && s.getHead() < last, "head " + s.getHead());
+                        assertTrue(s.getTail() >= 1 && s.getHead() - s.getTail() >= gap, s.toString());
+                        assertTrue(heads.add(s.getHead()));
+                    }
+                    Set<Integer> starts = new HashSet<>();
+                    for (Ladder l : layout.getLadders()) {
+                        assertTrue(l.getStart() >= 1 && l.getEnd() < last, l.toString());
+                        assertTrue(l.getEnd() - l.getStart() >= gap, l.toString());
+                        assertFalse(heads.contains(l.getStart()), "ladder on a snake head at " + l.getStart());
+                        assertTrue(starts.add(l.getStart()));
+                    }
+                    assertTrue(new GameLengthSolver(new Board(n, layout.getSnakes(), layout.getLadders()))
+                            .isFinishable());
+                }
+            }
+        }
+    }
+
+    @Test
+    void candidateSampleIsDistinctUniformAndSkipsExcluded() {
+        boolean[] excluded = new boolean[20];
+        excluded[5] = excluded[6] = excluded[13] = true;
+        int[] hits = new int[20];
+        SplittableRandom random = new SplittableRandom(3L);
+        int rounds = 30_000;
+        for (int round = 0; round < rounds; round++) {
+            int[] picked = RandomDifficultyBase.sample(2, 17, 4, random, excluded);
+            Set<Integer> seen = new HashSet<>();
+            for (int cell : picked) {
+                assertTrue(cell >= 2 && cell <= 17 && !excluded[cell], "cell " + cell);
+                assertTrue(seen.add(cell));
+                hits[cell]++;
+            }
+        }
+        double expected = rounds * 4.0 / 13; // 16 cells in [2, 17], 3 excluded
+        for (int cell = 2; cell <= 17; cell++) {
+            if (!excluded[cell]) assertEquals(expected, hits[cell], 0.05 * expected, "cell " + cell);
+        }
+    }
+
+    @Test
+    void floydSampleIsDistinctAndUniform() {
+        int[] hits = new int[12];
+        SplittableRandom random = new SplittableRandom(4L);
+        int rounds = 40_000;
+        for (int round = 0; round < rounds; round++) {
+            long[] picked = RandomDifficultyBase.floydSample(12, 5, random);
+            Set<Long> seen = new HashSet<>();
+            for (long v : picked) {
+                assertTrue(v >= 0 && v < 12);
+                assertTrue(seen.add(v));
+                hits[(int) v]++;
+            }
+        }
+        double expected = rounds * 5.0 / 12;
+        for (int v = 0; v < 12; v++) assertEquals(expected, hits[v], 0.05 * expected, "value " + v);
+        assertEquals(3, RandomDifficultyBase.floydSample(3, 3, random).length); // count == range takes every value
+    }
+
+    @Test
+    void sparseBoardsFollowThePlacementRules() {
+        SplittableRandom random = new SplittableRandom(5L);
+        for (RandomDifficultyBase strategy : STRATEGIES) {
+            int n = 100_000;
+            SparseBoard board = strategy.generateSparseBoard(n, random);
+            assertEquals(strategy.getSnakeCount(n), board.getSnakeCount());
+            assertEquals(strategy.getLadderCount(n), board.getLadderCount());
+        }
+        // Small enough to check every cell: ladders never start on a snake head and every jump spans the gap
+        for (int round = 0; round < 200; round++) {
+            SparseBoard board = new HardStrategy(6L).generateSparseBoard(12, random);
+            int gap = RandomDifficultyBase.minGap(12);
+            for (long cell = 0; cell <= board.getLastIndex(); cell++) {
+                assertFalse(board.isSnakeHead(cell) && board.isLadderStart(cell));
+                long target = board.jumpTarget(cell);
+                if (target != cell) {
+                    assertTrue(Math.abs(target - cell) >= gap, "jump " + cell + "->" + target);
+                    assertTrue(target >= 1 && target < board.getLastIndex());
+                }
+            }
+        }
+    }
+
+    @Test
+    void alwaysFinishesAgreesWithTheSolver() {
+        SplittableRandom random = new SplittableRandom(7L);
+        int trapped = 0;
+        for (int round = 0; round < 3_000; round++) {
+            // Dense random layouts with none of the generator's filtering, so plenty of them trap a token
+            int n = 4 + random.nextInt(5);
+            int last = n * n - 1;
+            double snakeOdds = 0.2 + 0.6 * random.nextDouble();
+            List<Snake> snakes = new ArrayList<>();
+            List<Ladder> ladders = new ArrayList<>();
+            for (int cell = 2; cell < last; cell++) {
+                double u = random.nextDouble();
+                if (u < snakeOdds) snakes.add(new Snake(cell, 1 + random.nextInt(cell - 1)));
+                else if (u < snakeOdds + 0.1 && cell < last - 1) {
+                    ladders.add(new Ladder(cell, cell + 1 + random.nextInt(last - cell - 1)));
+                }
+            }
+            Board board = new Board(n, snakes, ladders);
+            int[] jump = new int[last + 1];
+            for (int cell = 0; cell <= last; cell++) jump[cell] = board.jumpTarget(cell);
+            boolean finishes = RandomDifficultyBase.alwaysFinishes(jump, last);
+            assertEquals(new GameLengthSolver(board).isFinishable(), finishes, "round " + round);
+            if (!finishes) trapped++;
+        }
+        assertTrue(trapped > 100, "too few trapping layouts to mean anything: " + trapped);
+    }
+
+    @Test
+    void boardsThatCannotFitThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new HardStrategy(8L).generateLayout(3, 8));
+    }
+}
@@ -0,0 +1,104 @@
+package com.game.snakesladder.difficulty;
+
+import com.game.snakesladder.analytics.GameLengthSolver;
+import com.game.snakesladder.analytics.GameLengthStats;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.model.BoardLayout;
+import com.game.snakesladder.model.Ladder;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TargetLengthStrategyTest {
+    private static Board board(int n, BoardLayout layout) {
+        return new Board(n, layout.getSnakes(), layout.getLadders());
+    }
+
+    private static TargetLengthStrategy strategy(long seed, ForkJoinPool pool) {
+        return new TargetLengthStrategy(30.0, 12.0, new MediumStrategy(seed), new SplittableRandom(seed), pool)
+                .withMaxSteps(40)
+                .withTolerance(0.0);
+    }
+
+    @Test
+    void layoutDoesNotDependOnParallelism() {
+        ForkJoinPool one = new ForkJoinPool(1);
+        ForkJoinPool eight = new ForkJoinPool(8);
+        try {
+            for (long seed = 0; seed < 4; seed++) {
+                Board serial = board(10, strategy(seed, one).generateLayout(10, 99));
+                Board parallel = board(10, strategy(seed, eight).generateLayout(10, 99));
+                assertTrue(serial.sameLayout(parallel), "seed " + seed);
+            }
+        } finally {
+            one.shutdown();
+            eight.shutdown();
+        }
+    }
+
+    @Test
+    void snakesAndLaddersComeFromOneSearch() {
+        TargetLengthStrategy whole = new TargetLengthStrategy(30.0, Double.NaN, 5L).withMaxSteps(30);
+        Board expected = board(10, whole.generateLayout(10, 99, new SplittableRandom(5L)));
+
+        TargetLengthStrategy forward = new TargetLengthStrategy(30.0, Double.NaN, 5L).withMaxSteps(30);
+        SplittableRandom random = new SplittableRandom(5L);
+        Board snakesFirst = new Board(10, forward.generateSnakes(10, 99, random),
+                forward.generateLadders(10, 99, random));
+        assertTrue(snakesFirst.sameLayout(expected));
+        assertEquals(whole.getLastEvaluations(), forward.getLastEvaluations());
+
+        TargetLengthStrategy reversed = new TargetLengthStrategy(30.0, Double.NaN, 5L).withMaxSteps(30);
+        random = new SplittableRandom(5L);
+        List<Ladder> ladders = reversed.generateLadders(10, 99, random);
+        Board laddersFirst = new Board(10, reversed.generateSnakes(10, 99, random), ladders);
+        assertTrue(laddersFirst.sameLayout(expected));
+
+        // Once a pair is complete the next call searches again
+        BoardLayout next = forward.generateLayout(10, 99, new SplittableRandom(6L));
+        Board again = new Board(10, forward.generateSnakes(10, 99, new SplittableRandom(6L)), next.getLadders());
+        assertTrue(again.sameLayout(board(10, next)));
+    }
+
+    @Test
+    void sweepsMatchTheExactSolver() {
+        SplittableRandom random = new SplittableRandom(3L);
+        RandomDifficultyBase[] starts = {new EasyStrategy(3L), new MediumStrategy(3L), new HardStrategy(3L)};
+        for (int n : new int[] {5, 10, 20}) {
+            for (RandomDifficultyBase start : starts) {
+                for (int round = 0; round < 10; round++) {
+                    BoardLayout layout = start.generateLayout(n, n * n - 1, random);
+                    GameLengthStats exact = new GameLengthSolver(board(n, layout)).solveMoments();
+                    double[] estimate = TargetLengthStrategy.estimateMoments(n, layout);
+                    assertNotNull(estimate);
+                    assertEquals(exact.getExpectedTurns(), estimate[0], 1e-4 * exact.getExpectedTurns());
+                    assertEquals(exact.getStandardDeviation(), estimate[1], 1e-3 * exact.getStandardDeviation());
+                }
+            }
+        }
+    }
+
+    @Test
+    void searchReachesTargetAndReportsExactFigures() {
+        TargetLengthStrategy strategy = new TargetLengthStrategy(40.0, Double.NaN, 9L);
+        BoardLayout layout = strategy.generateLayout(10, 99);
+        GameLengthStats exact = new GameLengthSolver(board(10, layout)).solveMoments();
+        assertEquals(exact.getExpectedTurns(), strategy.getLastExpectedTurns(), 1e-9);
+        assertEquals(exact.getStandardDeviation(), strategy.getLastStdDev(), 1e-9);
+        assertEquals(40.0, exact.getExpectedTurns(), 40.0 * 0.025);
+    }
+
+    @Test
+    void rejectsBadSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new TargetLengthStrategy(0.5));
+        assertThrows(IllegalArgumentException.class, () -> new TargetLengthStrategy(30.0, -1.0, 1L));
+        assertThrows(IllegalArgumentException.class, () -> new TargetLengthStrategy(30.0).withBatchSize(0));
+    }
+}
@@ -0,0 +1,97 @@
+package com.game.snakesladder.engine;
+
+import com.game.snakesladder.analytics.RunningStats;
+import com.game.snakesladder.dice.StandardDie;
+import com.game.snakesladder.difficulty.MediumStrategy;
+import com.game.snakesladder.engine.AdaptiveSimulator.Metric;
+import com.game.snakesladder.factory.BoardFactory;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.model.Snake;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveSimulatorTest {
+    // About 33 turns and 2 kills per 3-player game, so tight intervals take seconds, not minutes
+    private static final Board BOARD = new BoardFactory(new MediumStrategy(17L)).create(8, 17L);
+    private static final int PLAYERS = 3;
+    private static final double Z = RunningStats.zFor(0.95);
+
+    // Plain BatchSimulator games on the same board, per metric, as AdaptiveSimulator records them
+    private static RunningStats[] reference(int games) {
+        RunningStats[] stats = {new RunningStats(), new RunningStats(), new RunningStats()};
+        BatchSimulator simulator = new BatchSimulator(BOARD, PLAYERS, new StandardDie(6, 99L));
+        simulator.setListener(new GameEventListener() {
+            private int kills;
+
+            @Override
+            public void onGameStart(Board board, int playerCount) {
+                kills = 0;
+            }
+
+            @Override
+            public void onKill(int killerSeat, int victimSeat, int cell) {
+                kills++;
+            }
+
+            @Override
+            public void onGameEnd(int winnerSeat, int turns) {
+                stats[Metric.MEAN_TURNS.ordinal()].add(turns);
+                stats[Metric.SEAT_ONE_WIN_RATE.ordinal()].add(winnerSeat == 0 ? 1 : 0);
+                stats[Metric.KILL_RATE.ordinal()].add(kills);
+            }
+        });
+        simulator.run(games);
+        return stats;
+    }
+
+    @Test
+    void varianceReductionLeavesEstimatesUnbiased() {
+        RunningStats[] plain = reference(400_000);
+        boolean[][] modes = {{false, false}, {true, false}, {false, true}, {true, true}};
+        for (boolean[] mode : modes) {
+            AdaptiveResult result = new AdaptiveSimulator(BOARD, PLAYERS, 23L)
+                    .withCommonRandomNumbers(mode[0])
+                    .withAntithetic(mode[1])
+                    .withTarget(Metric.MEAN_TURNS, 0.3)
+                    .withTarget(Metric.SEAT_ONE_WIN_RATE, 0.01)
+                    .withTarget(Metric.KILL_RATE, 0.03)
+                    .withMaxGames(1_000_000)
+                    .run();
+            assertTrue(result.isConverged(), result.toString());
+            for (Metric metric : Metric.values()) {
+                RunningStats reference = plain[metric.ordinal()];
+                double adaptiveError = result.getHalfWidth(metric) / Z;
+                double bound = 4 * Math.sqrt(adaptiveError * adaptiveError
+                        + reference.getStandardError() * reference.getStandardError());
+                assertEquals(reference.getMean(), result.getMean(metric), bound,
+                        metric + " with CRN " + mode[0] + ", antithetic " + mode[1]);
+            }
+        }
+    }
+
+    @Test
+    void sameSeedGivesSameResult() {
+        AdaptiveResult a = new AdaptiveSimulator(BOARD, PLAYERS, 5L).withCommonRandomNumbers(true)
+                .withTarget(Metric.SEAT_ONE_WIN_RATE, 0.03).run();
+        AdaptiveResult b = new AdaptiveSimulator(BOARD, PLAYERS, 5L).withCommonRandomNumbers(true)
+                .withTarget(Metric.SEAT_ONE_WIN_RATE, 0.03).run();
+        assertEquals(a.getGames(), b.getGames());
+        assertEquals(a.getMean(Metric.SEAT_ONE_WIN_RATE), b.getMean(Metric.SEAT_ONE_WIN_RATE));
+        assertEquals(0, a.getGames() % PLAYERS); // a CRN replicate plays every seat rotation
+    }
+
+    @Test
+    void rejectsUnfinishableBoardsAndMissingTargets() {
+        List<Snake> snakes = new ArrayList<>();
+        for (int head = 21; head <= 26; head++) snakes.add(new Snake(head, 5));
+        Board trap = new Board(10, snakes, List.of());
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveSimulator(trap, 2, 1L));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveSimulator(BOARD, 2, 1L).run());
+    }
+}
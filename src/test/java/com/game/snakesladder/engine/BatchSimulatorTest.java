@@ -0,0 +1,76 @@
+package com.game.snakesladder.engine;
+
+import com.game.snakesladder.dice.ScriptedDie;
+import com.game.snakesladder.dice.StandardDie;
+import com.game.snakesladder.difficulty.HardStrategy;
+import com.game.snakesladder.factory.BoardFactory;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.model.Player;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchSimulatorTest {
+    private static final Board BOARD = new BoardFactory(new HardStrategy(1L)).create(10, 1L);
+
+    private static List<Player> players(int count) {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < count; i++) players.add(new Player("P" + i));
+        return players;
+    }
+
+    @Test
+    void batchGamePlaysLikeInteractiveGame() {
+        for (int players = 2; players <= 4; players++) {
+            for (long seed = 0; seed < 25; seed++) {
+                RecordingListener interactive = new RecordingListener();
+                GameEngine engine = new GameEngine(BOARD, players(players), new StandardDie(6, seed));
+                engine.setConsoleOutput(false);
+                engine.setListener(interactive);
+                engine.playInteractive(null);
+
+                RecordingListener batch = new RecordingListener();
+                BatchSimulator simulator = new BatchSimulator(BOARD, players, new StandardDie(6, seed));
+                simulator.setListener(batch);
+                simulator.run(1);
+
+                assertEquals(interactive.events, batch.events, players + " players, seed " + seed);
+            }
+        }
+    }
+
+    @Test
+    void turnLimitAbandonsGame() {
+        // Every roll is a 6, so every turn is revoked and nobody ever moves
+        BatchSimulator simulator = new BatchSimulator(BOARD, 2, new ScriptedDie(6));
+        RecordingListener listener = new RecordingListener();
+        simulator.setListener(listener);
+        simulator.setMaxTurns(30);
+        SimulationResult result = simulator.run(3);
+        assertEquals(0, result.getGames());
+        assertEquals(3, result.getUnfinishedGames());
+        assertEquals("unfinished 30", listener.events.get(listener.events.size() - 1));
+    }
+
+    @Test
+    void quietEngineWritesNothing() {
+        PrintStream out = System.out;
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(captured));
+        try {
+            GameEngine engine = new GameEngine(BOARD, players(2), new StandardDie(6, 2L), null, 2L);
+            engine.setConsoleOutput(false);
+            engine.playInteractive(new Scanner("\n".repeat(10_000)));
+        } finally {
+            System.setOut(out);
+        }
+        assertTrue(captured.size() == 0, captured.toString());
+    }
+}
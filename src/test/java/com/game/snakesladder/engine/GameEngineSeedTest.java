@@ -0,0 +1,64 @@
+package com.game.snakesladder.engine;
+
+import com.game.snakesladder.dice.StandardDie;
+import com.game.snakesladder.difficulty.EasyStrategy;
+import com.game.snakesladder.difficulty.HardStrategy;
+import com.game.snakesladder.difficulty.MediumStrategy;
+import com.game.snakesladder.factory.BoardFactory;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.model.Player;
+import com.game.snakesladder.snapshot.GameSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameEngineSeedTest {
+    private static List<Player> players() {
+        return List.of(new Player("A"), new Player("B"), new Player("C"));
+    }
+
+    private static List<String> play(long seed) {
+        Board board = new BoardFactory(new MediumStrategy(seed)).create(10, seed);
+        GameEngine engine = new GameEngine(board, players(), new StandardDie(6, seed), null, seed);
+        RecordingListener listener = new RecordingListener();
+        engine.setConsoleOutput(false);
+        engine.setListener(listener);
+        engine.playInteractive(null);
+        return listener.events;
+    }
+
+    @Test
+    void sameSeedGivesSameBoards() {
+        for (long seed = 0; seed < 20; seed++) {
+            for (int size : new int[] {5, 10, 30}) {
+                // create(size, seed) depends on the strategy type only, not on the strategy's own RNG
+                assertTrue(new BoardFactory(new EasyStrategy(seed)).create(size, seed)
+                        .sameLayout(new BoardFactory(new EasyStrategy(seed + 1)).create(size, seed)));
+                assertTrue(new BoardFactory(new HardStrategy(seed)).create(size, seed)
+                        .sameLayout(new BoardFactory(new HardStrategy(seed)).create(size, seed)));
+            }
+        }
+    }
+
+    @Test
+    void sameSeedReplaysSameGame() {
+        assertEquals(play(41L), play(41L));
+        assertFalse(play(41L).equals(play(42L)));
+    }
+
+    @Test
+    void restoreKeepsSeed() {
+        Board board = new BoardFactory(new MediumStrategy(24L)).create(10, 24L);
+        GameEngine engine = new GameEngine(board, players(), new StandardDie(6, 24L), null, 24L);
+        GameSnapshot saved = GameSnapshot.fromBytes(engine.snapshot().toBytes());
+        assertEquals(OptionalLong.of(24L), GameEngine.restore(saved, new StandardDie(6, 25L), null).getSeed());
+
+        GameEngine unseeded = new GameEngine(board, players(), new StandardDie());
+        assertEquals(OptionalLong.empty(), GameEngine.restore(unseeded.snapshot(), new StandardDie(), null).getSeed());
+    }
+}
@@ -0,0 +1,81 @@
+package com.game.snakesladder.engine;
+
+import com.game.snakesladder.difficulty.HardStrategy;
+import com.game.snakesladder.difficulty.MediumStrategy;
+import com.game.snakesladder.factory.BoardFactory;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.rules.RulesEngine;
+import com.game.snakesladder.rules.TurnOutcome;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+class LockstepKernelTest {
+    private static final Board BOARD = new BoardFactory(new HardStrategy(11L)).create(10, 11L);
+
+    @Test
+    void scalarKernelPlaysTurnsLikeRulesEngine() {
+        LockstepKernel kernel = LockstepKernel.scalar(BOARD);
+        RulesEngine rules = new RulesEngine(BOARD);
+        int[] roll = new int[1];
+        int[] cur = new int[1];
+        int[] streak = new int[1];
+        int[] turnStart = new int[1];
+        int[] flags = new int[1];
+        int[] rolls = new int[3];
+        for (int start = 0; start < BOARD.getLastIndex(); start++) {
+            for (int sixes = 0; sixes < 3; sixes++) {
+                for (int x = 1; x <= 6; x++) {
+                    for (int i = 0; i < sixes; i++) rolls[i] = 6;
+                    rolls[sixes] = x;
+                    cur[0] = start;
+                    turnStart[0] = start;
+                    streak[0] = 0;
+                    int count = 0;
+                    do {
+                        roll[0] = rolls[count++];
+                        kernel.step(roll, cur, streak, turnStart, flags, 1);
+                    } while (flags[0] == 0);
+                    int expected = rules.resolveTurn(start, rolls, count);
+                    String where = "start " + start + " sixes " + sixes + " x " + x;
+                    assertEquals(TurnOutcome.isRevoked(expected), (flags[0] & LockstepKernel.REVOKED) != 0, where);
+                    assertEquals(TurnOutcome.isWon(expected), (flags[0] & LockstepKernel.WON) != 0, where);
+                    assertEquals(TurnOutcome.position(expected), cur[0], where);
+                    assertEquals(count, flags[0] >>> LockstepKernel.ROLLS_SHIFT, where);
+                }
+            }
+        }
+    }
+
+    // Needs the vector profile (mvn -Pvector test); skipped when best() is the scalar kernel
+    @Test
+    void vectorKernelMatchesScalarLaneForLane() {
+        for (Board board : new Board[] {BOARD, new BoardFactory(new MediumStrategy(12L)).create(50, 12L)}) {
+            LockstepKernel best = LockstepKernel.best(board);
+            assumeFalse(best instanceof ScalarLockstepKernel, "vector kernel not available");
+            LockstepKernel scalar = LockstepKernel.scalar(board);
+            int lanes = 64 * best.width();
+            SplittableRandom random = new SplittableRandom(13L);
+            int[][] a = new int[5][lanes];
+            int[][] b = new int[5][lanes];
+            for (int step = 0; step < 2_000; step++) {
+                for (int i = 0; i < lanes; i++) {
+                    a[0][i] = 1 + random.nextInt(6);                      // roll
+                    a[1][i] = random.nextInt(board.getLastIndex());      // cur
+                    a[2][i] = random.nextInt(3);                          // streak
+                    a[3][i] = random.nextInt(board.getLastIndex());      // turnStart
+                }
+                for (int k = 0; k < 5; k++) b[k] = a[k].clone();
+                scalar.step(a[0], a[1], a[2], a[3], a[4], lanes);
+                best.step(b[0], b[1], b[2], b[3], b[4], lanes);
+                for (int k = 1; k < 5; k++) {
+                    assertArrayEquals(a[k], b[k], "step " + step + " array " + k);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.game.snakesladder.engine;
+
+import com.game.snakesladder.model.Board;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Flattens every event to a string so two runs can be compared as lists
+public class RecordingListener implements GameEventListener {
+    public final List<String> events = new ArrayList<>();
+
+    @Override
+    public void onGameStart(Board board, int playerCount) {
+        events.add("start " + board.fingerprint() + " " + playerCount);
+    }
+
+    @Override
+    public void onTurn(int seat, int startPosition, int[] rolls, int rollCount, int outcome) {
+        events.add("turn " + seat + " " + startPosition + " " + Arrays.toString(Arrays.copyOf(rolls, rollCount))
+                + " " + outcome);
+    }
+
+    @Override
+    public void onKill(int killerSeat, int victimSeat, int cell) {
+        events.add("kill " + killerSeat + " " + victimSeat + " " + cell);
+    }
+
+    @Override
+    public void onGameEnd(int winnerSeat, int turns) {
+        events.add("end " + winnerSeat + " " + turns);
+    }
+
+    @Override
+    public void onGameUnfinished(int turns) {
+        events.add("unfinished " + turns);
+    }
+}
@@ -0,0 +1,118 @@
+package com.game.snakesladder.events;
+
+import com.game.snakesladder.dice.StandardDie;
+import com.game.snakesladder.difficulty.HardStrategy;
+import com.game.snakesladder.engine.BatchSimulator;
+import com.game.snakesladder.engine.GameEventListener;
+import com.game.snakesladder.engine.RecordingListener;
+import com.game.snakesladder.factory.BoardFactory;
+import com.game.snakesladder.model.Board;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventRingTest {
+    private static final Board BOARD = new BoardFactory(new HardStrategy(5L)).create(10, 5L);
+
+    private static void simulate(GameEventListener listener, int games) {
+        BatchSimulator simulator = new BatchSimulator(BOARD, 3, new StandardDie(6, 5L));
+        simulator.setListener(listener);
+        simulator.run(games);
+    }
+
+    @Test
+    void consumersSeeEveryEventInOrderAcrossWraparound() {
+        RecordingListener direct = new RecordingListener();
+        simulate(direct, 50);
+
+        RecordingListener fast = new RecordingListener();
+        RecordingListener slow = new RecordingListener() {
+            @Override
+            public void onTurn(int seat, int startPosition, int[] rolls, int rollCount, int outcome) {
+                if (events.size() % 64 == 0) Thread.yield(); // falls behind now and then, so the producer waits
+                super.onTurn(seat, startPosition, rolls, rollCount, outcome);
+            }
+        };
+        EventRing ring = new EventRing(4, WaitStrategy.PARK).addConsumer("fast", fast).addConsumer("slow", slow);
+        ring.start();
+        simulate(ring, 50);
+        ring.awaitConsumers();
+        ring.close();
+
+        assertTrue(direct.events.size() > 100 * ring.getCapacity(), "ring should wrap many times");
+        assertEquals(direct.events.size() - 1, ring.getPublished());
+        assertEquals(direct.events, fast.events);
+        assertEquals(direct.events, slow.events);
+    }
+
+    @Test
+    void producerWaitsForAFullRing() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingListener handled = new RecordingListener() {
+            @Override
+            public void onGameEnd(int winnerSeat, int turns) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.onGameEnd(winnerSeat, turns);
+            }
+        };
+        EventRing ring = new EventRing(8, WaitStrategy.PARK).addConsumer("blocked", handled);
+        ring.start();
+
+        AtomicInteger published = new AtomicInteger();
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 20; i++) {
+                ring.onGameEnd(0, i);
+                published.incrementAndGet();
+            }
+        });
+        producer.start();
+        // The consumer holds event 0, so the producer fills the ring and stops before overwriting it
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (published.get() < ring.getCapacity() && System.nanoTime() < deadline) Thread.sleep(1);
+        Thread.sleep(50);
+        assertEquals(ring.getCapacity(), published.get());
+        assertTrue(producer.isAlive());
+
+        release.countDown();
+        producer.join(10_000);
+        assertEquals(20, published.get());
+        ring.close();
+        assertEquals(20, handled.events.size());
+        for (int i = 0; i < 20; i++) assertEquals("end 0 " + i, handled.events.get(i));
+    }
+
+    @Test
+    void failedConsumerStopsGatingAndIsReportedOnClose() {
+        EventRing ring = new EventRing(2, WaitStrategy.YIELD).addConsumer("broken", new GameEventListener() {
+            @Override
+            public void onGameUnfinished(int turns) {
+                throw new IllegalStateException("boom");
+            }
+        });
+        ring.start();
+        for (int i = 0; i < 10; i++) ring.onGameUnfinished(i); // would wait forever on a consumer still gating
+        IllegalStateException failure = assertThrows(IllegalStateException.class, ring::close);
+        assertEquals("boom", failure.getCause().getMessage());
+        assertThrows(IllegalStateException.class, () -> ring.onGameUnfinished(0));
+    }
+
+    @Test
+    void rejectsMisuse() {
+        assertThrows(IllegalArgumentException.class, () -> new EventRing(6, WaitStrategy.PARK));
+        EventRing ring = new EventRing(4, WaitStrategy.PARK);
+        assertThrows(IllegalStateException.class, () -> ring.onGameEnd(0, 1));
+        ring.start();
+        assertThrows(IllegalStateException.class, () -> ring.addConsumer("late", new RecordingListener()));
+        ring.close();
+    }
+}
@@ -0,0 +1,92 @@
+package com.game.snakesladder.factory;
+
+import com.game.snakesladder.difficulty.Difficulty;
+import com.game.snakesladder.difficulty.MediumStrategy;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.model.Ladder;
+import com.game.snakesladder.model.Snake;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class BoardCacheTest {
+    private static Board board(int snakeHead) {
+        return new Board(10, List.of(new Snake(snakeHead, 5)), List.of(new Ladder(3, 40)));
+    }
+
+    // Real 64-bit fingerprint collisions are out of reach, so this board claims one
+    private static final class CollidingBoard extends Board {
+        CollidingBoard(int snakeHead) {
+            super(10, List.of(new Snake(snakeHead, 5)), List.of());
+        }
+
+        @Override
+        public long fingerprint() {
+            return 42L;
+        }
+    }
+
+    @Test
+    void internSharesEqualLayouts() {
+        BoardCache cache = new BoardCache(8);
+        Board first = cache.intern(board(50));
+        assertSame(first, cache.intern(board(50)));
+        assertNotSame(first, cache.intern(board(60)));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    void leastRecentlyUsedLayoutIsEvicted() {
+        BoardCache cache = new BoardCache(2);
+        Board a = cache.intern(board(50));
+        Board b = cache.intern(board(60));
+        assertSame(a, cache.intern(board(50))); // a is now the most recently used
+        cache.intern(board(70));               // so b goes
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertSame(a, cache.intern(board(50)));
+        Board b2 = board(60);
+        assertSame(b2, cache.intern(b2));
+        assertNotSame(b, b2);
+    }
+
+    @Test
+    void fingerprintCollisionKeepsFirstBoard() {
+        BoardCache cache = new BoardCache(8);
+        Board first = cache.intern(new CollidingBoard(50));
+        Board other = new CollidingBoard(60);
+        assertSame(other, cache.intern(other)); // different layout: not merged with first
+        assertSame(other, cache.intern(other)); // and never cached in first's place
+        assertSame(first, cache.intern(new CollidingBoard(50)));
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getHits());
+        assertEquals(3, cache.getMisses());
+    }
+
+    @Test
+    void recipeHitSkipsGeneration() {
+        BoardCache cache = new BoardCache(8);
+        AtomicInteger generated = new AtomicInteger();
+        Board interned = cache.intern(board(50));
+        Board made = cache.getOrCreate(Difficulty.CUSTOM, 10, 1L, () -> {
+            generated.incrementAndGet();
+            return board(50);
+        });
+        assertSame(interned, made); // a recipe miss still lands on the interned layout
+        assertSame(made, cache.getOrCreate(Difficulty.CUSTOM, 10, 1L, () -> {
+            generated.incrementAndGet();
+            return board(60);
+        }));
+        assertEquals(1, generated.get());
+
+        BoardFactory factory = new BoardFactory(new MediumStrategy(3L), cache);
+        assertSame(factory.create(10, 3L), factory.create(10, 3L));
+    }
+}
@@ -0,0 +1,81 @@
+package com.game.snakesladder.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsRegistryTest {
+    @Test
+    void bucketsBoundValuesWithinThreePercent() {
+        SplittableRandom random = new SplittableRandom(1L);
+        for (int i = 0; i < 100_000; i++) {
+            long value = i < 1000 ? i : random.nextLong(Long.MAX_VALUE >> random.nextInt(63));
+            long upper = LatencyHistogram.upperBound(LatencyHistogram.bucketOf(value));
+            assertTrue(upper >= value, value + " above its bucket's bound " + upper);
+            assertTrue(upper - value <= value / 32, value + " reported as " + upper);
+        }
+        for (int b = 1; b < LatencyHistogram.bucketOf(Long.MAX_VALUE); b++) {
+            assertEquals(b, LatencyHistogram.bucketOf(LatencyHistogram.upperBound(b)));
+            assertTrue(LatencyHistogram.upperBound(b) > LatencyHistogram.upperBound(b - 1));
+        }
+    }
+
+    @Test
+    void percentilesOfAKnownDistribution() {
+        LatencyHistogram histogram = new MetricsRegistry().histogram("test_nanoseconds", "Test");
+        assertEquals(0, histogram.percentile(0.5));
+        for (long v = 1; v <= 10_000; v++) histogram.record(v);
+        histogram.record(-5); // clamped to 0
+        assertEquals(10_001, histogram.getCount());
+        assertEquals(10_000L * 10_001 / 2, histogram.getSum());
+        assertEquals(5_000, histogram.percentile(0.5), 5_000 / 32.0);
+        assertEquals(9_900, histogram.percentile(0.99), 9_900 / 32.0);
+        assertEquals(10_000, histogram.percentile(1.0), 10_000 / 32.0);
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentile(0.0));
+    }
+
+    @Test
+    void concurrentRecordingLosesNothing() throws InterruptedException {
+        MetricsRegistry registry = new MetricsRegistry();
+        LatencyHistogram histogram = registry.histogram("test_nanoseconds", "Test");
+        Counter counter = registry.counter("test_total", "Test");
+        int threads = 4;
+        int perThread = 50_000;
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    histogram.record(100 + i % 8); // a handful of hot buckets, as a steady latency gives
+                    counter.increment();
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) worker.join();
+        assertEquals((long) threads * perThread, histogram.getCount());
+        assertEquals((long) threads * perThread, counter.sum());
+        assertEquals(107, histogram.percentile(1.0), 107 / 32.0);
+    }
+
+    @Test
+    void registryExportsPrometheusText() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Counter counter = registry.counter("test_total", "Things counted");
+        assertSame(counter, registry.counter("test_total", "ignored"));
+        counter.add(3);
+        registry.histogram("test_nanoseconds", "Latency").record(40);
+        String text = registry.toPrometheusText();
+        assertTrue(text.contains("# HELP test_total Things counted\n# TYPE test_total counter\ntest_total 3\n"), text);
+        assertTrue(text.contains("# TYPE test_nanoseconds summary\n"), text);
+        assertTrue(text.contains("test_nanoseconds{quantile=\"0.5\"} 40\n"), text);
+        assertTrue(text.contains("test_nanoseconds_sum 40\ntest_nanoseconds_count 1\n"), text);
+    }
+}
@@ -0,0 +1,115 @@
+package com.game.snakesladder.model;
+
+import com.game.snakesladder.difficulty.HardStrategy;
+import com.game.snakesladder.factory.BoardFactory;
+import com.game.snakesladder.rules.RulesEngine;
+import com.game.snakesladder.rules.SparseRulesEngine;
+import com.game.snakesladder.rules.TurnOutcome;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SparseBoardTest {
+    @Test
+    void findMatchesAMapForEveryTreeShape() {
+        SplittableRandom random = new SplittableRandom(4L);
+        int size = 100_000; // 10^10 cells: indices past the int range
+        long last = (long) size * size - 1;
+        // 0 to 70 jumps covers empty, full (2^k - 1) and every partly filled last level up to six levels
+        for (int jumps = 0; jumps <= 70; jumps++) {
+            Map<Long, Long> expected = new HashMap<>();
+            while (expected.size() < jumps) {
+                expected.putIfAbsent(1 + random.nextLong(last - 2), 0L);
+            }
+            long[] heads = new long[jumps / 2];
+            long[] tails = new long[heads.length];
+            long[] starts = new long[jumps - heads.length];
+            long[] ends = new long[starts.length];
+            int s = 0;
+            int l = 0;
+            for (Map.Entry<Long, Long> e : expected.entrySet()) {
+                long from = e.getKey();
+                if (s < heads.length) {
+                    heads[s] = from;
+                    tails[s++] = random.nextLong(from);
+                    e.setValue(tails[s - 1]);
+                } else {
+                    starts[l] = from;
+                    ends[l++] = from + 1 + random.nextLong(last - from);
+                    e.setValue(ends[l - 1]);
+                }
+            }
+            SparseBoard board = new SparseBoard(size, heads, tails, starts, ends);
+            assertEquals(heads.length, board.getSnakeCount());
+            assertEquals(starts.length, board.getLadderCount());
+            for (Map.Entry<Long, Long> e : expected.entrySet()) {
+                long from = e.getKey();
+                assertEquals((long) e.getValue(), board.jumpTarget(from), jumps + " jumps, cell " + from);
+                assertEquals(e.getValue() < from, board.isSnakeHead(from));
+                assertEquals(e.getValue() > from, board.isLadderStart(from));
+                for (long near : new long[] {from - 1, from + 1}) {
+                    if (!expected.containsKey(near)) assertEquals(near, board.jumpTarget(near));
+                }
+            }
+            for (long cell : new long[] {0, 1, last - 1, last, Integer.MAX_VALUE + 1L}) {
+                if (!expected.containsKey(cell)) {
+                    assertEquals(cell, board.jumpTarget(cell));
+                    assertFalse(board.isSnakeHead(cell) || board.isLadderStart(cell));
+                }
+            }
+        }
+    }
+
+    @Test
+    void agreesWithTheDenseBoard() {
+        for (long seed = 0; seed < 5; seed++) {
+            Board dense = new BoardFactory(new HardStrategy(seed)).create(20, seed);
+            SparseBoard sparse = SparseBoard.of(dense);
+            assertEquals(dense.getLastIndex(), sparse.getLastIndex());
+            for (int cell = 0; cell <= dense.getLastIndex(); cell++) {
+                assertEquals(dense.jumpTarget(cell), sparse.jumpTarget(cell));
+                assertEquals(dense.isSnakeHead(cell), sparse.isSnakeHead(cell));
+                assertEquals(dense.isLadderStart(cell), sparse.isLadderStart(cell));
+            }
+
+            RulesEngine rules = new RulesEngine(dense);
+            SparseRulesEngine sparseRules = new SparseRulesEngine(sparse);
+            int[] rolls = new int[3];
+            for (int start = 0; start < dense.getLastIndex(); start++) {
+                for (int sixes = 0; sixes < 3; sixes++) {
+                    for (int x = 1; x <= 6; x++) {
+                        for (int i = 0; i < sixes; i++) rolls[i] = 6;
+                        rolls[sixes] = x;
+                        int expected = rules.resolveTurn(start, rolls, sixes + 1);
+                        long actual = sparseRules.resolveTurn(start, rolls, sixes + 1);
+                        assertEquals(TurnOutcome.position(expected), TurnOutcome.position(actual));
+                        assertEquals(TurnOutcome.isWon(expected), TurnOutcome.isWon(actual));
+                        assertEquals(TurnOutcome.isRevoked(expected), TurnOutcome.isRevoked(actual));
+                        assertEquals(TurnOutcome.getsExtraTurn(expected), TurnOutcome.getsExtraTurn(actual));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void rejectsBadLayouts() {
+        long[] none = new long[0];
+        assertThrows(IllegalArgumentException.class,
+                () -> new SparseBoard(10, new long[] {50}, new long[] {60}, none, none));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SparseBoard(10, none, none, new long[] {50}, new long[] {40}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SparseBoard(10, new long[] {50}, new long[] {5}, new long[] {50}, new long[] {70}));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SparseBoard(10, none, none, new long[] {5}, new long[] {100}));
+        assertTrue(new SparseBoard(10, none, none, none, none).getFootprintBytes() > 0);
+    }
+}
@@ -0,0 +1,96 @@
+package com.game.snakesladder.render;
+
+import com.game.snakesladder.difficulty.HardStrategy;
+import com.game.snakesladder.factory.BoardFactory;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.model.Player;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IncrementalConsoleBoardRendererTest {
+    private static final Board BOARD = new BoardFactory(new HardStrategy(2L)).create(10, 2L);
+    private static final int BOARD_WIDTH = 10 * (ConsoleBoardRenderer.CELL_WIDTH + 1) - 1;
+
+    private static List<Player> players() {
+        return List.of(new Player("Ann"), new Player("Bob"));
+    }
+
+    // Renders with stdout captured; returns what the fallback printed
+    private static String render(IncrementalConsoleBoardRenderer renderer, List<Player> players) {
+        PrintStream out = System.out;
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(captured));
+        try {
+            renderer.render(BOARD, players);
+        } finally {
+            System.setOut(out);
+        }
+        return captured.toString();
+    }
+
+    @Test
+    void pinnedBoardOnlyRedrawsChanges() {
+        StringWriter out = new StringWriter();
+        IncrementalConsoleBoardRenderer renderer = new IncrementalConsoleBoardRenderer(out, 120, 60);
+        List<Player> players = players();
+        assertEquals("", render(renderer, players));
+        assertFalse(renderer.isFallback());
+        int full = out.getBuffer().length();
+        assertTrue(out.toString().contains("\u001B[2J"));
+
+        render(renderer, players);
+        assertEquals(full, out.getBuffer().length(), "nothing moved, nothing written");
+
+        players.get(0).setPosition(7);
+        render(renderer, players);
+        String delta = out.toString().substring(full);
+        assertFalse(delta.contains("\u001B[2J"));
+        assertTrue(delta.contains("Ann@7"));
+    }
+
+    @Test
+    void pinnedLinesFitTheTerminal() {
+        int columns = BOARD_WIDTH + 2;
+        StringWriter out = new StringWriter();
+        IncrementalConsoleBoardRenderer renderer = new IncrementalConsoleBoardRenderer(out, columns, 60);
+        render(renderer, players());
+        assertFalse(renderer.isFallback());
+        String text = out.toString();
+        int start = text.indexOf("\u001B[H") + 3;
+        int end = text.lastIndexOf("\u001B[");
+        String[] lines = text.substring(start, text.lastIndexOf('\n', end) + 1).split("\n");
+        assertTrue(lines.length > 11, "snake and ladder legends wrap onto several lines");
+        for (String line : lines) {
+            assertTrue(IncrementalConsoleBoardRenderer.displayWidth(line) <= columns, line);
+        }
+    }
+
+    @Test
+    void tooSmallTerminalFallsBackToFullRedraws() {
+        StringWriter narrowOut = new StringWriter();
+        IncrementalConsoleBoardRenderer narrow = new IncrementalConsoleBoardRenderer(narrowOut, BOARD_WIDTH - 1, 60);
+        String printed = render(narrow, players());
+        assertTrue(narrow.isFallback());
+        assertEquals("", narrowOut.toString());
+        assertTrue(printed.contains("Ann"));
+
+        IncrementalConsoleBoardRenderer shortTerminal = new IncrementalConsoleBoardRenderer(new StringWriter(), 200, 12);
+        render(shortTerminal, players());
+        assertTrue(shortTerminal.isFallback());
+    }
+
+    @Test
+    void displayWidthCountsSymbolsWide() {
+        assertEquals(3, IncrementalConsoleBoardRenderer.displayWidth("abc"));
+        assertEquals(2, IncrementalConsoleBoardRenderer.displayWidth(ConsoleBoardRenderer.SNAKE_EMOJI));
+        assertEquals(2, IncrementalConsoleBoardRenderer.displayWidth("⬆️"));
+    }
+}
@@ -0,0 +1,75 @@
+package com.game.snakesladder.replay;
+
+import com.game.snakesladder.dice.StandardDie;
+import com.game.snakesladder.difficulty.HardStrategy;
+import com.game.snakesladder.engine.BatchSimulator;
+import com.game.snakesladder.engine.GameEventListener;
+import com.game.snakesladder.engine.RecordingListener;
+import com.game.snakesladder.factory.BoardFactory;
+import com.game.snakesladder.model.Board;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplayRoundTripTest {
+    private static final long SEED = 31L;
+    private static final int GAMES = 200;
+    private static final Board BOARD = new BoardFactory(new HardStrategy(SEED)).create(10, SEED);
+
+    // The simulator is seeded, so a second run with a recorder sees exactly the events the log was written from
+    private static List<String> simulate(GameEventListener listener, int maxTurns) {
+        BatchSimulator simulator = new BatchSimulator(BOARD, 3, new StandardDie(6, SEED));
+        simulator.setMaxTurns(maxTurns);
+        simulator.setListener(listener);
+        simulator.run(GAMES);
+        RecordingListener recorder = new RecordingListener();
+        simulator = new BatchSimulator(BOARD, 3, new StandardDie(6, SEED));
+        simulator.setMaxTurns(maxTurns);
+        simulator.setListener(recorder);
+        simulator.run(GAMES);
+        return recorder.events;
+    }
+
+    private static List<String> roundTrip(Path file, int maxTurns) throws IOException {
+        List<String> recorded;
+        try (ReplayWriter writer = new ReplayWriter(file, BOARD, OptionalLong.of(SEED))) {
+            recorded = simulate(writer, maxTurns);
+        }
+        RecordingListener replayed = new RecordingListener();
+        try (ReplayReader reader = new ReplayReader(file)) {
+            assertTrue(BOARD.sameLayout(reader.getBoard()));
+            assertEquals(OptionalLong.of(SEED), reader.getSeed());
+            assertEquals(recorded.size(), reader.replay(replayed));
+        }
+        assertEquals(recorded, replayed.events);
+        return recorded;
+    }
+
+    @Test
+    void replayReproducesRecordedGames(@TempDir Path dir) throws IOException {
+        List<String> recorded = roundTrip(dir.resolve("games.slrp"), BatchSimulator.DEFAULT_MAX_TURNS);
+        assertTrue(recorded.stream().anyMatch(e -> e.startsWith("kill ")), "expected at least one kill");
+    }
+
+    @Test
+    void replayKeepsUnfinishedGames(@TempDir Path dir) throws IOException {
+        List<String> recorded = roundTrip(dir.resolve("limited.slrp"), 40);
+        assertTrue(recorded.stream().anyMatch(e -> e.startsWith("end ")), "expected finished games");
+        assertTrue(recorded.stream().anyMatch(e -> e.equals("unfinished 40")), "expected unfinished games");
+        // Every game closes with exactly one end or unfinished record before the next one starts
+        int open = 0;
+        for (String event : recorded) {
+            if (event.startsWith("start ")) open++;
+            if (event.startsWith("end ") || event.startsWith("unfinished ")) open--;
+            assertTrue(open == 0 || open == 1, event);
+        }
+        assertEquals(0, open);
+    }
+}
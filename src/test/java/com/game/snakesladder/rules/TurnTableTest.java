@@ -0,0 +1,54 @@
+package com.game.snakesladder.rules;
+
+import com.game.snakesladder.difficulty.EasyStrategy;
+import com.game.snakesladder.difficulty.HardStrategy;
+import com.game.snakesladder.difficulty.MediumStrategy;
+import com.game.snakesladder.factory.BoardFactory;
+import com.game.snakesladder.model.Board;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TurnTableTest {
+    private static List<Board> boards() {
+        return List.of(
+                new BoardFactory(new EasyStrategy(1L)).create(4, 1L),
+                new BoardFactory(new MediumStrategy(2L)).create(10, 2L),
+                new BoardFactory(new HardStrategy(3L)).create(10, 3L),
+                new BoardFactory(new HardStrategy(4L)).create(25, 4L));
+    }
+
+    @Test
+    void tableMatchesReplayForEveryCellAndSequence() {
+        int[] rolls = new int[3];
+        for (Board board : boards()) {
+            RulesEngine replay = new RulesEngine(board);
+            RulesEngine table = RulesEngine.withTurnTable(board);
+            for (int start = 0; start <= board.getLastIndex(); start++) {
+                for (int sixes = 0; sixes < 3; sixes++) {
+                    for (int x = 1; x <= TurnTable.SIX; x++) {
+                        for (int i = 0; i < sixes; i++) rolls[i] = TurnTable.SIX;
+                        rolls[sixes] = x;
+                        assertEquals(replay.resolveTurn(start, rolls, sixes + 1),
+                                table.resolveTurn(start, rolls, sixes + 1),
+                                "board " + board.getSize() + " start " + start + " sixes " + sixes + " x " + x);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void sequencesOutsideTheRollLoopFallBackToReplay() {
+        Board board = boards().get(1);
+        RulesEngine replay = new RulesEngine(board);
+        RulesEngine table = RulesEngine.withTurnTable(board);
+        int[] rolls = {3, 6, 2}; // a non-six before the last roll never comes out of the roll loop
+        assertEquals(-1, TurnTable.forBoard(board).sequenceId(rolls, 3));
+        for (int start = 0; start < board.getLastIndex(); start++) {
+            assertEquals(replay.resolveTurn(start, rolls, 3), table.resolveTurn(start, rolls, 3));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.game.snakesladder.server;
+
+import com.game.snakesladder.difficulty.MediumStrategy;
+import com.game.snakesladder.factory.BoardFactory;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.snapshot.GameSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameServerTest {
+    private static final Board BOARD = new BoardFactory(new MediumStrategy(9L)).create(10, 9L);
+
+    // Rolls for whoever is up until the session has seen the given number of rolls or is finished
+    private static void play(GameServer server, long id, int rolls) {
+        for (int i = 0; i < rolls; i++) {
+            if (server.inspect(id, GameSession::isFinished).join()) return;
+            int seat = server.inspect(id, GameSession::getCurrentSeat).join();
+            server.roll(id, seat).join();
+        }
+    }
+
+    @Test
+    void sessionsStayOnTheirShard() {
+        try (GameServer server = new GameServer(3)) {
+            for (int i = 0; i < 12; i++) {
+                long id = server.openLobby(BOARD, 2, i);
+                String thread = server.inspect(id, s -> Thread.currentThread().getName()).join();
+                assertEquals("game-shard-" + id % 3, thread);
+                assertEquals(thread, server.inspect(id, s -> Thread.currentThread().getName()).join());
+            }
+            assertEquals(12, server.getActiveSessions());
+        }
+    }
+
+    @Test
+    void rollsFollowTheTurnOrder() {
+        try (GameServer server = new GameServer(2)) {
+            long id = server.openLobby(BOARD, 3, 1L);
+            CompletionException wrongSeat = assertThrows(CompletionException.class, () -> server.roll(id, 1).join());
+            assertInstanceOf(IllegalStateException.class, wrongSeat.getCause());
+            CompletionException unknown = assertThrows(CompletionException.class, () -> server.roll(999, 0).join());
+            assertInstanceOf(IllegalArgumentException.class, unknown.getCause());
+
+            RollReport report = server.roll(id, 0).join();
+            assertEquals(0, report.seat);
+            if (report.kind == RollReport.Kind.ROLL_AGAIN) assertEquals(0, report.nextSeat);
+            assertEquals(report.nextSeat, (int) server.inspect(id, GameSession::getCurrentSeat).join());
+            assertTrue(server.closeLobby(id));
+            assertFalse(server.closeLobby(id));
+        }
+    }
+
+    @Test
+    void snapshotAndRestoreKeepEverySession(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("lobbies.slsn");
+        List<Long> ids = new ArrayList<>();
+        List<GameSnapshot> before = new ArrayList<>();
+        try (GameServer server = new GameServer(4)) {
+            for (int i = 0; i < 40; i++) {
+                long id = server.openLobby(BOARD, 2 + i % 3, i);
+                play(server, id, i * 3);
+                ids.add(id);
+            }
+            for (long id : ids) before.add(server.inspect(id, GameSession::snapshot).join());
+            assertEquals(ids.size(), server.snapshotTo(file));
+        }
+        try (GameServer server = new GameServer(2)) {
+            assertEquals(ids.size(), server.restoreFrom(file, 5L));
+            for (int i = 0; i < ids.size(); i++) {
+                GameSnapshot expected = before.get(i);
+                GameSnapshot actual = server.inspect(ids.get(i), GameSession::snapshot).join();
+                assertEquals(expected.id, actual.id);
+                assertTrue(expected.board.sameLayout(actual.board));
+                assertArrayEquals(expected.positions, actual.positions, "session " + expected.id);
+                assertEquals(expected.currentSeat, actual.currentSeat);
+                assertEquals(expected.turns, actual.turns);
+                assertEquals(expected.winner, actual.winner);
+                assertArrayEquals(expected.pendingRolls, actual.pendingRolls);
+            }
+            long fresh = server.openLobby(BOARD, 2, 6L);
+            assertTrue(fresh > ids.get(ids.size() - 1), "new ids must not collide with restored ones");
+            assertThrows(IllegalStateException.class, () -> server.restoreFrom(file, 5L));
+            // Restored sessions keep playing
+            long unfinished = ids.stream().filter(id -> !server.inspect(id, GameSession::isFinished).join())
+                    .findFirst().orElseThrow();
+            play(server, unfinished, 10_000);
+            assertTrue(server.inspect(unfinished, GameSession::isFinished).join());
+            assertEquals(ids.size() + 1, server.getActiveSessions());
+        }
+    }
+}
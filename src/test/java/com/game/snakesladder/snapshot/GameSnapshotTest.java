@@ -0,0 +1,117 @@
+package com.game.snakesladder.snapshot;
+
+import com.game.snakesladder.dice.ScriptedDie;
+import com.game.snakesladder.dice.StandardDie;
+import com.game.snakesladder.difficulty.HardStrategy;
+import com.game.snakesladder.difficulty.MediumStrategy;
+import com.game.snakesladder.factory.BoardFactory;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.server.GameSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameSnapshotTest {
+    private static final Board BOARD = new BoardFactory(new MediumStrategy(21L)).create(10, 21L);
+
+    private static void assertSameGame(GameSnapshot expected, GameSnapshot actual) {
+        assertEquals(expected.id, actual.id);
+        assertTrue(expected.board.sameLayout(actual.board));
+        assertArrayEquals(expected.names, actual.names);
+        assertArrayEquals(expected.positions, actual.positions);
+        assertEquals(expected.currentSeat, actual.currentSeat);
+        assertEquals(expected.turns, actual.turns);
+        assertEquals(expected.winner, actual.winner);
+        assertArrayEquals(expected.pendingRolls, actual.pendingRolls);
+        assertEquals(expected.seed, actual.seed);
+    }
+
+    @Test
+    void bytesRoundTrip() {
+        GameSnapshot snapshot = new GameSnapshot(7, BOARD, new String[] {"Ann", "Bø", "Çem"}, new int[] {0, 42, 99},
+                1, 37, 2, new int[] {6, 6}, OptionalLong.of(-5L));
+        assertSameGame(snapshot, GameSnapshot.fromBytes(snapshot.toBytes()));
+        GameSnapshot unnamed = new GameSnapshot(8, BOARD, new String[0], new int[] {3, 4}, 0, 2, -1, new int[0]);
+        assertSameGame(unnamed, GameSnapshot.fromBytes(unnamed.toBytes()));
+    }
+
+    @Test
+    void fileRoundTripSharesBoards(@TempDir Path dir) throws IOException {
+        Board other = new BoardFactory(new HardStrategy(22L)).create(12, 22L);
+        GameSnapshot[] snapshots = new GameSnapshot[50];
+        for (int i = 0; i < snapshots.length; i++) {
+            Board board = i % 3 == 0 ? other : BOARD;
+            snapshots[i] = new GameSnapshot(i, board, new String[0], new int[] {i, i + 1}, i % 2, i, -1,
+                    new int[i % 3]);
+        }
+        Path file = dir.resolve("sessions.slsn");
+        try (SnapshotWriter writer = new SnapshotWriter(file)) {
+            for (GameSnapshot s : snapshots) writer.write(s);
+        }
+        List<GameSnapshot> read;
+        try (SnapshotReader reader = new SnapshotReader(file)) {
+            read = reader.readAll();
+        }
+        assertEquals(snapshots.length, read.size());
+        for (int i = 0; i < snapshots.length; i++) {
+            assertSameGame(snapshots[i], read.get(i));
+        }
+        assertSame(read.get(1).board, read.get(2).board);
+        assertSame(read.get(0).board, read.get(3).board);
+    }
+
+    @Test
+    void restoredSessionContinuesLikeTheOriginal() {
+        int[] script = new int[10_000];
+        new StandardDie(6, 23L).rollInto(script, 0, script.length);
+        GameSession original = new GameSession(1, BOARD, 3, new ScriptedDie(script));
+        int played = 0;
+        for (; played < 57 && !original.isFinished(); played++) original.roll(original.getCurrentSeat());
+        GameSnapshot saved = GameSnapshot.fromBytes(original.snapshot().toBytes());
+
+        int[] rest = Arrays.copyOfRange(script, played, script.length);
+        GameSession restored = GameSession.restore(saved, new ScriptedDie(rest));
+        while (!original.isFinished()) {
+            assertEquals(original.roll(original.getCurrentSeat()).toString(),
+                    restored.roll(restored.getCurrentSeat()).toString());
+        }
+        assertTrue(restored.isFinished());
+        assertEquals(original.getWinner(), restored.getWinner());
+        assertEquals(original.getTurns(), restored.getTurns());
+    }
+
+    @Test
+    void rejectsShortOrForeignFiles(@TempDir Path dir) throws IOException {
+        Path empty = Files.write(dir.resolve("empty.slsn"), new byte[0]);
+        Path foreign = Files.write(dir.resolve("foreign.slsn"), "not a snapshot".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IOException.class, () -> new SnapshotReader(empty));
+        assertThrows(IOException.class, () -> new SnapshotReader(foreign));
+        // The reader closed its channel on the way out, so the files can be deleted (and on Windows, must be)
+        Files.delete(empty);
+        Files.delete(foreign);
+
+        Path file = dir.resolve("truncated.slsn");
+        try (SnapshotWriter writer = new SnapshotWriter(file)) {
+            writer.write(new GameSnapshot(1, BOARD, new String[0], new int[] {5, 9}, 0, 3, -1, new int[0]));
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+        try (SnapshotReader reader = new SnapshotReader(file)) {
+            assertThrows(EOFException.class, reader::next);
+        }
+    }
+}
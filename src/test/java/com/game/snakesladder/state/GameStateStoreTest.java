@@ -0,0 +1,73 @@
+package com.game.snakesladder.state;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameStateStoreTest {
+    @Test
+    void occupancyIndexMatchesScanOverPlayers() {
+        int games = 7;
+        int players = 4;
+        int lastIndex = 15;
+        GameStateStore store = new GameStateStore(games, players, lastIndex);
+        int[][] positions = new int[games][players]; // plain model: scan every other seat for a kill
+        SplittableRandom random = new SplittableRandom(8L);
+        for (int step = 0; step < 50_000; step++) {
+            int game = random.nextInt(games);
+            int seat = random.nextInt(players);
+            int cell = random.nextInt(lastIndex + 1);
+            int expectedVictim = -1;
+            if (cell != 0 && positions[game][seat] != cell) {
+                for (int other = 0; other < players; other++) {
+                    if (other != seat && positions[game][other] == cell) expectedVictim = other;
+                }
+            }
+            positions[game][seat] = cell;
+            if (expectedVictim >= 0) positions[game][expectedVictim] = 0;
+
+            assertEquals(expectedVictim, store.moveTo(game, seat, cell), "step " + step);
+            for (int s = 0; s < players; s++) {
+                assertEquals(positions[game][s], store.getPosition(game, s));
+            }
+            for (int c = 0; c <= lastIndex; c++) {
+                int occupant = -1;
+                for (int s = 0; s < players; s++) {
+                    if (c != 0 && positions[game][s] == c) occupant = s;
+                }
+                assertEquals(occupant, store.occupantOf(game, c), "game " + game + " cell " + c);
+            }
+        }
+    }
+
+    @Test
+    void resetClearsOneGameOnly() {
+        GameStateStore store = new GameStateStore(2, 2, 20);
+        store.moveTo(0, 0, 5);
+        store.moveTo(1, 1, 5);
+        store.incrementTurns(0);
+        store.advanceSeat(0);
+        store.markWon(0, 1);
+        store.reset(0);
+        assertEquals(0, store.getPosition(0, 0));
+        assertEquals(-1, store.occupantOf(0, 5));
+        assertEquals(0, store.getTurns(0));
+        assertEquals(0, store.getCurrentSeat(0));
+        assertFalse(store.isFinished(0));
+        assertEquals(1, store.occupantOf(1, 5));
+        assertEquals(-1, store.moveTo(0, 0, 0)); // start holds any number of tokens
+        assertTrue(store.moveTo(0, 1, 5) < 0);
+    }
+
+    @Test
+    void rejectsBadDimensions() {
+        assertThrows(IllegalArgumentException.class, () -> new GameStateStore(0, 2, 10));
+        assertThrows(IllegalArgumentException.class, () -> new GameStateStore(1, 1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new GameStateStore(1, GameStateStore.MAX_PLAYERS + 1, 10));
+    }
+}
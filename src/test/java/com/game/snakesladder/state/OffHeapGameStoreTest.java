@@ -0,0 +1,91 @@
+package com.game.snakesladder.state;
+
+import com.game.snakesladder.dice.ScriptedDie;
+import com.game.snakesladder.dice.StandardDie;
+import com.game.snakesladder.difficulty.HardStrategy;
+import com.game.snakesladder.factory.BoardFactory;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.server.GameSession;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OffHeapGameStoreTest {
+    private static final Board BOARD = new BoardFactory(new HardStrategy(8L)).create(10, 8L);
+
+    @Test
+    void releasedSlotsAreReusedMostRecentFirst() {
+        OffHeapGameStore store = new OffHeapGameStore(4);
+        int board = store.registerBoard(BOARD);
+        int a = store.create(board, 2);
+        int b = store.create(board, 3);
+        int c = store.create(board, 4);
+        for (int i = 0; i < 7; i++) store.roll(b, 1 + i % 5); // leave b mid-game
+        store.release(b);
+        store.release(a);
+        assertEquals(1, store.getLiveGames());
+        assertThrows(IllegalArgumentException.class, () -> store.getTurns(a));
+        assertThrows(IllegalArgumentException.class, () -> store.roll(b, 3));
+        assertThrows(IllegalArgumentException.class, () -> store.release(b));
+
+        assertEquals(a, store.create(board, 4));
+        int reused = store.create(board, 2);
+        assertEquals(b, reused);
+        // Nothing of the old game survives in the recycled slot
+        assertEquals(2, store.getPlayerCount(reused));
+        assertEquals(0, store.getTurns(reused));
+        assertEquals(0, store.getCurrentSeat(reused));
+        assertEquals(0, store.getSixStreak(reused));
+        assertEquals(0, store.getPosition(reused, 0));
+        assertEquals(0, store.getPosition(reused, 1));
+        assertFalse(store.isFinished(reused));
+        assertEquals(c + 1, store.create(board, 2)); // free list empty: a fresh slot
+        assertEquals(4, store.getLiveGames());
+    }
+
+    @Test
+    void recyclingDoesNotGrowTheSlabs() {
+        OffHeapGameStore store = new OffHeapGameStore(2);
+        int board = store.registerBoard(BOARD);
+        int[] games = new int[OffHeapGameStore.SLOTS_PER_SLAB];
+        for (int i = 0; i < games.length; i++) games[i] = store.create(board, 2);
+        long bytes = store.getOffHeapBytes();
+        for (int round = 0; round < 3; round++) {
+            for (int game : games) store.release(game);
+            for (int i = 0; i < games.length; i++) games[i] = store.create(board, 2);
+        }
+        assertEquals(bytes, store.getOffHeapBytes());
+
+        int next = store.create(board, 2); // first slot of a second slab
+        assertEquals(OffHeapGameStore.SLOTS_PER_SLAB, next);
+        assertEquals(2 * bytes, store.getOffHeapBytes());
+        store.roll(next, 4);
+        assertEquals(1, store.getCurrentSeat(next));
+    }
+
+    @Test
+    void rollsPlayLikeGameSession() {
+        OffHeapGameStore store = new OffHeapGameStore(4);
+        int board = store.registerBoard(BOARD);
+        for (long seed = 0; seed < 20; seed++) {
+            int[] script = new int[20_000];
+            new StandardDie(6, seed).rollInto(script, 0, script.length);
+            int players = 2 + (int) (seed % 3);
+            GameSession session = new GameSession(seed, BOARD, players, new ScriptedDie(script));
+            int game = store.create(board, players);
+            for (int i = 0; !session.isFinished(); i++) {
+                session.roll(session.getCurrentSeat());
+                store.roll(game, script[i]);
+                for (int seat = 0; seat < players; seat++) {
+                    assertEquals(session.getPosition(seat), store.getPosition(game, seat), "seed " + seed + " roll " + i);
+                }
+                assertEquals(session.getCurrentSeat(), store.getCurrentSeat(game));
+            }
+            assertEquals(session.getWinner(), store.getWinner(game));
+            assertEquals(session.getTurns(), store.getTurns(game));
+            store.release(game);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.game.snakesladder.store;
+
+import com.game.snakesladder.difficulty.Difficulty;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResultStoreTest {
+    // Past the first column chunk, and not a whole number of query segments
+    private static final long ROWS = MappedColumn.ROWS_PER_CHUNK + 300_001L;
+    private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+
+    private static int boardSize(long row) {
+        return 10 + (int) (row % 3) * 10;
+    }
+
+    private static Difficulty difficulty(long row) {
+        return DIFFICULTIES[(int) (row / 7 % DIFFICULTIES.length)];
+    }
+
+    private static int players(long row) {
+        return 2 + (int) (row / 5 % 3);
+    }
+
+    private static int winner(long row) {
+        return (int) (row / 11 % players(row));
+    }
+
+    private static int turns(long row) {
+        return 1 + (int) (row * 31 % 5000); // some rows land in the turns overflow bucket
+    }
+
+    private static int kills(long row) {
+        return (int) (row % 4);
+    }
+
+    @Test
+    void queriesSpanChunkBoundaries(@TempDir Path dir) throws IOException {
+        try (ResultStore store = ResultStore.open(dir)) {
+            for (long row = 0; row < ROWS; row++) {
+                store.append(boardSize(row), difficulty(row), players(row), winner(row), turns(row), kills(row));
+            }
+        }
+
+        // Reopened, so the row count and both chunks come back from the files
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try (ResultStore store = ResultStore.open(dir)) {
+            assertEquals(ROWS, store.size());
+
+            long games = 0;
+            long seat1Wins = 0;
+            long totalTurns = 0;
+            long totalKills = 0;
+            int minTurns = Integer.MAX_VALUE;
+            int maxTurns = 0;
+            long groupGames = 0;
+            for (long row = 0; row < ROWS; row++) {
+                if (boardSize(row) != 20 || players(row) != 3) continue;
+                games++;
+                if (winner(row) == 1) seat1Wins++;
+                totalTurns += turns(row);
+                totalKills += kills(row);
+                minTurns = Math.min(minTurns, turns(row));
+                maxTurns = Math.max(maxTurns, turns(row));
+                if (difficulty(row) == Difficulty.HARD) groupGames++;
+            }
+
+            QueryResult result = store.query().boardSize(20).players(3).pool(pool).run();
+            assertEquals(games, result.getGames());
+            assertEquals(seat1Wins, result.getWins(1));
+            assertEquals((double) totalTurns / games, result.getMeanTurns(), 1e-9);
+            assertEquals(totalKills, result.getTotalKills());
+            assertEquals(maxTurns, result.getMaxTurns());
+            assertEquals(minTurns, result.getMinTurns());
+
+            assertEquals(ROWS, store.query().pool(pool).run().getGames());
+
+            Map<GroupKey, QueryResult> groups = store.query().boardSize(20).players(3).pool(pool).runGrouped();
+            assertEquals(DIFFICULTIES.length, groups.size());
+            long grouped = 0;
+            for (Map.Entry<GroupKey, QueryResult> e : groups.entrySet()) {
+                assertEquals(20, e.getKey().getBoardSize());
+                assertEquals(3, e.getKey().getPlayers());
+                grouped += e.getValue().getGames();
+            }
+            assertEquals(games, grouped);
+            assertEquals(groupGames, groups.get(new GroupKey(20, Difficulty.HARD, 3)).getGames());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void appendRejectsBadRows(@TempDir Path dir) throws IOException {
+        try (ResultStore store = ResultStore.open(dir)) {
+            assertThrows(IllegalArgumentException.class, () -> store.append(1, Difficulty.EASY, 2, 0, 10, 0));
+            assertThrows(IllegalArgumentException.class, () -> store.append(10, Difficulty.EASY, 2, 2, 10, 0));
+            assertEquals(0, store.size());
+            assertEquals(0, store.query().run().getGames());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.game.snakesladder.variant;
+
+import com.game.snakesladder.dice.StandardDie;
+import com.game.snakesladder.difficulty.MediumStrategy;
+import com.game.snakesladder.factory.BoardFactory;
+import com.game.snakesladder.model.Board;
+import com.game.snakesladder.model.Snake;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExpectimaxPlayerTest {
+    @Test
+    void rejectsBoardsThatCanTrapAToken() {
+        // Six snake heads in a row: no roll gets a token past 26
+        List<Snake> snakes = new ArrayList<>();
+        for (int head = 21; head <= 26; head++) snakes.add(new Snake(head, 5));
+        Board trap = new Board(10, snakes, List.of());
+        assertThrows(IllegalArgumentException.class, () -> new ExpectimaxPlayer(trap, 0, 2, 2, 1_000_000L));
+    }
+
+    @Test
+    void botsPlayLegalMovesToTheEnd() {
+        Board board = new BoardFactory(new MediumStrategy(12L)).create(8, 12L);
+        MultiTokenGame game = new MultiTokenGame(board, 2, 2);
+        ExpectimaxPlayer[] bots = {
+                new ExpectimaxPlayer(board, 0, 2, 2, 2_000_000L), new ExpectimaxPlayer(board, 1, 2, 2, 2_000_000L)};
+        StandardDie die = new StandardDie(6, 12L);
+        int[] rolls = new int[3];
+        boolean searched = false;
+        while (!game.isFinished()) {
+            assertTrue(game.getTurns() < 10_000, "game did not finish");
+            int count = 0;
+            do {
+                rolls[count++] = die.roll();
+            } while (rolls[count - 1] == 6 && count < 3);
+            ExpectimaxPlayer bot = bots[game.getCurrentSeat()];
+            int token = bot.chooseToken(game, rolls, count);
+            assertTrue(game.canMove(token), "token " + token);
+            searched |= bot.getLastDepth() > 0;
+            game.playTurn(token, rolls, count);
+        }
+        assertTrue(searched, "every move was forced");
+    }
+}
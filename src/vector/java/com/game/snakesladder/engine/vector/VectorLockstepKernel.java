@@ -0,0 +1,60 @@
+package com.game.snakesladder.engine.vector;
+
+import com.game.snakesladder.engine.LockstepKernel;
+import com.game.snakesladder.model.Board;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// LockstepKernel on jdk.incubator.vector, eight lanes per IntVector. Pinned to 256 bits: on JDK 17.0.9 the
+// int[]-indexed gather at 512 bits (AVX-512) crashes C2-compiled callers, while 256 bits is stable on both.
+// Only built with -Pvector and only usable when the JVM runs with --add-modules jdk.incubator.vector;
+// LockstepKernel.best falls back to the scalar kernel otherwise. Must agree lane for lane with
+// ScalarLockstepKernel.
+public final class VectorLockstepKernel implements LockstepKernel {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_256;
+
+    private final int[] jumps;
+    private final int last;
+    private final int[] targets = new int[SPECIES.length()]; // gather index map; Java 17 takes it as an int[]
+
+    public VectorLockstepKernel(Board board) {
+        this.jumps = LockstepKernel.paddedJumps(board, 6);
+        this.last = board.getLastIndex();
+    }
+
+    @Override
+    public int width() {
+        return SPECIES.length();
+    }
+
+    @Override
+    public void step(int[] roll, int[] cur, int[] streak, int[] turnStart, int[] flags, int lanes) {
+        IntVector zero = IntVector.zero(SPECIES);
+        for (int i = 0; i < lanes; i += SPECIES.length()) {
+            IntVector r = IntVector.fromArray(SPECIES, roll, i);
+            IntVector c = IntVector.fromArray(SPECIES, cur, i);
+            IntVector rolls = IntVector.fromArray(SPECIES, streak, i).add(1);
+            VectorMask<Integer> six = r.eq(6);
+            VectorMask<Integer> revoked = six.and(rolls.eq(3));
+
+            // Gather from the padded jump table: -1 marks an overshoot, which keeps the token where it is
+            c.add(r).intoArray(targets, 0);
+            IntVector target = IntVector.fromArray(SPECIES, jumps, 0, targets, 0);
+            IntVector next = target.blend(c, target.lt(0))
+                    .blend(IntVector.fromArray(SPECIES, turnStart, i), revoked);
+            VectorMask<Integer> won = next.eq(last).andNot(revoked);
+            VectorMask<Integer> ended = six.not().or(revoked).or(won);
+
+            next.intoArray(cur, i);
+            rolls.blend(0, ended).intoArray(streak, i);
+            rolls.lanewise(VectorOperators.LSHL, ROLLS_SHIFT)
+                    .or(TURN_ENDED)
+                    .or(zero.blend(REVOKED, revoked))
+                    .or(zero.blend(WON, won))
+                    .blend(0, ended.not())
+                    .intoArray(flags, i);
+        }
+    }
+}